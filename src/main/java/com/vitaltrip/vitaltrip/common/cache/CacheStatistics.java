@@ -0,0 +1,15 @@
+package com.vitaltrip.vitaltrip.common.cache;
+
+public record CacheStatistics(
+    String cache,
+    int size,
+    long weight,
+    long maxWeight,
+    long hits,
+    long misses,
+    long evictions,
+    long expirations,
+    double hitRate
+) {
+
+}
@@ -0,0 +1,100 @@
+package com.vitaltrip.vitaltrip.common.cache;
+
+import java.util.Arrays;
+
+/**
+ * 문자 shingle 집합의 MinHash 서명을 만든다.
+ * 두 서명에서 같은 위치의 값이 일치하는 비율은 원래 shingle 집합의 Jaccard 유사도의 추정값이다.
+ */
+public final class MinHasher {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shingleLength;
+    private final long[] seeds;
+
+    public MinHasher(int numHashes, int shingleLength) {
+        this.shingleLength = shingleLength;
+        this.seeds = new long[numHashes];
+
+        // 재시작해도 같은 서명이 나오도록 고정된 시드를 사용한다
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < numHashes; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix64(seed);
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    /**
+     * text 는 이미 정규화(소문자, 공백 축약)된 문자열이어야 한다. 글자/숫자/공백 외의 문자는 무시한다.
+     */
+    public int[] signature(String text) {
+        String cleaned = clean(text);
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingleCount = Math.max(1, cleaned.length() - shingleLength + 1);
+        for (int start = 0; start < shingleCount; start++) {
+            long shingle = hash64(cleaned, start, Math.min(cleaned.length(), start + shingleLength));
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = (int) mix64(shingle ^ seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] first, int[] second) {
+        int matches = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / first.length;
+    }
+
+    public static long hash64(CharSequence text, int start, int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    public static long mix64(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String clean(String text) {
+        StringBuilder cleaned = new StringBuilder(text.length());
+        boolean previousSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                cleaned.append(c);
+                previousSpace = false;
+            } else if (Character.isWhitespace(c) && !previousSpace) {
+                cleaned.append(' ');
+                previousSpace = true;
+            }
+        }
+        int length = cleaned.length();
+        if (length > 0 && cleaned.charAt(length - 1) == ' ') {
+            cleaned.setLength(length - 1);
+        }
+        return cleaned.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package com.vitaltrip.vitaltrip.common.cache;
+
+/**
+ * 관리자 API 에서 통계를 조회할 수 있는 캐시.
+ */
+public interface MonitoredCache {
+
+    CacheStatistics statistics();
+}
@@ -0,0 +1,188 @@
+package com.vitaltrip.vitaltrip.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 항목마다 가중치를 매겨 전체 가중치 합을 maxWeight 이하로 유지하는 LRU 캐시.
+ * 저장 후 ttl 이 지난 항목은 조회되지 않으며, 가중치가 넘치면 가장 오래 조회되지 않은 항목부터 제거한다.
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class WeightedTtlCache<K, V> implements MonitoredCache {
+
+    private final String name;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToIntBiFunction<K, V> weigher;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public WeightedTtlCache(String name, long maxWeight, Duration ttl,
+        ToIntBiFunction<K, V> weigher) {
+        this(name, maxWeight, ttl, weigher, System::nanoTime);
+    }
+
+    WeightedTtlCache(String name, long maxWeight, Duration ttl, ToIntBiFunction<K, V> weigher,
+        LongSupplier nanoClock) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+        this.nanoClock = nanoClock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (entry.isExpired(nanoClock.getAsLong())) {
+                remove(key, entry);
+                expirations.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.value());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목 하나의 가중치가 maxWeight 를 넘으면 저장하지 않는다.
+     */
+    public void put(K key, V value) {
+        int entryWeight = weigher.applyAsInt(key, value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight, now + ttlNanos));
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += entryWeight;
+            evictOverweight(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                remove(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        int size;
+        long currentWeight;
+        lock.lock();
+        try {
+            size = entries.size();
+            currentWeight = weight;
+        } finally {
+            lock.unlock();
+        }
+
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new CacheStatistics(name, size, currentWeight, maxWeight, hitCount, missCount,
+            evictions.sum(), expirations.sum(), requests == 0 ? 0 : (double) hitCount / requests);
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.size", this, cache -> cache.statistics().size())
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("cache.weight", this, cache -> cache.statistics().weight())
+            .tag("cache", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags("cache", name, "result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags("cache", name, "result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tags("cache", name, "cause", "size")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", expirations, LongAdder::sum)
+            .tags("cache", name, "cause", "expired")
+            .register(meterRegistry);
+    }
+
+    // 조회 순서의 머리부터 제거한다. 만료된 항목은 조회되지 않으므로 대부분 머리 쪽에 모인다
+    private void evictOverweight(long now) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            weight -= eldest.weight();
+            if (eldest.isExpired(now)) {
+                expirations.increment();
+            } else {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        entries.remove(key);
+        weight -= entry.weight();
+    }
+
+    private record Entry<V>(V value, int weight, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
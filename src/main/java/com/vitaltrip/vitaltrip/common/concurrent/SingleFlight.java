@@ -0,0 +1,59 @@
+package com.vitaltrip.vitaltrip.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 호출이 진행 중이면 새 호출을 시작하지 않고 진행 중인 호출의 결과를 함께 받는다.
+ * 호출이 끝나면 키를 비우므로 이후 요청은 다시 새 호출을 시작한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 돌려주는 future 는 호출자마다 별도의 사본이므로 orTimeout 등으로 바꿔도 다른 호출자에게 영향이 없다.
+     * call 이 즉시 예외를 던지면 호출자에게 그대로 던지고, 그사이 합류한 호출자에게도 같은 예외로 완료한다.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+
+        result.whenComplete((value, error) -> {
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(
+                    error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.copy();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,157 @@
+package com.vitaltrip.vitaltrip.common.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 획득 시간과 Statement 실행 시간을 SqlExecutionListener(운영에서는 SqlStatementProfiler)에 기록하는
+ * DataSource 프록시.
+ * <p>
+ * JDK 동적 프록시로 Connection/Statement 를 감싸므로 풀 구현(Hikari)과 JDBC 드라이버를 바꾸지 않는다.
+ * 스트리밍 조회는 execute 가 반환된 시점까지만, 즉 첫 결과를 받기까지의 시간만 실행 시간으로 잡힌다.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private final SqlExecutionListener profiler;
+
+    public ProfilingDataSource(DataSource targetDataSource, SqlExecutionListener profiler) {
+        super(targetDataSource);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        profiler.recordConnectionAcquire(System.nanoTime() - start);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        profiler.recordConnectionAcquire(System.nanoTime() - start);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+            new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingDataSource.invoke(target, method, args);
+
+            // createStatement / prepareStatement / prepareCall 의 반환 타입 그대로 감싼다
+            if (result instanceof Statement statement
+                && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s
+                    ? s : null;
+                return proxy(method.getReturnType().asSubclass(Statement.class),
+                    new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Map<Integer, String> parameterTypes = new TreeMap<>();
+        private String sql;
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+
+            if (name.startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer index) {
+                parameterTypes.put(index, describeParameter(name, args[1]));
+            } else if (name.equals("clearParameters")) {
+                parameterTypes.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+                if (args != null && args.length == 1 && args[0] instanceof String batchSql) {
+                    sql = batchSql;
+                }
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            }
+
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String s
+                ? s : sql;
+            String parameterShape = parameterShape();
+            boolean batch = method.getName().contains("Batch");
+
+            long start = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(target, method, args);
+            } finally {
+                profiler.recordExecution(executedSql, System.nanoTime() - start,
+                    batch ? parameterShape + " x" + batchSize : parameterShape);
+                if (batch) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private String parameterShape() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            parameterTypes.forEach((index, type) -> joiner.add(index + ":" + type));
+            return joiner.toString();
+        }
+
+        // 값 자체는 남기지 않고 타입과 문자열 길이만 기록한다
+        private String describeParameter(String setter, Object value) {
+            if (setter.equals("setNull") || value == null) {
+                return "null";
+            }
+            if (value instanceof CharSequence text) {
+                return "String(" + text.length() + ")";
+            }
+            return value.getClass().getSimpleName();
+        }
+    }
+}
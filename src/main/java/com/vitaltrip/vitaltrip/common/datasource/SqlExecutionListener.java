@@ -0,0 +1,15 @@
+package com.vitaltrip.vitaltrip.common.datasource;
+
+/**
+ * ProfilingDataSource 가 커넥션 획득과 Statement 실행을 알리는 대상.
+ * Hibernate 와 JdbcTemplate 이 실행한 SQL 이 모두 이 경로를 지난다.
+ */
+public interface SqlExecutionListener {
+
+    void recordConnectionAcquire(long nanos);
+
+    /**
+     * @param parameterShape 바인딩 값 대신 파라미터 위치별 타입/길이. 배치는 끝에 " xN" 이 붙는다
+     */
+    void recordExecution(String sql, long nanos, String parameterShape);
+}
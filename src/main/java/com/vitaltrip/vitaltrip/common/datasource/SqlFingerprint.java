@@ -0,0 +1,32 @@
+package com.vitaltrip.vitaltrip.common.datasource;
+
+import java.util.regex.Pattern;
+
+/**
+ * 리터럴과 IN 목록 길이만 다른 SQL 을 같은 문장으로 묶기 위한 정규화.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public static String idOf(String normalizedSql) {
+        return "%08x".formatted(normalizedSql.hashCode());
+    }
+}
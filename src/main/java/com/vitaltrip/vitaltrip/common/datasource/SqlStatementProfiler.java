@@ -0,0 +1,155 @@
+package com.vitaltrip.vitaltrip.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션 풀 대기 시간과 SQL 실행 시간을 분리해 기록한다.
+ * <p>
+ * 실행 시간은 SQL 지문별 Timer(db.statement.execution, 히스토그램 포함)로 쌓고,
+ * 지문 수가 상한을 넘으면 이후 문장은 하나의 "other" 지문으로 합쳐 태그 수를 제한한다.
+ * 전체 합계는 별도 이름(db.statement.execution.total)으로 둔다. 같은 이름에 두면 지문 태그로 합산할 때 두 번 더해진다.
+ * 느린 쿼리 로그에는 바인딩 값 대신 파라미터 타입/길이만 남긴다.
+ */
+@Slf4j
+public class SqlStatementProfiler implements SqlExecutionListener {
+
+    static final String OVERFLOW_FINGERPRINT = "other";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final int maxFingerprints;
+
+    private final Timer connectionAcquireTimer;
+    private final Timer executionTimer;
+    private final ConcurrentHashMap<String, StatementTimer> statementTimers =
+        new ConcurrentHashMap<>();
+
+    public SqlStatementProfiler(MeterRegistry meterRegistry, Duration slowQueryThreshold,
+        int maxFingerprints) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.connectionAcquireTimer = timer("db.connection.acquire").register(meterRegistry);
+        this.executionTimer = timer("db.statement.execution.total").register(meterRegistry);
+    }
+
+    @Override
+    public void recordConnectionAcquire(long nanos) {
+        connectionAcquireTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordExecution(String sql, long nanos, String parameterShape) {
+        String normalized = SqlFingerprint.normalize(sql);
+        StatementTimer statementTimer = statementTimerFor(normalized);
+
+        statementTimer.timer().record(nanos, TimeUnit.NANOSECONDS);
+        executionTimer.record(nanos, TimeUnit.NANOSECONDS);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            log.warn("Slow query {}ms [{}] {} params: {}",
+                TimeUnit.NANOSECONDS.toMillis(nanos), statementTimer.fingerprint(), normalized,
+                parameterShape);
+        }
+    }
+
+    public Timing connectionAcquireTiming() {
+        return Timing.of(connectionAcquireTimer);
+    }
+
+    public Timing executionTiming() {
+        return Timing.of(executionTimer);
+    }
+
+    // 누적 실행 시간이 큰 순서
+    public List<StatementTiming> statementTimings(int limit) {
+        return statementTimers.values().stream()
+            .map(statementTimer -> new StatementTiming(statementTimer.fingerprint(),
+                statementTimer.sql(), Timing.of(statementTimer.timer())))
+            .sorted(Comparator.comparingDouble(
+                (StatementTiming statementTiming) -> statementTiming.timing().totalMillis())
+                .reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private StatementTimer statementTimerFor(String normalized) {
+        StatementTimer existing = statementTimers.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (statementTimers.size() >= maxFingerprints) {
+            return statementTimers.computeIfAbsent(OVERFLOW_FINGERPRINT,
+                key -> newStatementTimer(OVERFLOW_FINGERPRINT, "<fingerprint limit exceeded>"));
+        }
+
+        return statementTimers.computeIfAbsent(normalized,
+            key -> newStatementTimer(SqlFingerprint.idOf(key), key));
+    }
+
+    private StatementTimer newStatementTimer(String fingerprint, String sql) {
+        Timer statementTimer = timer("db.statement.execution")
+            .tag("fingerprint", fingerprint)
+            .register(meterRegistry);
+        return new StatementTimer(fingerprint, sql, statementTimer);
+    }
+
+    private static Timer.Builder timer(String name) {
+        return Timer.builder(name)
+            .publishPercentiles(PERCENTILES)
+            .publishPercentileHistogram();
+    }
+
+    private record StatementTimer(String fingerprint, String sql, Timer timer) {
+
+    }
+
+    public record StatementTiming(String fingerprint, String sql, Timing timing) {
+
+    }
+
+    public record Timing(
+        long count,
+        double totalMillis,
+        double meanMillis,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+    ) {
+
+        static Timing of(Timer timer) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            return new Timing(
+                snapshot.count(),
+                snapshot.total(TimeUnit.MILLISECONDS),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.5),
+                percentile(snapshot, 0.95),
+                percentile(snapshot, 0.99),
+                snapshot.max(TimeUnit.MILLISECONDS)
+            );
+        }
+
+        private static double percentile(HistogramSnapshot snapshot, double percentile) {
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -17,6 +17,11 @@ public class CustomException extends RuntimeException {
         this.errorType = errorType;
     }
 
+    public CustomException(ErrorType errorType, String message, Throwable cause) {
+        super(message, cause);
+        this.errorType = errorType;
+    }
+
     public CustomException(ErrorType errorType, Throwable cause) {
         super(errorType.getMessage(), cause);
         this.errorType = errorType;
@@ -27,10 +27,26 @@ public enum ErrorType {
     // 409 Conflict
     DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "DUPLICATE_RESOURCE", "이미 존재하는 리소스입니다."),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "DUPLICATE_EMAIL", "이미 사용 중인 이메일입니다."),
+    ACCOUNT_PENDING_DELETION(HttpStatus.CONFLICT, "ACCOUNT_PENDING_DELETION",
+        "탈퇴 처리 중인 계정의 이메일입니다. 잠시 후 다시 시도해 주세요."),
+
+    // 429 Too Many Requests
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    TOKEN_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "TOKEN_QUOTA_EXCEEDED",
+        "오늘 사용할 수 있는 AI 사용량을 모두 사용했습니다."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR",
-        "서버 내부 오류가 발생했습니다.");
+        "서버 내부 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE",
+        "요청이 많아 잠시 처리할 수 없습니다."),
+    CONCURRENCY_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "CONCURRENCY_LIMITED",
+        "동시에 처리할 수 있는 요청이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 504 Gateway Timeout
+    GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "GATEWAY_TIMEOUT", "외부 서비스 응답 시간이 초과되었습니다.");
 
     private final HttpStatus status;
     private final String code;
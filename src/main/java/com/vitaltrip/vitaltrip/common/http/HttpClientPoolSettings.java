@@ -0,0 +1,26 @@
+package com.vitaltrip.vitaltrip.common.http;
+
+import java.time.Duration;
+
+/**
+ * @param maxTotal        풀 전체 최대 커넥션 수
+ * @param maxPerRoute     호스트(route)별 최대 커넥션 수
+ * @param connectTimeout  TCP/TLS 연결 제한 시간
+ * @param poolWaitTimeout 풀에서 커넥션을 빌리기까지 기다리는 최대 시간
+ * @param readTimeout     응답 바이트 사이의 최대 대기 시간
+ * @param totalTimeout    요청 시작부터 응답 본문을 다 읽기까지의 최대 시간
+ * @param maxIdleTime     이 시간 동안 쓰이지 않은 커넥션은 백그라운드에서 닫는다
+ * @param timeToLive      커넥션 최대 수명
+ */
+public record HttpClientPoolSettings(
+    int maxTotal,
+    int maxPerRoute,
+    Duration connectTimeout,
+    Duration poolWaitTimeout,
+    Duration readTimeout,
+    Duration totalTimeout,
+    Duration maxIdleTime,
+    Duration timeToLive
+) {
+
+}
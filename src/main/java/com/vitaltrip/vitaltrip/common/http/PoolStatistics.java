@@ -0,0 +1,11 @@
+package com.vitaltrip.vitaltrip.common.http;
+
+public record PoolStatistics(
+    String client,
+    int leased,
+    int pending,
+    int available,
+    int max
+) {
+
+}
@@ -0,0 +1,241 @@
+package com.vitaltrip.vitaltrip.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.Getter;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Apache HttpClient 5 커넥션 풀 기반 RestClient 요청 팩토리.
+ * <p>
+ * 연결/풀 대기/읽기 제한 시간은 HttpClient 설정으로, 전체 제한 시간은 totalDeadlineInterceptor 가 요청을 중단하는
+ * 방식으로 적용한다. 읽기 제한 시간은 바이트 사이의 간격만 보므로 조금씩 흘러나오는 느린 응답은 전체 제한 시간이 막는다.
+ * gzip/deflate 응답은 HttpClient 가 Accept-Encoding 을 붙이고 자동으로 풀어준다.
+ */
+public class PooledClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final ThreadLocal<RequestCancellation> CURRENT_DEADLINE = new ThreadLocal<>();
+    private static final ThreadLocal<RequestCancellation> CURRENT_CANCELLATION =
+        new ThreadLocal<>();
+
+    @Getter
+    private final String name;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Duration totalTimeout;
+    private final ScheduledExecutorService deadlineScheduler;
+
+    public PooledClientHttpRequestFactory(String name, HttpClientPoolSettings settings) {
+        this(name, settings, createConnectionManager(settings));
+    }
+
+    private PooledClientHttpRequestFactory(String name, HttpClientPoolSettings settings,
+        PoolingHttpClientConnectionManager connectionManager) {
+        super(HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(settings.poolWaitTimeout()))
+                .setResponseTimeout(timeout(settings.readTimeout()))
+                .build())
+            .evictIdleConnections(TimeValue.ofMilliseconds(settings.maxIdleTime().toMillis()))
+            .evictExpiredConnections()
+            .build());
+        this.name = name;
+        this.connectionManager = connectionManager;
+        this.totalTimeout = settings.totalTimeout();
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+            Thread.ofPlatform().daemon().name(name + "-deadline").factory());
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.deadlineScheduler = Executors.unconfigurableScheduledExecutorService(scheduler);
+    }
+
+    private static PoolingHttpClientConnectionManager createConnectionManager(
+        HttpClientPoolSettings settings) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(settings.maxTotal())
+            .setMaxConnPerRoute(settings.maxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(timeout(settings.connectTimeout()))
+                .setSocketTimeout(timeout(settings.readTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(settings.timeToLive().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        RequestCancellation deadline = CURRENT_DEADLINE.get();
+        if (deadline != null) {
+            deadline.attach(request);
+        }
+        RequestCancellation cancellation = CURRENT_CANCELLATION.get();
+        if (cancellation != null) {
+            cancellation.attach(request);
+        }
+        return request;
+    }
+
+    /**
+     * call 안에서 이 팩토리로 보내는 요청을 cancellation.cancel() 로 중단할 수 있게 한다.
+     */
+    public <T> T executeCancellable(RequestCancellation cancellation, Supplier<T> call) {
+        CURRENT_CANCELLATION.set(cancellation);
+        try {
+            return call.get();
+        } finally {
+            CURRENT_CANCELLATION.remove();
+        }
+    }
+
+    /**
+     * 요청 시작부터 응답 본문을 닫을 때까지 totalTimeout 이 지나면 진행 중인 요청을 중단한다.
+     */
+    public ClientHttpRequestInterceptor totalDeadlineInterceptor() {
+        return (request, body, execution) -> {
+            RequestCancellation deadline = new RequestCancellation();
+            ScheduledFuture<?> timer = deadlineScheduler.schedule(deadline::cancel,
+                totalTimeout.toNanos(), TimeUnit.NANOSECONDS);
+
+            CURRENT_DEADLINE.set(deadline);
+            try {
+                return new DeadlineClientHttpResponse(execution.execute(request, body), timer,
+                    deadline);
+            } catch (IOException e) {
+                timer.cancel(false);
+                throw deadline.isCancelled() ? totalTimeoutException(e) : e;
+            } finally {
+                CURRENT_DEADLINE.remove();
+            }
+        };
+    }
+
+    public PoolStatistics poolStatistics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new PoolStatistics(name, stats.getLeased(), stats.getPending(),
+            stats.getAvailable(), stats.getMax());
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        gauge(meterRegistry, "http.client.pool.leased", PoolStats::getLeased);
+        gauge(meterRegistry, "http.client.pool.pending", PoolStats::getPending);
+        gauge(meterRegistry, "http.client.pool.available", PoolStats::getAvailable);
+        gauge(meterRegistry, "http.client.pool.max", PoolStats::getMax);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String meterName,
+        ToIntFunction<PoolStats> value) {
+        Gauge.builder(meterName, connectionManager,
+                manager -> value.applyAsInt(manager.getTotalStats()))
+            .tag("client", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        deadlineScheduler.shutdownNow();
+        super.destroy();
+    }
+
+    private SocketTimeoutException totalTimeoutException(IOException cause) {
+        SocketTimeoutException exception = new SocketTimeoutException(
+            name + " 요청 전체 제한 시간(" + totalTimeout + ") 초과");
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private class DeadlineClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> timer;
+        private final RequestCancellation deadline;
+
+        DeadlineClientHttpResponse(ClientHttpResponse delegate, ScheduledFuture<?> timer,
+            RequestCancellation deadline) {
+            this.delegate = delegate;
+            this.timer = timer;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            InputStream body = delegate.getBody();
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return body.read();
+                    } catch (IOException e) {
+                        throw deadline.isCancelled() ? totalTimeoutException(e) : e;
+                    }
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    try {
+                        return body.read(buffer, offset, length);
+                    } catch (IOException e) {
+                        throw deadline.isCancelled() ? totalTimeoutException(e) : e;
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    body.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            timer.cancel(false);
+            delegate.close();
+        }
+    }
+}
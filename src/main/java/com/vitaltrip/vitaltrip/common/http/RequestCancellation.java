@@ -0,0 +1,57 @@
+package com.vitaltrip.vitaltrip.common.http;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+
+/**
+ * 다른 스레드에서 진행 중인 HTTP 요청을 중단하기 위한 핸들.
+ * <p>
+ * 응답 스트림을 닫기만 하면 HttpClient 가 남은 본문을 끝까지 읽은 뒤 커넥션을 반납하므로,
+ * 스트리밍 응답을 도중에 멈추려면 요청 자체를 중단해야 한다.
+ * 요청 객체가 만들어지기 전에 cancel 되어도 만들어지는 즉시 중단된다.
+ * <p>
+ * 한 호출에서 요청을 여러 개 보낼 때(헤징 등)는 요청마다 newChild() 로 만든 핸들을 쓰면
+ * 부모를 cancel 할 때 모든 요청이 함께 중단된다.
+ */
+public class RequestCancellation {
+
+    private final AtomicReference<ClassicHttpRequest> request = new AtomicReference<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final List<RequestCancellation> children = new CopyOnWriteArrayList<>();
+
+    public void cancel() {
+        cancelled.set(true);
+        abort(request.get());
+        children.forEach(RequestCancellation::cancel);
+    }
+
+    public RequestCancellation newChild() {
+        RequestCancellation child = new RequestCancellation();
+        children.add(child);
+        if (cancelled.get()) {
+            child.cancel();
+        }
+        return child;
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    void attach(ClassicHttpRequest httpRequest) {
+        request.set(httpRequest);
+        if (cancelled.get()) {
+            abort(httpRequest);
+        }
+    }
+
+    private static void abort(ClassicHttpRequest httpRequest) {
+        if (httpRequest instanceof Cancellable cancellable) {
+            cancellable.cancel();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 외부 API 의 여러 키에 요청을 나눈다. 키마다 최근 1분의 요청 수와 토큰 수를 세고,
+ * 분당 한도 대비 사용률이 가장 낮은 키를 고른다 (같으면 진행 중인 요청이 적은 키).
+ *
+ * <p>429 를 받은 키는 Retry-After 만큼(없으면 quarantine 부터 두 배씩, maxQuarantine 까지) 고르지 않는다.
+ * 모든 키가 쉬고 있으면 가장 먼저 풀리는 키를 쓴다. 키가 하나일 때도 예전처럼 호출하고,
+ * 재시도와 차단 판단은 호출자의 재시도/회로 차단기에 맡긴다.
+ * 호출자는 acquire() 로 받은 Lease 에 결과를 한 번 알려야 한다.
+ */
+@Slf4j
+public class ApiKeyPool {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final String name;
+    private final ApiKeyPoolSettings settings;
+    private final LongSupplier nanoClock;
+    private final List<KeyState> keys;
+
+    // 키 수가 적고 임계 구역이 짧아 풀 전체에 락 하나를 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ApiKeyPool(String name, List<String> apiKeys, ApiKeyPoolSettings settings) {
+        this(name, apiKeys, settings, System::nanoTime);
+    }
+
+    ApiKeyPool(String name, List<String> apiKeys, ApiKeyPoolSettings settings,
+        LongSupplier nanoClock) {
+        List<String> distinctKeys = apiKeys.stream()
+            .map(String::trim)
+            .filter(key -> !key.isEmpty())
+            .distinct()
+            .toList();
+        if (distinctKeys.isEmpty()) {
+            throw new IllegalArgumentException(name + " API 키가 설정되지 않았습니다");
+        }
+
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        List<KeyState> states = new ArrayList<>();
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            states.add(new KeyState(name + "-" + (i + 1), distinctKeys.get(i)));
+        }
+        this.keys = List.copyOf(states);
+    }
+
+    public Lease acquire() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long second = toSecond(now);
+            KeyState selected = null;
+            double selectedLoad = 0;
+            KeyState soonestReleased = null;
+            for (KeyState key : keys) {
+                if (key.quarantinedUntil - now > 0) {
+                    if (soonestReleased == null
+                        || key.quarantinedUntil - soonestReleased.quarantinedUntil < 0) {
+                        soonestReleased = key;
+                    }
+                    continue;
+                }
+                double load = key.load(second);
+                if (selected == null || load < selectedLoad
+                    || (load == selectedLoad && key.inFlight < selected.inFlight)) {
+                    selected = key;
+                    selectedLoad = load;
+                }
+            }
+            if (selected == null) {
+                selected = soonestReleased;
+            }
+
+            selected.inFlight++;
+            selected.totalRequests++;
+            selected.requests.add(second, 1);
+            return new Lease(selected);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<ApiKeyUsage> usage() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long second = toSecond(now);
+            return keys.stream()
+                .map(key -> new ApiKeyUsage(
+                    key.id + " (..." + key.apiKey.substring(Math.max(0, key.apiKey.length() - 4))
+                        + ")",
+                    key.inFlight,
+                    key.requests.sum(second),
+                    key.tokens.sum(second),
+                    key.load(second),
+                    key.totalRequests,
+                    key.totalTokens,
+                    key.rateLimited,
+                    Math.max(0, (long) Math.ceil((key.quarantinedUntil - now) / 1e9))))
+                .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (KeyState key : keys) {
+            Gauge.builder("api_key_pool.in_flight", this, pool -> pool.read(() -> key.inFlight))
+                .tags("name", name, "key", key.id)
+                .register(meterRegistry);
+            Gauge.builder("api_key_pool.load", this,
+                    pool -> pool.read(() -> key.load(toSecond(nanoClock.getAsLong()))))
+                .tags("name", name, "key", key.id)
+                .register(meterRegistry);
+            FunctionCounter.builder("api_key_pool.requests", this,
+                    pool -> pool.read(() -> key.totalRequests))
+                .tags("name", name, "key", key.id)
+                .register(meterRegistry);
+            FunctionCounter.builder("api_key_pool.tokens", this,
+                    pool -> pool.read(() -> key.totalTokens))
+                .tags("name", name, "key", key.id)
+                .register(meterRegistry);
+            FunctionCounter.builder("api_key_pool.rate_limited", this,
+                    pool -> pool.read(() -> key.rateLimited))
+                .tags("name", name, "key", key.id)
+                .register(meterRegistry);
+        }
+        Gauge.builder("api_key_pool.available", this, pool -> pool.read(() -> {
+                long now = nanoClock.getAsLong();
+                return keys.stream().filter(key -> key.quarantinedUntil - now <= 0).count();
+            }))
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    private double read(DoubleSupplier value) {
+        lock.lock();
+        try {
+            return value.getAsDouble();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toSecond(long nanos) {
+        return Math.floorDiv(nanos, 1_000_000_000L);
+    }
+
+    public final class Lease {
+
+        private final KeyState key;
+        private boolean done;
+
+        private Lease(KeyState key) {
+            this.key = key;
+        }
+
+        public String apiKey() {
+            return key.apiKey;
+        }
+
+        /**
+         * 호출이 끝났다. 실패한 호출은 tokens 를 0 으로 알린다.
+         */
+        public void complete(long tokens) {
+            finish(() -> {
+                key.consecutiveRateLimits = 0;
+                key.totalTokens += tokens;
+                key.tokens.add(toSecond(nanoClock.getAsLong()), tokens);
+            });
+        }
+
+        /**
+         * 키가 429 를 받았다. 한동안 이 키를 고르지 않는다.
+         *
+         * @param retryAfter 응답의 Retry-After. 없으면 null
+         */
+        public void rateLimited(Duration retryAfter) {
+            finish(() -> {
+                Duration quarantine = retryAfter != null ? retryAfter : settings.quarantine()
+                    .multipliedBy(1L << Math.min(key.consecutiveRateLimits, 20));
+                if (quarantine.compareTo(settings.maxQuarantine()) > 0) {
+                    quarantine = settings.maxQuarantine();
+                }
+                key.consecutiveRateLimits++;
+                key.rateLimited++;
+                key.quarantinedUntil = nanoClock.getAsLong() + quarantine.toNanos();
+                log.warn("{} 가 429 를 받아 {} 동안 사용하지 않습니다", key.id, quarantine);
+            });
+        }
+
+        private void finish(Runnable update) {
+            lock.lock();
+            try {
+                if (done) {
+                    return;
+                }
+                done = true;
+                key.inFlight--;
+                update.run();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class KeyState {
+
+        private final String id;
+        private final String apiKey;
+        private final SlidingWindow requests = new SlidingWindow();
+        private final SlidingWindow tokens = new SlidingWindow();
+        private int inFlight;
+        private long totalRequests;
+        private long totalTokens;
+        private long rateLimited;
+        private int consecutiveRateLimits;
+        private long quarantinedUntil;
+
+        private KeyState(String id, String apiKey) {
+            this.id = id;
+            this.apiKey = apiKey;
+            this.quarantinedUntil = nanoClock.getAsLong();
+        }
+
+        private double load(long second) {
+            return Math.max(
+                (double) requests.sum(second) / settings.requestsPerMinute(),
+                (double) tokens.sum(second) / settings.tokensPerMinute());
+        }
+    }
+
+    /**
+     * 최근 WINDOW_SECONDS 초의 초 단위 합계 (고리 버퍼). 락 안에서만 쓴다.
+     */
+    private static final class SlidingWindow {
+
+        private final long[] seconds = new long[WINDOW_SECONDS];
+        private final long[] counts = new long[WINDOW_SECONDS];
+
+        private void add(long second, long amount) {
+            int index = (int) Math.floorMod(second, WINDOW_SECONDS);
+            if (seconds[index] != second) {
+                seconds[index] = second;
+                counts[index] = 0;
+            }
+            counts[index] += amount;
+        }
+
+        private long sum(long second) {
+            long sum = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (second - seconds[i] < WINDOW_SECONDS) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+    }
+}
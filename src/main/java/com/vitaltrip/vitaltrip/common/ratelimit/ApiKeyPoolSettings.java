@@ -0,0 +1,18 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * @param requestsPerMinute 키 하나의 분당 요청 한도. 최근 1분 요청 수를 이 값으로 나눠 부하를 계산한다
+ * @param tokensPerMinute   키 하나의 분당 토큰 한도. 최근 1분 토큰 수를 이 값으로 나눠 부하를 계산한다
+ * @param quarantine        429 를 받은 키를 처음 쉬게 하는 시간. 연속으로 받으면 두 배씩 늘린다
+ * @param maxQuarantine     쉬게 하는 시간의 상한
+ */
+public record ApiKeyPoolSettings(
+    long requestsPerMinute,
+    long tokensPerMinute,
+    Duration quarantine,
+    Duration maxQuarantine
+) {
+
+}
@@ -0,0 +1,28 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ApiKeyUsage(
+    @Schema(description = "키 식별자. 키 값은 끝 4자리만 보인다", example = "gemini-1 (...a1b2)")
+    String key,
+
+    @Schema(description = "진행 중인 요청 수")
+    int inFlight,
+
+    long requestsLastMinute,
+    long tokensLastMinute,
+
+    @Schema(description = "분당 요청/토큰 한도 대비 최근 1분 사용률 중 큰 값 (1 이면 한도에 도달)")
+    double load,
+
+    long totalRequests,
+    long totalTokens,
+
+    @Schema(description = "429 응답을 받은 횟수")
+    long rateLimited,
+
+    @Schema(description = "429 로 쉬고 있는 남은 시간(초). 0 이면 사용 가능")
+    long quarantineRemainingSeconds
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * @param capacity     한 번에 몰아서 보낼 수 있는 최대 요청 수 (버킷 크기)
+ * @param refillPeriod 토큰 하나가 다시 채워지는 시간
+ * @param maxKeys      상태를 유지하는 최대 클라이언트 수. 넘으면 새 클라이언트는 버킷 하나를 함께 쓴다
+ */
+public record RateLimitSettings(
+    int capacity,
+    Duration refillPeriod,
+    int maxKeys
+) {
+
+}
@@ -0,0 +1,124 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 키별 토큰 버킷. 버킷마다 "버킷이 가득 차는 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신하므로
+ * (GCRA 방식) 락이 없고, 키별 상태는 ConcurrentHashMap 의 버킷 단위로 나뉘어 서로 경합하지 않는다.
+ *
+ * <p>가득 찬 버킷은 처음 만든 버킷과 같으므로 evictIdle() 로 지워도 동작이 바뀌지 않는다.
+ * 지우는 순간 같은 키의 요청이 진행 중이었다면 그 요청 하나는 기록되지 않을 수 있다.
+ * 키가 maxKeys 개를 넘으면 새 키는 하나의 공용 버킷을 함께 쓰므로, 많은 주소로 나눠 보내도 메모리와 호출 수가 제한된다.
+ * 한도에 이르러도 요청 경로에서는 지우지 않는다. 전체 키를 도는 evictIdle() 은 주기 작업에서만 호출한다.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final String OVERFLOW_KEY = "overflow";
+
+    private final String name;
+    private final RateLimitSettings settings;
+    private final LongSupplier nanoClock;
+    private final long refillNanos;
+    private final long burstNanos;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflowBucket;
+
+    private Counter allowedCounter;
+    private Counter limitedCounter;
+    private Counter overflowCounter;
+
+    public TokenBucketRateLimiter(String name, RateLimitSettings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(String name, RateLimitSettings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.refillNanos = settings.refillPeriod().toNanos();
+        this.burstNanos = refillNanos * settings.capacity();
+        this.overflowBucket = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 쓴다.
+     *
+     * @return 허용되면 0, 거절되면 토큰이 채워지기까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = bucketFor(key, now);
+
+        while (true) {
+            long fullAt = bucket.get();
+            long nextFullAt = Math.max(fullAt, now) + refillNanos;
+            long waitNanos = nextFullAt - now - burstNanos;
+            if (waitNanos > 0) {
+                increment(limitedCounter);
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(fullAt, nextFullAt)) {
+                increment(allowedCounter);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 다시 가득 찬 버킷을 지운다.
+     *
+     * @return 지운 키 수
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        return Math.max(0, before - buckets.size());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        allowedCounter = Counter.builder("rate_limit.requests")
+            .tags("name", name, "result", "allowed")
+            .register(meterRegistry);
+        limitedCounter = Counter.builder("rate_limit.requests")
+            .tags("name", name, "result", "limited")
+            .register(meterRegistry);
+        overflowCounter = Counter.builder("rate_limit.requests")
+            .tags("name", name, "result", OVERFLOW_KEY)
+            .register(meterRegistry);
+        Gauge.builder("rate_limit.keys", buckets, Map::size)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        // 여기서 evictIdle() 을 부르면 한도에 이른 뒤의 새 키마다 전체 키를 돌게 된다
+        if (buckets.size() >= settings.maxKeys()) {
+            increment(overflowCounter);
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관측한 지연으로 동시 호출 한도를 조절한다 (AIMD).
+ *
+ * <p>한도의 절반 이상을 쓰고 있을 때 latencyThreshold 안에 성공하면 한도를 1 늘리고,
+ * latencyThreshold 보다 느리거나 업스트림이 과부하를 알리면(429, 시간 초과 등) 한도에 backoffRatio 를 곱한다.
+ * 한 번 줄인 뒤에는 그 이전에 시작된 호출의 과부하 신호로 다시 줄이지 않으므로,
+ * 동시에 실패한 호출들 때문에 한도가 한꺼번에 무너지지 않는다.
+ *
+ * <p>한도가 차면 최대 maxQueue 개까지 maxWait 동안 기다리고, 대기열이 가득 찼거나 기다리다 시간이 지나면
+ * CONCURRENCY_LIMITED 로 거절한다. 회로 차단(SERVICE_UNAVAILABLE)과 구분해 셀 수 있도록 오류 종류를 나눈다.
+ * 호출자는 acquire() 로 받은 Permit 에 결과를 한 번 알려야 한다.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // 대기 중 취소를 알아채는 주기
+    private static final long CANCELLATION_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final String name;
+    private final ConcurrencyLimitSettings settings;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long lastDecreaseAt;
+
+    private Counter queueFullCounter;
+    private Counter waitTimeoutCounter;
+    private Counter droppedCounter;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitSettings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitSettings settings,
+        LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.limit = settings.initialLimit();
+        this.lastDecreaseAt = nanoClock.getAsLong();
+    }
+
+    public Permit acquire(RequestCancellation cancellation) {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                return issue();
+            }
+            if (waiting >= settings.maxQueue()) {
+                increment(queueFullCounter);
+                throw new CustomException(ErrorType.CONCURRENCY_LIMITED,
+                    name + " 호출 대기열이 가득 찼습니다");
+            }
+
+            waiting++;
+            try {
+                long remaining = settings.maxWait().toNanos();
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        increment(waitTimeoutCounter);
+                        throw new CustomException(ErrorType.CONCURRENCY_LIMITED,
+                            name + " 호출 대기 시간이 초과되었습니다");
+                    }
+                    if (cancellation.isCancelled()) {
+                        throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
+                            name + " 호출이 취소되었습니다");
+                    }
+                    long waited = Math.min(remaining, CANCELLATION_POLL_NANOS);
+                    remaining -= waited - released.awaitNanos(waited);
+                }
+                return issue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
+                    name + " 호출을 기다리는 중 인터럽트되었습니다");
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("concurrency_limit.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("concurrency_limit.in_flight", this, limiter -> limiter.read(() -> inFlight))
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("concurrency_limit.queue", this, limiter -> limiter.read(() -> waiting))
+            .tag("name", name)
+            .register(meterRegistry);
+        queueFullCounter = Counter.builder("concurrency_limit.rejected")
+            .tags("name", name, "reason", "queue_full")
+            .register(meterRegistry);
+        waitTimeoutCounter = Counter.builder("concurrency_limit.rejected")
+            .tags("name", name, "reason", "wait_timeout")
+            .register(meterRegistry);
+        droppedCounter = Counter.builder("concurrency_limit.dropped")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    private Permit issue() {
+        inFlight++;
+        return new Permit(nanoClock.getAsLong());
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private int read(IntSupplier value) {
+        lock.lock();
+        try {
+            return value.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(Permit permit, Outcome outcome, long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            int previousInFlight = inFlight--;
+            int previousLimit = currentLimit();
+
+            if (outcome == Outcome.SUCCESS
+                && latencyNanos >= settings.latencyThreshold().toNanos()) {
+                outcome = Outcome.DROPPED;
+            }
+
+            switch (outcome) {
+                case SUCCESS -> {
+                    // 한도를 충분히 쓰지 않을 때는 늘려도 효과를 확인할 수 없다
+                    if (previousInFlight * 2 >= previousLimit) {
+                        limit = Math.min(settings.maxLimit(), limit + 1);
+                    }
+                }
+                case DROPPED -> {
+                    increment(droppedCounter);
+                    if (permit.startedAt >= lastDecreaseAt) {
+                        limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+                        lastDecreaseAt = now;
+                    }
+                }
+                case IGNORED -> {
+                }
+            }
+
+            if (currentLimit() != previousLimit) {
+                log.debug("{} concurrency limit changed: {} -> {}", name, previousLimit,
+                    currentLimit());
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    /**
+     * 허용받은 호출 하나. success/dropped/ignore 중 하나를 한 번만 호출한다.
+     */
+    public final class Permit {
+
+        private final long startedAt;
+        private boolean completed;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 정상 응답.
+         *
+         * @param latencyNanos 한도 조절에 쓸 지연. 스트리밍은 첫 조각을 받는 즉시 그때까지의 지연으로 알린다
+         */
+        public void success(long latencyNanos) {
+            finish(Outcome.SUCCESS, latencyNanos);
+        }
+
+        /**
+         * 업스트림 과부하 신호 (429, 503, 시간 초과 등).
+         */
+        public void dropped() {
+            finish(Outcome.DROPPED, 0);
+        }
+
+        /**
+         * 한도 조절에 쓰지 않을 결과 (잘못된 요청, 호출자 취소 등).
+         */
+        public void ignore() {
+            finish(Outcome.IGNORED, 0);
+        }
+
+        private void finish(Outcome outcome, long latencyNanos) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            complete(this, outcome, latencyNanos);
+        }
+    }
+}
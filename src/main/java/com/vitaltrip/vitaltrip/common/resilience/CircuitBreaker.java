@@ -0,0 +1,277 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 windowSize 개 호출의 실패율과 지연율로 외부 호출을 차단하는 회로 차단기.
+ *
+ * <p>CLOSED 에서 실패율이나 느린 호출 비율이 기준을 넘으면 OPEN 이 되어 호출을 바로 거절한다.
+ * openDuration 이 지나면 HALF_OPEN 에서 halfOpenPermittedCalls 개의 시험 호출만 허용하고,
+ * 시험 호출이 모두 정상이면 CLOSED 로, 하나라도 실패하거나 느리면 다시 OPEN 으로 돌아간다.
+ *
+ * <p>호출자는 tryAcquirePermission() 이 허가를 줄 때만 호출하고, 끝나면 받은 Permission 에 onSuccess/onFailure 중
+ * 하나를, 결과를 판단할 수 없는 경우(클라이언트 취소 등)에는 release() 를 호출해야 한다.
+ *
+ * <p>허가는 발급된 세대를 기억한다. 세대는 상태가 바뀔 때마다 늘어나므로, CLOSED 에서 시작해 HALF_OPEN 이 된 뒤에 끝난
+ * 호출처럼 이전 세대의 결과는 시험 호출 결과로 세지 않고 무시한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final CircuitBreakerSettings settings;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+
+    // CLOSED 상태의 최근 호출 결과 (고리 버퍼)
+    private final byte[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    private long generation;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    private final Map<State, Counter> transitionCounters = new EnumMap<>(State.class);
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter slowCounter;
+    private Counter notPermittedCounter;
+
+    public CircuitBreaker(String name, CircuitBreakerSettings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerSettings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[settings.windowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Permission> tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN
+                && nanoClock.getAsLong() - openedAt >= settings.openDuration().toNanos()) {
+                transitionTo(State.HALF_OPEN);
+            }
+
+            boolean permitted = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (halfOpenIssued < settings.halfOpenPermittedCalls()) {
+                        halfOpenIssued++;
+                        yield true;
+                    }
+                    yield false;
+                }
+            };
+
+            if (!permitted) {
+                increment(notPermittedCounter);
+                return Optional.empty();
+            }
+            return Optional.of(new Permission(generation));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void reset() {
+        lock.lock();
+        try {
+            transitionTo(State.CLOSED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (State candidate : State.values()) {
+            Gauge.builder("circuit_breaker.state", this,
+                    circuitBreaker -> circuitBreaker.getState() == candidate ? 1 : 0)
+                .tags("name", name, "state", candidate.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+            transitionCounters.put(candidate, Counter.builder("circuit_breaker.transitions")
+                .tags("name", name, "to", candidate.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+        }
+        successCounter = calls(meterRegistry, "success");
+        failureCounter = calls(meterRegistry, "failure");
+        slowCounter = calls(meterRegistry, "slow");
+        notPermittedCounter = calls(meterRegistry, "not_permitted");
+    }
+
+    private void record(long issuedIn, int outcome) {
+        lock.lock();
+        try {
+            // 상태가 바뀌기 전에 발급된 허가의 늦은 결과는 지금 상태의 판단에 쓰지 않는다
+            if (issuedIn != generation) {
+                return;
+            }
+            switch (state) {
+                case CLOSED -> recordClosed((byte) outcome);
+                case HALF_OPEN -> {
+                    if (outcome != 0) {
+                        transitionTo(State.OPEN);
+                    } else if (++halfOpenSucceeded >= settings.halfOpenPermittedCalls()) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                // OPEN 에서는 허가를 발급하지 않으므로 같은 세대의 결과가 올 수 없다
+                case OPEN -> {
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long issuedIn) {
+        lock.lock();
+        try {
+            if (issuedIn == generation && state == State.HALF_OPEN
+                && halfOpenIssued > halfOpenSucceeded) {
+                halfOpenIssued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordClosed(byte outcome) {
+        if (recorded == outcomes.length) {
+            byte evicted = outcomes[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % outcomes.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (recorded < settings.minimumCalls()) {
+            return;
+        }
+        if ((double) failures / recorded >= settings.failureRateThreshold()
+            || (double) slowCalls / recorded >= settings.slowCallRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (target == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+
+        if (previous != target) {
+            log.warn("Circuit breaker {} state changed: {} -> {}", name, previous, target);
+            increment(transitionCounters.get(target));
+        }
+    }
+
+    private Counter calls(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("circuit_breaker.calls")
+            .tags("name", name, "outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * 허용받은 호출 하나. onSuccess/onFailure/release 중 하나를 한 번만 호출한다.
+     */
+    public final class Permission {
+
+        private final long issuedIn;
+        private boolean completed;
+
+        private Permission(long issuedIn) {
+            this.issuedIn = issuedIn;
+        }
+
+        public void onSuccess(long durationNanos) {
+            if (complete()) {
+                boolean slow = durationNanos >= settings.slowCallDuration().toNanos();
+                increment(slow ? slowCounter : successCounter);
+                record(issuedIn, slow ? SLOW : 0);
+            }
+        }
+
+        public void onFailure(long durationNanos) {
+            if (complete()) {
+                increment(failureCounter);
+                record(issuedIn,
+                    durationNanos >= settings.slowCallDuration().toNanos() ? FAILED | SLOW : FAILED);
+            }
+        }
+
+        /**
+         * 결과를 기록하지 않고 허가를 반환한다. 같은 세대의 시험 호출 허가만 다시 발급할 수 있게 된다.
+         */
+        public void release() {
+            if (complete()) {
+                CircuitBreaker.this.release(issuedIn);
+            }
+        }
+
+        private boolean complete() {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            return true;
+        }
+    }
+}
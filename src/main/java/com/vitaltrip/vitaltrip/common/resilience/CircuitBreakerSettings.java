@@ -0,0 +1,24 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * @param windowSize             실패율/지연율을 계산하는 최근 호출 수
+ * @param minimumCalls           이보다 적게 기록되면 회로를 열지 않는다
+ * @param failureRateThreshold   이 비율 이상 실패하면 회로를 연다 (0~1)
+ * @param slowCallDuration       이보다 오래 걸린 호출은 성공해도 느린 호출로 센다
+ * @param slowCallRateThreshold  이 비율 이상 느리면 회로를 연다 (0~1)
+ * @param openDuration           회로를 연 뒤 시험 호출을 허용하기까지 기다리는 시간
+ * @param halfOpenPermittedCalls 반열림 상태에서 허용하는 시험 호출 수
+ */
+public record CircuitBreakerSettings(
+    int windowSize,
+    int minimumCalls,
+    double failureRateThreshold,
+    Duration slowCallDuration,
+    double slowCallRateThreshold,
+    Duration openDuration,
+    int halfOpenPermittedCalls
+) {
+
+}
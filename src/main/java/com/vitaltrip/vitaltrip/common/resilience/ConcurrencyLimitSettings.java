@@ -0,0 +1,24 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * @param initialLimit     시작할 때 허용하는 동시 호출 수
+ * @param minLimit         줄일 수 있는 최소 동시 호출 수
+ * @param maxLimit         늘릴 수 있는 최대 동시 호출 수
+ * @param backoffRatio     과부하 신호를 받으면 한도에 곱하는 값 (0~1)
+ * @param latencyThreshold 이보다 오래 걸린 호출은 성공해도 과부하 신호로 본다
+ * @param maxQueue         한도가 찼을 때 기다릴 수 있는 호출 수. 넘으면 바로 거절한다
+ * @param maxWait          대기열에서 기다리는 최대 시간
+ */
+public record ConcurrencyLimitSettings(
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    double backoffRatio,
+    Duration latencyThreshold,
+    int maxQueue,
+    Duration maxWait
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * @param enabled     false 이면 추가 요청을 보내지 않는다
+ * @param percentile  첫 요청이 최근 성공 지연의 이 분위수(0~1)보다 오래 걸리면 추가 요청을 보낸다
+ * @param minDelay    추가 요청을 보내기 전 최소 대기 시간
+ * @param windowSize  분위수를 계산하는 최근 성공 호출 수
+ * @param minSamples  이보다 적게 기록되면 추가 요청을 보내지 않는다
+ * @param maxInFlight 동시에 진행할 수 있는 추가 요청 수
+ */
+public record HedgeSettings(
+    boolean enabled,
+    double percentile,
+    Duration minDelay,
+    int windowSize,
+    int minSamples,
+    int maxInFlight
+) {
+
+}
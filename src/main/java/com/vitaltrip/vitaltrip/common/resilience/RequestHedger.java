@@ -0,0 +1,252 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첫 요청이 최근 성공 지연의 percentile 분위수보다 오래 걸리면 같은 요청을 하나 더 보내고(hedging),
+ * 먼저 성공한 응답을 사용하며 나머지 요청은 중단한다. 둘 다 실패하면 나중 실패를 던진다.
+ *
+ * <p>추가 요청은 동시에 maxInFlight 개까지만 보내므로 업스트림 전체가 느려졌을 때 호출 수가 두 배로 늘지 않는다.
+ * 분위수는 성공한 요청의 지연으로만 계산하며, 중단된 요청의 지연은 기록하지 않는다.
+ * 호출마다 정렬하지 않도록 분위수는 windowSize 의 1/20 만큼 새로 기록될 때 기록하는 스레드가 다시 계산해 둔다.
+ * hedgeAllowed 가 false 를 돌려주는 동안에는 추가 요청을 보내지 않는다. 추가 요청도 서킷 브레이커와 동시 실행 제한의
+ * 허가를 따로 받으므로, 서킷 브레이커가 HALF_OPEN 일 때 보내면 몇 개 안 되는 시험 호출 허가를 한 요청이 두 개 쓰게 된다.
+ */
+@Slf4j
+public class RequestHedger implements AutoCloseable {
+
+    private final String name;
+    private final HedgeSettings settings;
+    private final Semaphore hedgeSlots;
+    private final BooleanSupplier hedgeAllowed;
+
+    // 첫 요청을 기다리는 동안 호출 스레드가 추가 요청 여부를 판단할 수 있도록 요청은 가상 스레드에서 실행한다
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 최근 성공 호출의 지연 (고리 버퍼)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] latencies;
+    private int recorded;
+    private int next;
+    private int recordedSinceRefresh;
+    private final int refreshSamples;
+    private volatile long cachedDelayNanos = -1;
+
+    private Counter sentCounter;
+    private Counter wonCounter;
+
+    public RequestHedger(String name, HedgeSettings settings) {
+        this(name, settings, () -> true);
+    }
+
+    public RequestHedger(String name, HedgeSettings settings, BooleanSupplier hedgeAllowed) {
+        this.name = name;
+        this.settings = settings;
+        this.hedgeAllowed = hedgeAllowed;
+        this.hedgeSlots = new Semaphore(settings.maxInFlight());
+        this.latencies = new long[settings.windowSize()];
+        this.refreshSamples = Math.max(1, settings.windowSize() / 20);
+    }
+
+    /**
+     * attempt 는 요청마다 새 RequestCancellation 을 받으며, 이는 cancellation 의 자식이다.
+     */
+    public <T> T call(RequestCancellation cancellation, Function<RequestCancellation, T> attempt) {
+        long hedgeDelayNanos = hedgeDelayNanos();
+        if (hedgeDelayNanos < 0) {
+            return timed(attempt, cancellation);
+        }
+
+        RequestCancellation primaryCancellation = cancellation.newChild();
+        CompletableFuture<Attempt<T>> primary = submit(attempt, primaryCancellation, false);
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS).value();
+        } catch (TimeoutException e) {
+            // 아래에서 추가 요청을 보낸다
+        } catch (InterruptedException e) {
+            primaryCancellation.cancel();
+            throw interrupted();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        // 기다리는 동안 상태가 바뀌었을 수 있으므로 추가 요청을 보내기 직전에 확인한다
+        if (!hedgeAllowed.getAsBoolean() || !hedgeSlots.tryAcquire()) {
+            return await(primary, primaryCancellation).value();
+        }
+
+        RequestCancellation hedgeCancellation = cancellation.newChild();
+        CompletableFuture<Attempt<T>> hedge;
+        try {
+            hedge = submit(attempt, hedgeCancellation, true)
+                .whenComplete((result, error) -> hedgeSlots.release());
+        } catch (RejectedExecutionException e) {
+            hedgeSlots.release();
+            return await(primary, primaryCancellation).value();
+        }
+        increment(sentCounter);
+        log.debug("{} 요청이 {}ms 안에 끝나지 않아 추가 요청을 보냅니다", name,
+            TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+
+        CompletableFuture<Attempt<T>> first = firstSuccess(primary, hedge);
+        try {
+            Attempt<T> winner = await(first, primaryCancellation);
+            if (winner.hedge()) {
+                increment(wonCounter);
+            }
+            return winner.value();
+        } finally {
+            // 진 요청은 중단한다. 이미 끝난 요청의 커넥션은 건드리지 않는다
+            if (!primary.isDone()) {
+                primaryCancellation.cancel();
+            }
+            if (!hedge.isDone()) {
+                hedgeCancellation.cancel();
+            }
+        }
+    }
+
+    /**
+     * 추가 요청을 보내기까지 기다릴 시간. 추가 요청을 보내지 않으면 -1.
+     */
+    long hedgeDelayNanos() {
+        return settings.enabled() ? cachedDelayNanos : -1;
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        sentCounter = Counter.builder("hedge.requests")
+            .tags("name", name, "result", "sent")
+            .register(meterRegistry);
+        wonCounter = Counter.builder("hedge.requests")
+            .tags("name", name, "result", "won")
+            .register(meterRegistry);
+        Gauge.builder("hedge.delay", this,
+                hedger -> Math.max(0, hedger.hedgeDelayNanos()) / 1_000_000_000.0)
+            .tag("name", name)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<Attempt<T>> submit(Function<RequestCancellation, T> attempt,
+        RequestCancellation cancellation, boolean hedge) {
+        return CompletableFuture.supplyAsync(
+            () -> new Attempt<>(timed(attempt, cancellation), hedge), executor);
+    }
+
+    private <T> T timed(Function<RequestCancellation, T> attempt,
+        RequestCancellation cancellation) {
+        long start = System.nanoTime();
+        T result = attempt.apply(cancellation);
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    private void record(long latencyNanos) {
+        lock.lock();
+        try {
+            latencies[next] = latencyNanos;
+            next = (next + 1) % latencies.length;
+            if (recorded < latencies.length) {
+                recorded++;
+            }
+            // minSamples 에 처음 닿았을 때는 바로 계산해 추가 요청을 늦게 시작하지 않는다
+            if (++recordedSinceRefresh >= refreshSamples
+                || (cachedDelayNanos < 0 && recorded >= settings.minSamples())) {
+                refresh();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 을 쥔 채로 호출한다
+    private void refresh() {
+        recordedSinceRefresh = 0;
+        if (recorded < settings.minSamples()) {
+            return;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(settings.percentile() * sorted.length) - 1;
+        cachedDelayNanos = Math.max(settings.minDelay().toNanos(), sorted[Math.max(0, index)]);
+    }
+
+    private static <T> CompletableFuture<Attempt<T>> firstSuccess(
+        CompletableFuture<Attempt<T>> primary, CompletableFuture<Attempt<T>> hedge) {
+        CompletableFuture<Attempt<T>> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<Attempt<T>> candidate : List.of(primary, hedge)) {
+            candidate.whenComplete((result, error) -> {
+                if (error == null) {
+                    first.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    first.completeExceptionally(error);
+                }
+            });
+        }
+        return first;
+    }
+
+    private static <T> T await(CompletableFuture<T> future, RequestCancellation cancellation) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            cancellation.cancel();
+            throw interrupted();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtimeException
+            ? runtimeException
+            : new CustomException(ErrorType.INTERNAL_SERVER_ERROR, cause.getMessage(), cause);
+    }
+
+    private static CustomException interrupted() {
+        Thread.currentThread().interrupt();
+        return new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "요청을 기다리는 중 인터럽트되었습니다");
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Attempt<T>(T value, boolean hedge) {
+
+    }
+}
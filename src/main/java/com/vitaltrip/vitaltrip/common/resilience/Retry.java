@@ -0,0 +1,92 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시도할 수 있는 실패만 지수 백오프와 full jitter 로 다시 시도한다.
+ *
+ * <p>n 번째 재시도 전에는 0 ~ min(maxBackoff, initialBackoff * 2^(n-1)) 사이에서 무작위로 기다리므로
+ * 같은 순간에 실패한 호출들이 같은 순간에 다시 몰리지 않는다.
+ * 호출이 취소되었으면 재시도하지 않는다.
+ */
+@Slf4j
+public class Retry {
+
+    private final String name;
+    private final RetrySettings settings;
+
+    private Counter retriedCounter;
+    private Counter exhaustedCounter;
+
+    public Retry(String name, RetrySettings settings) {
+        this.name = name;
+        this.settings = settings;
+    }
+
+    public <T> T execute(RequestCancellation cancellation, Supplier<T> call,
+        Predicate<RuntimeException> retryable) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (cancellation.isCancelled() || !retryable.test(e)) {
+                    throw e;
+                }
+                if (attempt >= settings.maxAttempts()) {
+                    increment(exhaustedCounter);
+                    throw e;
+                }
+
+                Duration backoff = backoff(attempt, ThreadLocalRandom.current().nextDouble());
+                log.info("{} 호출 재시도 {}/{} ({}ms 후): {}", name, attempt,
+                    settings.maxAttempts() - 1, backoff.toMillis(), e.getMessage());
+                increment(retriedCounter);
+                if (!sleep(backoff) || cancellation.isCancelled()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param retry  1 부터 시작하는 재시도 순번
+     * @param random 0 이상 1 미만의 난수
+     */
+    Duration backoff(int retry, double random) {
+        long ceiling = Math.min(settings.maxBackoff().toNanos(),
+            settings.initialBackoff().toNanos() << Math.min(retry - 1, 20));
+        return Duration.ofNanos((long) (ceiling * random));
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        retriedCounter = Counter.builder("retry.calls")
+            .tags("name", name, "result", "retried")
+            .register(meterRegistry);
+        exhaustedCounter = Counter.builder("retry.calls")
+            .tags("name", name, "result", "exhausted")
+            .register(meterRegistry);
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
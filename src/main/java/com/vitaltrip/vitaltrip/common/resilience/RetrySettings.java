@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * @param maxAttempts    첫 호출을 포함한 최대 시도 횟수 (1 이면 재시도하지 않는다)
+ * @param initialBackoff 첫 재시도 전 대기 시간의 상한
+ * @param maxBackoff     재시도 전 대기 시간의 최대 상한
+ */
+public record RetrySettings(
+    int maxAttempts,
+    Duration initialBackoff,
+    Duration maxBackoff
+) {
+
+}
@@ -0,0 +1,202 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기 작업을 클러스터에서 한 노드만 실행하도록 DB 임대를 잡고 실행한다.
+ * <p>
+ * 작업은 가상 스레드에서 실행되며, 임대 시간 안에 끝나지 않으면 인터럽트하고 TIMED_OUT 으로 기록한다.
+ * 인터럽트 후에도 작업이 멈추지 않으면 멈출 때까지 임대를 늘린다.
+ * 임대가 끝나기 전에는 다른 노드가 같은 작업을 시작할 수 없다. 작업이 멈춘 뒤에는 minLeaseFor 까지만 임대를 유지해
+ * 스케줄이 조금 늦게 도는 다른 노드가 같은 주기의 작업을 다시 실행하지 않게 한다.
+ * 임대 시각은 모두 DB 시계로 정하므로 노드 사이의 시계 차이에 영향을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService jobExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cluster-job-", 0).factory());
+
+    @Getter
+    private final String nodeId;
+
+    @Value("${app.scheduling.history-retention:P7D}")
+    private Duration historyRetention;
+
+    public ClusterJobRunner(JobLeaseRepository jobLeaseRepository,
+        JobRunRepository jobRunRepository, MeterRegistry meterRegistry,
+        @Value("${app.scheduling.node-id:}") String nodeId) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public JobRunStatus run(String jobName, Duration leaseFor, Duration minLeaseFor,
+        Runnable task) {
+        Optional<LocalDateTime> acquired = jobLeaseRepository.tryAcquire(jobName, nodeId,
+            leaseFor);
+        if (acquired.isEmpty()) {
+            meterRegistry.counter("scheduled.job.skipped", "job", jobName).increment();
+            log.debug("Job {} skipped, lease held by another node", jobName);
+            return JobRunStatus.SKIPPED;
+        }
+
+        LocalDateTime lockedAt = acquired.get();
+        Long runId = jobRunRepository.start(jobName, nodeId, lockedAt);
+        long start = System.nanoTime();
+        JobRunStatus status = JobRunStatus.SUCCEEDED;
+        String errorMessage = null;
+
+        RunningJob job = new RunningJob(task);
+        jobExecutor.execute(job);
+        try {
+            if (!job.await(leaseFor)) {
+                job.cancel();
+                status = JobRunStatus.TIMED_OUT;
+                errorMessage = "임대 시간(" + leaseFor + ") 초과";
+                holdLeaseUntilStopped(jobName, lockedAt, leaseFor, job);
+            } else if (job.failure != null) {
+                status = JobRunStatus.FAILED;
+                errorMessage = String.valueOf(job.failure);
+                log.error("Job {} failed", jobName, job.failure);
+            }
+        } catch (InterruptedException e) {
+            job.cancel();
+            Thread.currentThread().interrupt();
+            status = JobRunStatus.FAILED;
+            errorMessage = "interrupted";
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        Timer.builder("scheduled.job.duration")
+            .tag("job", jobName)
+            .tag("status", status.name())
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        jobRunRepository.finish(runId, TimeUnit.NANOSECONDS.toMillis(durationNanos), status,
+            errorMessage);
+        jobRunRepository.deleteOlderThan(jobName, historyRetention);
+
+        // 아직 멈추지 않은 작업(종료 중 인터럽트 등)은 임대가 자연 만료될 때까지 둔다
+        if (job.isStopped()) {
+            jobLeaseRepository.release(jobName, nodeId, lockedAt, minLeaseFor);
+        }
+
+        if (status != JobRunStatus.SUCCEEDED) {
+            log.warn("Job {} finished with {}: {}", jobName, status, errorMessage);
+        }
+        return status;
+    }
+
+    public List<JobLease> findLeases() {
+        return jobLeaseRepository.findAll();
+    }
+
+    public List<JobRun> findRecentRuns(String jobName, int limit) {
+        return jobRunRepository.findRecent(jobName, limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * 인터럽트를 무시하는 작업이 아직 도는 동안 임대가 만료되어 다른 노드가 같은 작업을 시작하지 않도록,
+     * 작업이 멈출 때까지 leaseFor 의 절반마다 임대를 지금부터 leaseFor 뒤까지로 늘린다.
+     */
+    private void holdLeaseUntilStopped(String jobName, LocalDateTime lockedAt, Duration leaseFor,
+        RunningJob job) throws InterruptedException {
+        Duration renewEvery = leaseFor.dividedBy(2);
+        do {
+            if (!jobLeaseRepository.extend(jobName, nodeId, lockedAt, leaseFor)) {
+                log.error("Job {} lease was taken by another node before the timed-out task stopped",
+                    jobName);
+                return;
+            }
+            log.warn("Job {} timed out and has not stopped yet, extending lease by {}", jobName,
+                leaseFor);
+        } while (!job.await(renewEvery));
+    }
+
+    /**
+     * 작업이 실제로 멈췄는지 알 수 있도록 감싼다. Future.cancel 은 작업 스레드가 끝나기 전에 완료 상태가 된다.
+     */
+    private static final class RunningJob implements Runnable {
+
+        private final Runnable task;
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        private volatile Thread thread;
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+
+        private RunningJob(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            try {
+                if (!cancelled) {
+                    task.run();
+                }
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        private boolean await(Duration timeout) throws InterruptedException {
+            return stopped.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private boolean isStopped() {
+            return stopped.getCount() == 0;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Thread running = thread;
+            if (running != null) {
+                running.interrupt();
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
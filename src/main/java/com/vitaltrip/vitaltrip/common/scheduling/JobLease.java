@@ -0,0 +1,12 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import java.time.LocalDateTime;
+
+public record JobLease(
+    String jobName,
+    LocalDateTime lockedUntil,
+    LocalDateTime lockedAt,
+    String lockedBy
+) {
+
+}
@@ -0,0 +1,95 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepository {
+
+    private static final RowMapper<JobLease> JOB_LEASE_MAPPER =
+        (resultSet, rowNum) -> new JobLease(
+            resultSet.getString("job_name"),
+            resultSet.getObject("locked_until", LocalDateTime.class),
+            resultSet.getObject("locked_at", LocalDateTime.class),
+            resultSet.getString("locked_by")
+        );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료된 임대를 가져오거나 처음 보는 작업이면 임대 행을 만든다.
+     * 조건부 UPDATE 와 기본 키 충돌에 기대므로 여러 노드가 동시에 호출해도 한 노드만 성공한다.
+     * 시각은 모두 DB 시계로 정하므로 노드 사이의 시계 차이가 임대 판정에 영향을 주지 않는다.
+     *
+     * @return 가져온 임대의 locked_at. 이후 이 노드의 임대인지 확인하는 데 쓴다
+     */
+    @Transactional
+    public Optional<LocalDateTime> tryAcquire(String jobName, String nodeId, Duration leaseFor) {
+        int updated = jdbcTemplate.update("""
+            UPDATE scheduled_job_lease
+            SET locked_until = DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP),
+                locked_at = CURRENT_TIMESTAMP, locked_by = ?
+            WHERE job_name = ? AND locked_until <= CURRENT_TIMESTAMP
+            """, leaseFor.toMillis(), nodeId, jobName);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update("""
+                    INSERT INTO scheduled_job_lease (job_name, locked_until, locked_at, locked_by)
+                    VALUES (?, DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, ?)
+                    """, jobName, leaseFor.toMillis(), nodeId);
+            } catch (DuplicateKeyException e) {
+                return Optional.empty();
+            }
+        }
+
+        // 같은 트랜잭션에서 행을 잠근 채 읽으므로 방금 기록한 값이다
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+            "SELECT locked_at FROM scheduled_job_lease WHERE job_name = ?",
+            LocalDateTime.class, jobName));
+    }
+
+    /**
+     * 이 노드가 가진 임대를 지금부터 leaseFor 뒤까지로 늘린다.
+     *
+     * @return 그 사이 만료되어 다른 노드가 가져갔으면 false
+     */
+    public boolean extend(String jobName, String nodeId, LocalDateTime lockedAt,
+        Duration leaseFor) {
+        return jdbcTemplate.update("""
+            UPDATE scheduled_job_lease
+            SET locked_until = DATEADD(MILLISECOND, ?, CURRENT_TIMESTAMP)
+            WHERE job_name = ? AND locked_by = ? AND locked_at = ?
+            """, leaseFor.toMillis(), jobName, nodeId, lockedAt) == 1;
+    }
+
+    /**
+     * 지금과 locked_at + minLeaseFor 중 늦은 시각까지만 임대를 유지한다.
+     * 이 노드가 가진 임대만 해제한다. 그 사이 만료되어 다른 노드가 가져갔다면 아무것도 하지 않는다.
+     */
+    public void release(String jobName, String nodeId, LocalDateTime lockedAt,
+        Duration minLeaseFor) {
+        jdbcTemplate.update("""
+            UPDATE scheduled_job_lease
+            SET locked_until = GREATEST(CURRENT_TIMESTAMP,
+                DATEADD(MILLISECOND, ?, locked_at))
+            WHERE job_name = ? AND locked_by = ? AND locked_at = ?
+            """, minLeaseFor.toMillis(), jobName, nodeId, lockedAt);
+    }
+
+    public List<JobLease> findAll() {
+        return jdbcTemplate.query("""
+            SELECT job_name, locked_until, locked_at, locked_by
+            FROM scheduled_job_lease
+            ORDER BY job_name
+            """, JOB_LEASE_MAPPER);
+    }
+}
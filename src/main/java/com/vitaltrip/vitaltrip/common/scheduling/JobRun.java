@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import java.time.LocalDateTime;
+
+public record JobRun(
+    Long id,
+    String jobName,
+    String nodeId,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    Long durationMs,
+    JobRunStatus status,
+    String errorMessage
+) {
+
+}
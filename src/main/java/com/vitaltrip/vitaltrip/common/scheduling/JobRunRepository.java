@@ -0,0 +1,83 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JobRunRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private static final RowMapper<JobRun> JOB_RUN_MAPPER =
+        (resultSet, rowNum) -> new JobRun(
+            resultSet.getLong("id"),
+            resultSet.getString("job_name"),
+            resultSet.getString("node_id"),
+            resultSet.getObject("started_at", LocalDateTime.class),
+            resultSet.getObject("finished_at", LocalDateTime.class),
+            resultSet.getObject("duration_ms", Long.class),
+            JobRunStatus.valueOf(resultSet.getString("status")),
+            resultSet.getString("error_message")
+        );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long start(String jobName, String nodeId, LocalDateTime startedAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO scheduled_job_run (job_name, node_id, started_at, status)
+                VALUES (?, ?, ?, ?)
+                """, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, jobName);
+            statement.setString(2, nodeId);
+            statement.setObject(3, startedAt);
+            statement.setString(4, JobRunStatus.RUNNING.name());
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // 시작 시각(임대의 locked_at)과 같은 DB 시계로 종료 시각을 기록한다
+    public void finish(Long runId, long durationMs, JobRunStatus status, String errorMessage) {
+        jdbcTemplate.update("""
+                UPDATE scheduled_job_run
+                SET finished_at = CURRENT_TIMESTAMP, duration_ms = ?, status = ?, error_message = ?
+                WHERE id = ?
+                """, durationMs, status.name(), truncate(errorMessage), runId);
+    }
+
+    public List<JobRun> findRecent(String jobName, int limit) {
+        return jdbcTemplate.query("""
+            SELECT id, job_name, node_id, started_at, finished_at, duration_ms, status, error_message
+            FROM scheduled_job_run
+            WHERE job_name = ?
+            ORDER BY started_at DESC
+            FETCH FIRST ? ROWS ONLY
+            """, JOB_RUN_MAPPER, jobName, limit);
+    }
+
+    public int deleteOlderThan(String jobName, Duration retention) {
+        return jdbcTemplate.update("""
+            DELETE FROM scheduled_job_run
+            WHERE job_name = ? AND started_at < DATEADD(SECOND, ?, CURRENT_TIMESTAMP)
+            """, jobName, -retention.toSeconds());
+    }
+
+    private String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
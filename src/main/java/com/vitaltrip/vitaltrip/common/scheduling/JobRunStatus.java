@@ -0,0 +1,11 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    // 임대 시간 안에 끝나지 않아 중단됨
+    TIMED_OUT,
+    // 다른 노드가 임대를 가지고 있어 실행하지 않음. 이력에는 남기지 않는다
+    SKIPPED
+}
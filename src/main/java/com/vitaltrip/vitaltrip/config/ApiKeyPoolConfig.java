@@ -0,0 +1,42 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyPool;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyPoolSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ApiKeyPoolConfig {
+
+    // 쉼표로 구분한 여러 키. 없으면 gemini.api.key 하나만 쓴다
+    @Value("${gemini.api.keys:${gemini.api.key}}")
+    private List<String> geminiApiKeys;
+
+    @Value("${app.gemini.key-pool.requests-per-minute:1000}")
+    private long geminiRequestsPerMinute;
+
+    @Value("${app.gemini.key-pool.tokens-per-minute:1000000}")
+    private long geminiTokensPerMinute;
+
+    @Value("${app.gemini.key-pool.quarantine:PT30S}")
+    private Duration geminiQuarantine;
+
+    @Value("${app.gemini.key-pool.max-quarantine:PT5M}")
+    private Duration geminiMaxQuarantine;
+
+    @Bean
+    public ApiKeyPool geminiApiKeyPool(MeterRegistry meterRegistry) {
+        ApiKeyPool pool = new ApiKeyPool("gemini", geminiApiKeys, new ApiKeyPoolSettings(
+            geminiRequestsPerMinute,
+            geminiTokensPerMinute,
+            geminiQuarantine,
+            geminiMaxQuarantine
+        ));
+        pool.bindTo(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,62 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.cache.WeightedTtlCache;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.AdviceCacheKey;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.SimilarQuestionCache;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    // 가중치는 키와 응답 본문의 문자 수. 0 이면 아무것도 저장하지 않는다
+    @Value("${app.first-aid.cache.max-weight:5000000}")
+    private long adviceCacheMaxWeight;
+
+    @Value("${app.first-aid.cache.ttl:PT6H}")
+    private Duration adviceCacheTtl;
+
+    // 0 이면 유사 질문 캐시를 사용하지 않는다
+    @Value("${app.first-aid.similar-cache.max-entries:50000}")
+    private int similarCacheMaxEntries;
+
+    @Value("${app.first-aid.similar-cache.ttl:PT6H}")
+    private Duration similarCacheTtl;
+
+    @Value("${app.first-aid.similar-cache.threshold:0.45}")
+    private double similarCacheThreshold;
+
+    @Value("${app.first-aid.similar-cache.bands:20}")
+    private int similarCacheBands;
+
+    @Value("${app.first-aid.similar-cache.rows:3}")
+    private int similarCacheRows;
+
+    @Value("${app.first-aid.similar-cache.shingle-length:3}")
+    private int similarCacheShingleLength;
+
+    @Bean
+    public WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> adviceCache(
+        MeterRegistry meterRegistry) {
+        WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> cache =
+            new WeightedTtlCache<>("first-aid-advice", adviceCacheMaxWeight, adviceCacheTtl,
+                (key, response) -> key.length() + response.content().length());
+        cache.bindTo(meterRegistry);
+        return cache;
+    }
+
+    // bands x rows 개의 MinHash 를 쓴다. 유사도 s 인 질문이 후보가 될 확률은 1 - (1 - s^rows)^bands
+    @Bean
+    public SimilarQuestionCache<EmergencyChatAdviceResponse> similarAdviceCache(
+        MeterRegistry meterRegistry) {
+        SimilarQuestionCache<EmergencyChatAdviceResponse> cache = new SimilarQuestionCache<>(
+            "first-aid-similar-advice", similarCacheMaxEntries, similarCacheTtl,
+            similarCacheThreshold, similarCacheBands, similarCacheRows, similarCacheShingleLength);
+        cache.bindTo(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,49 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreakerSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CircuitBreakerConfig {
+
+    @Value("${app.gemini.circuit-breaker.window-size:20}")
+    private int geminiWindowSize;
+
+    @Value("${app.gemini.circuit-breaker.minimum-calls:10}")
+    private int geminiMinimumCalls;
+
+    @Value("${app.gemini.circuit-breaker.failure-rate-threshold:0.5}")
+    private double geminiFailureRateThreshold;
+
+    @Value("${app.gemini.circuit-breaker.slow-call-duration:PT10S}")
+    private Duration geminiSlowCallDuration;
+
+    @Value("${app.gemini.circuit-breaker.slow-call-rate-threshold:0.8}")
+    private double geminiSlowCallRateThreshold;
+
+    @Value("${app.gemini.circuit-breaker.open-duration:PT30S}")
+    private Duration geminiOpenDuration;
+
+    @Value("${app.gemini.circuit-breaker.half-open-permitted-calls:3}")
+    private int geminiHalfOpenPermittedCalls;
+
+    @Bean
+    public CircuitBreaker geminiCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("gemini", new CircuitBreakerSettings(
+            geminiWindowSize,
+            geminiMinimumCalls,
+            geminiFailureRateThreshold,
+            geminiSlowCallDuration,
+            geminiSlowCallRateThreshold,
+            geminiOpenDuration,
+            geminiHalfOpenPermittedCalls
+        ));
+        circuitBreaker.bindTo(meterRegistry);
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,50 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.resilience.AdaptiveConcurrencyLimiter;
+import com.vitaltrip.vitaltrip.common.resilience.ConcurrencyLimitSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Value("${app.gemini.concurrency.initial-limit:20}")
+    private int geminiInitialLimit;
+
+    @Value("${app.gemini.concurrency.min-limit:2}")
+    private int geminiMinLimit;
+
+    @Value("${app.gemini.concurrency.max-limit:200}")
+    private int geminiMaxLimit;
+
+    @Value("${app.gemini.concurrency.backoff-ratio:0.9}")
+    private double geminiBackoffRatio;
+
+    @Value("${app.gemini.concurrency.latency-threshold:PT8S}")
+    private Duration geminiLatencyThreshold;
+
+    @Value("${app.gemini.concurrency.max-queue:100}")
+    private int geminiMaxQueue;
+
+    @Value("${app.gemini.concurrency.max-wait:PT5S}")
+    private Duration geminiMaxWait;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter geminiConcurrencyLimiter(MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("gemini",
+            new ConcurrencyLimitSettings(
+                geminiInitialLimit,
+                geminiMinLimit,
+                geminiMaxLimit,
+                geminiBackoffRatio,
+                geminiLatencyThreshold,
+                geminiMaxQueue,
+                geminiMaxWait
+            ));
+        limiter.bindTo(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.datasource.ProfilingDataSource;
+import com.vitaltrip.vitaltrip.common.datasource.SqlStatementProfiler;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 운영 중 DB 지연 원인을 확인할 때만 app.datasource.proxy.enabled=true 로 켠다
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.proxy.enabled", havingValue = "true")
+public class DataSourceProxyConfig {
+
+    @Bean
+    public SqlStatementProfiler sqlStatementProfiler(MeterRegistry meterRegistry,
+        @Value("${app.datasource.proxy.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold,
+        @Value("${app.datasource.proxy.max-fingerprints:200}") int maxFingerprints) {
+        return new SqlStatementProfiler(meterRegistry, slowQueryThreshold, maxFingerprints);
+    }
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor(
+        ObjectProvider<SqlStatementProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource, profiler.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
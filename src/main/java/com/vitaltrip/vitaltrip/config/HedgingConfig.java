@@ -0,0 +1,48 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.common.resilience.HedgeSettings;
+import com.vitaltrip.vitaltrip.common.resilience.RequestHedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HedgingConfig {
+
+    @Value("${app.gemini.hedge.enabled:false}")
+    private boolean geminiHedgeEnabled;
+
+    @Value("${app.gemini.hedge.percentile:0.95}")
+    private double geminiHedgePercentile;
+
+    @Value("${app.gemini.hedge.min-delay:PT0.5S}")
+    private Duration geminiHedgeMinDelay;
+
+    @Value("${app.gemini.hedge.window-size:500}")
+    private int geminiHedgeWindowSize;
+
+    @Value("${app.gemini.hedge.min-samples:50}")
+    private int geminiHedgeMinSamples;
+
+    @Value("${app.gemini.hedge.max-in-flight:20}")
+    private int geminiHedgeMaxInFlight;
+
+    @Bean
+    public RequestHedger geminiRequestHedger(MeterRegistry meterRegistry,
+        CircuitBreaker geminiCircuitBreaker) {
+        // HALF_OPEN 의 시험 호출 허가를 추가 요청이 나눠 쓰지 않도록 CLOSED 일 때만 추가 요청을 보낸다
+        RequestHedger requestHedger = new RequestHedger("gemini", new HedgeSettings(
+            geminiHedgeEnabled,
+            geminiHedgePercentile,
+            geminiHedgeMinDelay,
+            geminiHedgeWindowSize,
+            geminiHedgeMinSamples,
+            geminiHedgeMaxInFlight
+        ), () -> geminiCircuitBreaker.getState() == CircuitBreaker.State.CLOSED);
+        requestHedger.bindTo(meterRegistry);
+        return requestHedger;
+    }
+}
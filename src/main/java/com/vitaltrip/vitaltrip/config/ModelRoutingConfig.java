@@ -0,0 +1,84 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRoute;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRouter;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRoutingSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ModelRoutingConfig {
+
+    @Value("${app.gemini.routing.fast.model:gemini-2.0-flash}")
+    private String fastModel;
+
+    @Value("${app.gemini.routing.fast.max-output-tokens:512}")
+    private int fastMaxOutputTokens;
+
+    @Value("${app.gemini.routing.fast.temperature:0.2}")
+    private double fastTemperature;
+
+    @Value("${app.gemini.routing.quality.model:gemini-2.5-flash}")
+    private String qualityModel;
+
+    @Value("${app.gemini.routing.quality.max-output-tokens:1024}")
+    private int qualityMaxOutputTokens;
+
+    @Value("${app.gemini.routing.quality.temperature:0.3}")
+    private double qualityTemperature;
+
+    // 2.5 모델은 생각 토큰도 출력 한도에서 쓴다. 0 이면 한도 전부를 답변에 쓴다
+    @Value("${app.gemini.routing.quality.thinking-budget:0}")
+    private int qualityThinkingBudget;
+
+    // 몇 초가 생사를 가르는 상황은 답변 품질보다 첫 응답 속도가 중요하다
+    @Value("${app.gemini.routing.fast-types:Cardiac arrest,Choking,Severe bleeding,Drowning}")
+    private Set<String> fastTypes;
+
+    @Value("${app.gemini.routing.quality-types:Poisoning,Severe allergic reaction,Seizure}")
+    private Set<String> qualityTypes;
+
+    @Value("${app.gemini.routing.quality-min-tokens:150}")
+    private int qualityMinTokens;
+
+    @Value("${app.gemini.routing.latency-slo:PT6S}")
+    private Duration latencySlo;
+
+    @Value("${app.gemini.routing.slo-percentile:0.9}")
+    private double sloPercentile;
+
+    @Value("${app.gemini.routing.window:PT1M}")
+    private Duration window;
+
+    @Value("${app.gemini.routing.window-size:200}")
+    private int windowSize;
+
+    @Value("${app.gemini.routing.min-samples:20}")
+    private int minSamples;
+
+    @Bean
+    public ModelRouter geminiModelRouter(MeterRegistry meterRegistry) {
+        ModelRouter router = new ModelRouter(new ModelRoutingSettings(
+            new ModelRoute("fast", fastModel,
+                new GeminiRequest.GenerationConfig(fastMaxOutputTokens, fastTemperature)),
+            new ModelRoute("quality", qualityModel,
+                new GeminiRequest.GenerationConfig(qualityMaxOutputTokens, qualityTemperature,
+                    new GeminiRequest.ThinkingConfig(qualityThinkingBudget))),
+            fastTypes,
+            qualityTypes,
+            qualityMinTokens,
+            latencySlo,
+            sloPercentile,
+            window,
+            windowSize,
+            minSamples
+        ));
+        router.bindTo(meterRegistry);
+        return router;
+    }
+}
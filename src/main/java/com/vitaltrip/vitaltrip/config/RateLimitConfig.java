@@ -0,0 +1,30 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.ratelimit.RateLimitSettings;
+import com.vitaltrip.vitaltrip.common.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${app.first-aid.rate-limit.capacity:10}")
+    private int adviceCapacity;
+
+    @Value("${app.first-aid.rate-limit.refill-period:PT6S}")
+    private Duration adviceRefillPeriod;
+
+    @Value("${app.first-aid.rate-limit.max-keys:100000}")
+    private int adviceMaxKeys;
+
+    @Bean
+    public TokenBucketRateLimiter adviceRateLimiter(MeterRegistry meterRegistry) {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter("first-aid-advice",
+            new RateLimitSettings(adviceCapacity, adviceRefillPeriod, adviceMaxKeys));
+        rateLimiter.bindTo(meterRegistry);
+        return rateLimiter;
+    }
+}
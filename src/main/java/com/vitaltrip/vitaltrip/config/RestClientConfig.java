@@ -1,5 +1,9 @@
 package com.vitaltrip.vitaltrip.config;
 
+import com.vitaltrip.vitaltrip.common.http.HttpClientPoolSettings;
+import com.vitaltrip.vitaltrip.common.http.PooledClientHttpRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,11 +19,56 @@ public class RestClientConfig {
     @Value("${gemini.api.base-url}")
     private String geminiBaseUrl;
 
+    @Value("${app.gemini.http.max-total:50}")
+    private int geminiMaxTotal;
+
+    @Value("${app.gemini.http.max-per-route:20}")
+    private int geminiMaxPerRoute;
+
+    @Value("${app.gemini.http.connect-timeout:PT3S}")
+    private Duration geminiConnectTimeout;
+
+    @Value("${app.gemini.http.pool-wait-timeout:PT2S}")
+    private Duration geminiPoolWaitTimeout;
+
+    @Value("${app.gemini.http.read-timeout:PT30S}")
+    private Duration geminiReadTimeout;
+
+    @Value("${app.gemini.http.total-timeout:PT60S}")
+    private Duration geminiTotalTimeout;
+
+    @Value("${app.gemini.http.max-idle-time:PT30S}")
+    private Duration geminiMaxIdleTime;
+
+    @Value("${app.gemini.http.time-to-live:PT5M}")
+    private Duration geminiTimeToLive;
+
+    // 느린 Gemini 응답이 요청 스레드를 무기한 잡지 않도록 제한 시간과 풀 크기를 명시한다
+    @Bean
+    public PooledClientHttpRequestFactory geminiRequestFactory(MeterRegistry meterRegistry) {
+        PooledClientHttpRequestFactory requestFactory = new PooledClientHttpRequestFactory(
+            "gemini",
+            new HttpClientPoolSettings(
+                geminiMaxTotal,
+                geminiMaxPerRoute,
+                geminiConnectTimeout,
+                geminiPoolWaitTimeout,
+                geminiReadTimeout,
+                geminiTotalTimeout,
+                geminiMaxIdleTime,
+                geminiTimeToLive
+            ));
+        requestFactory.bindTo(meterRegistry);
+        return requestFactory;
+    }
+
     @Bean
     @Qualifier("geminiRestClient")
-    public RestClient geminiRestClient() {
+    public RestClient geminiRestClient(PooledClientHttpRequestFactory geminiRequestFactory) {
         return RestClient.builder()
             .baseUrl(geminiBaseUrl)
+            .requestFactory(geminiRequestFactory)
+            .requestInterceptor(geminiRequestFactory.totalDeadlineInterceptor())
             .requestInterceptor(loggingInterceptor())
             .requestInterceptor(userAgentInterceptor())
             .build();
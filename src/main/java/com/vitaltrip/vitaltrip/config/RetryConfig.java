@@ -0,0 +1,33 @@
+package com.vitaltrip.vitaltrip.config;
+
+import com.vitaltrip.vitaltrip.common.resilience.Retry;
+import com.vitaltrip.vitaltrip.common.resilience.RetrySettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RetryConfig {
+
+    @Value("${app.gemini.retry.max-attempts:3}")
+    private int geminiMaxAttempts;
+
+    @Value("${app.gemini.retry.initial-backoff:PT0.2S}")
+    private Duration geminiInitialBackoff;
+
+    @Value("${app.gemini.retry.max-backoff:PT2S}")
+    private Duration geminiMaxBackoff;
+
+    @Bean
+    public Retry geminiRetry(MeterRegistry meterRegistry) {
+        Retry retry = new Retry("gemini", new RetrySettings(
+            geminiMaxAttempts,
+            geminiInitialBackoff,
+            geminiMaxBackoff
+        ));
+        retry.bindTo(meterRegistry);
+        return retry;
+    }
+}
@@ -0,0 +1,25 @@
+package com.vitaltrip.vitaltrip.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 기본 스케줄러는 스레드 1개라 긴 작업이 다른 작업을 막는다.
+    // ClusterJobRunner 는 임대 동안 호출한 스케줄러 스레드를 붙잡으므로 주기 작업 수만큼 스레드를 둔다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+        @Value("${app.scheduling.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,25 @@
+package com.vitaltrip.vitaltrip.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SchemaConfig {
+
+    // Hibernate가 생성한 기존 스키마는 V1으로 간주하고 이후 마이그레이션만 적용한다
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+            .baselineOnMigrate(true)
+            .baselineVersion("1");
+    }
+
+    // 스키마는 db/migration 의 Flyway 마이그레이션이 관리한다
+    @Bean
+    public HibernatePropertiesCustomizer schemaManagedByMigrationsCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+    }
+}
@@ -2,6 +2,8 @@ package com.vitaltrip.vitaltrip.config;
 
 import com.vitaltrip.vitaltrip.domain.auth.filter.JwtAuthenticationFilter;
 import com.vitaltrip.vitaltrip.domain.auth.handler.SimpleOAuth2SuccessHandler;
+import com.vitaltrip.vitaltrip.domain.first_aid.filter.AdviceRateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +28,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final SimpleOAuth2SuccessHandler oAuth2SuccessHandler;
+    private final AdviceRateLimitFilter adviceRateLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -36,6 +39,9 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(스트리밍 등)의 ASYNC 디스패치는 최초 요청에서 이미 인가되었다
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 기본 경로 허용 (중요!)
                 .requestMatchers("/", "/home", "/health", "/actuator/**").permitAll()
 
@@ -71,9 +77,12 @@ public class SecurityConfig {
 
                 // first-aid 관련 임시 허용
                 .requestMatchers(
-                    "/api/first-aid/*"
+                    "/api/first-aid/**"
                 ).permitAll()
 
+                // 관리자 API
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                 // 나머지 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             )
@@ -84,6 +93,8 @@ public class SecurityConfig {
                 .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))  // 401로 변경
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 사용자 ID 로 구분하려면 인증 이후에 실행해야 한다
+            .addFilterAfter(adviceRateLimitFilter, JwtAuthenticationFilter.class)
             .headers(headers -> headers
                 .frameOptions(FrameOptionsConfig::sameOrigin)
             )
@@ -0,0 +1,52 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyPool;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyUsage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/api-keys")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - API 키", description = "관리자 전용 외부 API 키 사용량 조회 API")
+public class AdminApiKeyController {
+
+    private final ApiKeyPool geminiApiKeyPool;
+
+    @GetMapping("/gemini")
+    @Operation(
+        summary = "Gemini API 키 사용량 조회",
+        description = """
+            Gemini API 키별 최근 1분 사용량과 누적 사용량을 조회합니다. 키는 끝 4자리만 보여줍니다.
+            
+            ## 응답 필드
+            - inFlight: 진행 중인 요청 수
+            - requestsLastMinute / tokensLastMinute: 최근 1분 요청 수 / 토큰 수
+            - load: 분당 한도 대비 사용률 (요청, 토큰 중 큰 값)
+            - rateLimited: 429 를 받은 횟수
+            - quarantineRemainingSeconds: 429 로 쉬는 남은 시간 (초)
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<List<ApiKeyUsage>> getGeminiKeyUsage() {
+        return ApiResponse.success(geminiApiKeyPool.usage());
+    }
+}
@@ -0,0 +1,53 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.cache.CacheStatistics;
+import com.vitaltrip.vitaltrip.common.cache.MonitoredCache;
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - 캐시", description = "관리자 전용 애플리케이션 캐시 조회 API")
+public class AdminCacheController {
+
+    private final List<MonitoredCache> caches;
+
+    @GetMapping
+    @Operation(
+        summary = "캐시 통계 조회",
+        description = """
+            애플리케이션 캐시별 크기와 적중 통계를 조회합니다. 통계는 서버 시작 이후 누적값입니다.
+            
+            ## 응답 필드
+            - size / weight / maxWeight: 항목 수, 현재 가중치 합, 가중치 상한 (가중치가 없는 캐시는 항목 수 기준)
+            - hits / misses / hitRate: 조회 적중, 미적중 횟수와 적중률
+            - evictions: 용량 상한 때문에 제거된 항목 수
+            - expirations: TTL 이 지나 제거된 항목 수
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<List<CacheStatistics>> getCacheStatistics() {
+        return ApiResponse.success(caches.stream()
+            .map(MonitoredCache::statistics)
+            .toList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.datasource.SqlStatementProfiler;
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.domain.admin.dto.AdminDatabaseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/database")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - 데이터베이스", description = "관리자 전용 DB 진단 API")
+public class AdminDatabaseController {
+
+    private static final int MAX_STATEMENTS = 200;
+
+    private final ObjectProvider<SqlStatementProfiler> sqlStatementProfiler;
+
+    @GetMapping("/statements")
+    @Operation(
+        summary = "SQL 실행 시간 조회",
+        description = """
+            커넥션 풀 대기 시간과 SQL 실행 시간을 분리해서 조회합니다.
+            
+            ## 주의사항
+            - app.datasource.proxy.enabled=true 로 실행한 경우에만 사용할 수 있습니다.
+            - SQL 은 리터럴을 ? 로 치환한 지문 단위로 집계됩니다.
+            - 시간 단위는 밀리초이며 서버 시작 이후 누적 값입니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "SQL 프로파일링 비활성화"
+        )
+    })
+    public ApiResponse<AdminDatabaseDto.StatementProfileResponse> getStatementProfile(
+        @Parameter(description = "조회할 SQL 지문 수", example = "20")
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+
+        SqlStatementProfiler profiler = sqlStatementProfiler.getIfAvailable();
+        if (profiler == null) {
+            throw new CustomException(ErrorType.RESOURCE_NOT_FOUND,
+                "SQL 프로파일링이 비활성화되어 있습니다");
+        }
+
+        return ApiResponse.success(new AdminDatabaseDto.StatementProfileResponse(
+            profiler.connectionAcquireTiming(),
+            profiler.executionTiming(),
+            profiler.statementTimings(Math.max(1, Math.min(limit, MAX_STATEMENTS)))
+        ));
+    }
+}
@@ -0,0 +1,53 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.http.PoolStatistics;
+import com.vitaltrip.vitaltrip.common.http.PooledClientHttpRequestFactory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/http-clients")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - HTTP 클라이언트", description = "관리자 전용 외부 API 커넥션 풀 조회 API")
+public class AdminHttpClientController {
+
+    private final List<PooledClientHttpRequestFactory> requestFactories;
+
+    @GetMapping
+    @Operation(
+        summary = "HTTP 커넥션 풀 상태 조회",
+        description = """
+            외부 API 클라이언트별 커넥션 풀 상태를 조회합니다.
+            
+            ## 응답 필드
+            - leased: 사용 중인 커넥션 수
+            - pending: 커넥션을 기다리는 요청 수
+            - available: 재사용 대기 중인 유휴 커넥션 수
+            - max: 풀 최대 크기
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<List<PoolStatistics>> getPoolStatistics() {
+        return ApiResponse.success(requestFactories.stream()
+            .map(PooledClientHttpRequestFactory::poolStatistics)
+            .toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.scheduling.ClusterJobRunner;
+import com.vitaltrip.vitaltrip.domain.admin.dto.AdminJobDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - 주기 작업", description = "관리자 전용 주기 작업 조회 API")
+public class AdminJobController {
+
+    private static final int MAX_RUNS = 100;
+
+    private final ClusterJobRunner clusterJobRunner;
+
+    @GetMapping
+    @Operation(
+        summary = "주기 작업 임대 및 실행 이력 조회",
+        description = """
+            한 번 이상 실행된 주기 작업의 현재 임대 상태와 최근 실행 이력을 조회합니다.
+            
+            ## 주의사항
+            - 다른 노드가 임대를 가지고 있어 건너뛴 실행은 이력에 남지 않습니다.
+            - 실행 이력은 app.scheduling.history-retention(기본 7일) 동안 보관됩니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<List<AdminJobDto.JobSummary>> getJobs(
+        @Parameter(description = "작업별 최근 실행 이력 수", example = "10")
+        @RequestParam(value = "runs", defaultValue = "10") int runs) {
+
+        int limit = Math.max(1, Math.min(runs, MAX_RUNS));
+
+        return ApiResponse.success(clusterJobRunner.findLeases().stream()
+            .map(lease -> new AdminJobDto.JobSummary(
+                lease.jobName(),
+                lease.lockedUntil(),
+                lease.lockedBy(),
+                clusterJobRunner.findRecentRuns(lease.jobName(), limit)))
+            .toList());
+    }
+}
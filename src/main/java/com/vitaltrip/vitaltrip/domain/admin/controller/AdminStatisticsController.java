@@ -0,0 +1,86 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.TokenUsageDto;
+import com.vitaltrip.vitaltrip.domain.first_aid.usage.TokenUsageService;
+import com.vitaltrip.vitaltrip.domain.statistics.dto.UserStatisticsDto;
+import com.vitaltrip.vitaltrip.domain.statistics.service.UserStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/statistics")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - 통계", description = "관리자 전용 통계 API")
+public class AdminStatisticsController {
+
+    private final UserStatisticsService userStatisticsService;
+    private final TokenUsageService tokenUsageService;
+
+    @GetMapping("/users")
+    @Operation(
+        summary = "국가/가입 경로별 사용자 수",
+        description = """
+            탈퇴하지 않은 사용자 수를 국가 코드와 가입 경로별로 조회합니다.
+            
+            ## 주의사항
+            - users 테이블을 집계하지 않고 메모리 카운터에서 바로 응답합니다.
+            - 다른 서버 인스턴스의 변경은 체크포인트 주기(기본 1분)만큼 늦게 반영될 수 있습니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<UserStatisticsDto.UserCountResponse> getUserCounts() {
+        return ApiResponse.success(userStatisticsService.getUserCounts());
+    }
+
+    @GetMapping("/token-usage")
+    @Operation(
+        summary = "일별 AI 토큰 사용량",
+        description = """
+            응급처치 조언에 사용한 AI 토큰 수를 응급상황 분류별로, 그리고 사용량이 많은 사용자 순으로 조회합니다.
+            
+            ## 주의사항
+            - userId 0 은 로그인하지 않은 요청입니다.
+            - 각 서버 인스턴스의 사용량은 체크포인트 주기(기본 1분)마다 반영되므로 최근 사용량은 늦게 보일 수 있습니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<TokenUsageDto.DailyUsageResponse> getTokenUsage(
+        @Parameter(description = "조회할 날짜 (기본값: 오늘)", example = "2025-01-31")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @Parameter(description = "사용량 상위 사용자 수", example = "20")
+        @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(tokenUsageService.getDailyUsage(
+            date == null ? LocalDate.now() : date, Math.clamp(limit, 1, 100)));
+    }
+}
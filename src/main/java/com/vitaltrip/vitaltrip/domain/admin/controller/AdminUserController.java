@@ -0,0 +1,141 @@
+package com.vitaltrip.vitaltrip.domain.admin.controller;
+
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.domain.admin.dto.AdminUserDto;
+import com.vitaltrip.vitaltrip.domain.admin.export.ExportFormat;
+import com.vitaltrip.vitaltrip.domain.admin.search.UserSearchCondition;
+import com.vitaltrip.vitaltrip.domain.admin.service.AdminUserSearchService;
+import com.vitaltrip.vitaltrip.domain.admin.service.UserExportService;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - 사용자", description = "관리자 전용 사용자 관리 API")
+public class AdminUserController {
+
+    private final UserExportService userExportService;
+    private final AdminUserSearchService adminUserSearchService;
+
+    @GetMapping
+    @Operation(
+        summary = "사용자 검색",
+        description = """
+            국가 코드, 가입 경로, 가입일로 사용자를 필터링하여 최신 가입 순으로 조회합니다.
+            
+            ## 페이지네이션
+            - 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+            - 커서 기반(키셋) 페이지네이션이므로 페이지 깊이와 관계없이 응답 속도가 같습니다.
+            - size 는 1~100 사이로 보정됩니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "검색 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "유효하지 않은 커서 또는 가입 경로"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ApiResponse<AdminUserDto.UserSearchResponse> searchUsers(
+        @Parameter(description = "국가 코드 (ISO 3166-1 Alpha-2)", example = "KR")
+        @RequestParam(value = "countryCode", required = false) String countryCode,
+        @Parameter(description = "가입 경로 (LOCAL, GOOGLE)", example = "GOOGLE")
+        @RequestParam(value = "provider", required = false) String provider,
+        @Parameter(description = "가입일 시작 (포함)", example = "2025-01-01")
+        @RequestParam(value = "createdFrom", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @Parameter(description = "가입일 끝 (포함)", example = "2025-12-31")
+        @RequestParam(value = "createdTo", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        @Parameter(description = "이전 응답의 nextCursor")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        UserSearchCondition condition = new UserSearchCondition(
+            countryCode, parseProvider(provider), createdFrom, createdTo);
+
+        return ApiResponse.success(
+            adminUserSearchService.search(condition, cursor, size));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "사용자 내보내기",
+        description = """
+            전체 사용자를 NDJSON 또는 CSV 로 스트리밍합니다.
+            
+            ## 주의사항
+            - ADMIN 권한이 필요합니다.
+            - 결과는 DB 커서에서 읽는 즉시 전송되며 비밀번호 해시는 포함되지 않습니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "내보내기 스트림"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 형식"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "관리자 권한 없음"
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "ndjson")
+        @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(outputStream -> userExportService.export(exportFormat, outputStream));
+    }
+
+    private User.AuthProvider parseProvider(String provider) {
+        if (provider == null || provider.isBlank()) {
+            return null;
+        }
+
+        return Arrays.stream(User.AuthProvider.values())
+            .filter(value -> value.name().equalsIgnoreCase(provider))
+            .findFirst()
+            .orElseThrow(() -> new CustomException(ErrorType.INVALID_REQUEST,
+                "지원하지 않는 가입 경로입니다: " + provider));
+    }
+}
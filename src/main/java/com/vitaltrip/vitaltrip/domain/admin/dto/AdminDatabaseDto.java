@@ -0,0 +1,21 @@
+package com.vitaltrip.vitaltrip.domain.admin.dto;
+
+import com.vitaltrip.vitaltrip.common.datasource.SqlStatementProfiler;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public class AdminDatabaseDto {
+
+    public record StatementProfileResponse(
+        @Schema(description = "커넥션 풀에서 커넥션을 얻기까지 기다린 시간")
+        SqlStatementProfiler.Timing connectionAcquire,
+
+        @Schema(description = "전체 SQL 실행 시간")
+        SqlStatementProfiler.Timing statementExecution,
+
+        @Schema(description = "SQL 지문별 실행 시간. 누적 실행 시간이 큰 순서")
+        List<SqlStatementProfiler.StatementTiming> statements
+    ) {
+
+    }
+}
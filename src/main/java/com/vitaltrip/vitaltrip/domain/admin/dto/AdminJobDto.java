@@ -0,0 +1,24 @@
+package com.vitaltrip.vitaltrip.domain.admin.dto;
+
+import com.vitaltrip.vitaltrip.common.scheduling.JobRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AdminJobDto {
+
+    public record JobSummary(
+        String jobName,
+
+        @Schema(description = "이 시각 전에는 다른 노드가 작업을 시작할 수 없음")
+        LocalDateTime lockedUntil,
+
+        @Schema(description = "마지막으로 임대를 잡은 노드")
+        String lockedBy,
+
+        @Schema(description = "최근 실행 이력. 최신 순")
+        List<JobRun> recentRuns
+    ) {
+
+    }
+}
@@ -0,0 +1,31 @@
+package com.vitaltrip.vitaltrip.domain.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AdminUserDto {
+
+    public record UserSummary(
+        Long id,
+        String email,
+        String name,
+        String countryCode,
+        String provider,
+        String role,
+        LocalDateTime createdAt
+    ) {
+
+    }
+
+    public record UserSearchResponse(
+        List<UserSummary> users,
+
+        @Schema(description = "다음 페이지 커서. 마지막 페이지면 null", example = "MjAyNS0wMS0wMVQxMjowMDowMHwxMjM")
+        String nextCursor,
+
+        boolean hasNext
+    ) {
+
+    }
+}
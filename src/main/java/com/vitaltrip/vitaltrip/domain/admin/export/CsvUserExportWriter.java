@@ -0,0 +1,65 @@
+package com.vitaltrip.vitaltrip.domain.admin.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvUserExportWriter implements UserExportWriter {
+
+    private static final String HEADER =
+        "id,email,name,birthDate,countryCode,phoneNumber,provider,role,createdAt";
+
+    private final Writer writer;
+
+    public CsvUserExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(UserExportRow row) throws IOException {
+        writer.write(Long.toString(row.id()));
+        writeField(row.email());
+        writeField(row.name());
+        writeField(row.birthDate());
+        writeField(row.countryCode());
+        writeField(row.phoneNumber());
+        writeField(row.provider());
+        writeField(row.role());
+        writeField(row.createdAt());
+        writer.write('\n');
+    }
+
+    private void writeField(Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0
+            && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 응답 스트림은 컨테이너가 닫으므로 버퍼만 비운다
+        writer.flush();
+    }
+}
@@ -0,0 +1,38 @@
+package com.vitaltrip.vitaltrip.domain.admin.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+            .filter(format -> format.name().equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new CustomException(ErrorType.INVALID_REQUEST,
+                "지원하지 않는 내보내기 형식입니다: " + value));
+    }
+
+    public UserExportWriter createWriter(OutputStream outputStream, ObjectMapper objectMapper)
+        throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonUserExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvUserExportWriter(outputStream);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.vitaltrip.vitaltrip.domain.admin.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonUserExportWriter implements UserExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonUserExportWriter(OutputStream outputStream, ObjectMapper objectMapper)
+        throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(UserExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("email", row.email());
+        generator.writeStringField("name", row.name());
+        writeNullableField("birthDate", row.birthDate());
+        generator.writeStringField("countryCode", row.countryCode());
+        generator.writeStringField("phoneNumber", row.phoneNumber());
+        generator.writeStringField("provider", row.provider());
+        generator.writeStringField("role", row.role());
+        writeNullableField("createdAt", row.createdAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeNullableField(String name, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.vitaltrip.vitaltrip.domain.admin.export;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record UserExportRow(
+    long id,
+    String email,
+    String name,
+    LocalDate birthDate,
+    String countryCode,
+    String phoneNumber,
+    String provider,
+    String role,
+    LocalDateTime createdAt
+) {
+
+    public static final String COLUMNS =
+        "id, email, name, birth_date, country_code, phone_number, provider, role, created_at";
+
+    public static UserExportRow from(ResultSet resultSet) throws SQLException {
+        return new UserExportRow(
+            resultSet.getLong("id"),
+            resultSet.getString("email"),
+            resultSet.getString("name"),
+            resultSet.getObject("birth_date", LocalDate.class),
+            resultSet.getString("country_code"),
+            resultSet.getString("phone_number"),
+            resultSet.getString("provider"),
+            resultSet.getString("role"),
+            resultSet.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.vitaltrip.vitaltrip.domain.admin.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 조회된 행을 버퍼링 없이 곧바로 응답 스트림에 기록한다.
+ */
+public interface UserExportWriter extends Closeable {
+
+    void writeHeader() throws IOException;
+
+    void write(UserExportRow row) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.domain.admin.search;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import java.time.LocalDate;
+
+public record UserSearchCondition(
+    String countryCode,
+    User.AuthProvider provider,
+    LocalDate createdFrom,
+    LocalDate createdTo
+) {
+
+    public static UserSearchCondition empty() {
+        return new UserSearchCondition(null, null, null, null);
+    }
+}
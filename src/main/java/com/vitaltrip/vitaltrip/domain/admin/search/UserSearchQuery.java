@@ -0,0 +1,67 @@
+package com.vitaltrip.vitaltrip.domain.admin.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * 관리자 사용자 검색 SQL.
+ * 동등 조건 컬럼을 ORDER BY 앞에 붙여 V3 인덱스의 컬럼 순서와 정렬을 일치시킨다.
+ * 그래야 H2가 정렬 없이 인덱스 순서대로 읽다가 LIMIT 에서 멈춘다.
+ * 탈퇴 처리된 사용자는 제외한다 (deleted_at 은 인덱스에 없으므로 읽은 행에서 거른다).
+ */
+public record UserSearchQuery(String sql, MapSqlParameterSource parameters) {
+
+    public static final String COLUMNS =
+        "id, email, name, country_code, provider, role, created_at";
+
+    public static UserSearchQuery of(UserSearchCondition condition, UserSearchCursor cursor,
+        int limit) {
+
+        List<String> predicates = new ArrayList<>();
+        predicates.add("deleted_at IS NULL");
+        List<String> orderBy = new ArrayList<>();
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+
+        if (condition.countryCode() != null) {
+            predicates.add("country_code = :countryCode");
+            orderBy.add("country_code");
+            parameters.addValue("countryCode", condition.countryCode());
+        }
+
+        if (condition.provider() != null) {
+            predicates.add("provider = :provider");
+            orderBy.add("provider");
+            parameters.addValue("provider", condition.provider().name());
+        }
+
+        if (condition.createdFrom() != null) {
+            predicates.add("created_at >= :createdFrom");
+            parameters.addValue("createdFrom", condition.createdFrom().atStartOfDay());
+        }
+
+        if (condition.createdTo() != null) {
+            predicates.add("created_at < :createdTo");
+            parameters.addValue("createdTo", condition.createdTo().plusDays(1).atStartOfDay());
+        }
+
+        if (cursor != null) {
+            // created_at <= 조건은 인덱스 범위 탐색용, 괄호 안은 같은 created_at 내 id 순서 처리
+            predicates.add("created_at <= :cursorCreatedAt");
+            predicates.add("(created_at < :cursorCreatedAt OR id < :cursorId)");
+            parameters.addValue("cursorCreatedAt", cursor.createdAt());
+            parameters.addValue("cursorId", cursor.id());
+        }
+
+        orderBy.add("created_at DESC");
+        orderBy.add("id DESC");
+        parameters.addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM users")
+            .append(" WHERE ").append(String.join(" AND ", predicates))
+            .append(" ORDER BY ").append(String.join(", ", orderBy))
+            .append(" FETCH FIRST :limit ROWS ONLY");
+
+        return new UserSearchQuery(sql.toString(), parameters);
+    }
+}
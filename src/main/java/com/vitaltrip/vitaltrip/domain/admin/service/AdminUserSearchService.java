@@ -0,0 +1,63 @@
+package com.vitaltrip.vitaltrip.domain.admin.service;
+
+import com.vitaltrip.vitaltrip.domain.admin.dto.AdminUserDto;
+import com.vitaltrip.vitaltrip.domain.admin.search.UserSearchCondition;
+import com.vitaltrip.vitaltrip.domain.admin.search.UserSearchCursor;
+import com.vitaltrip.vitaltrip.domain.admin.search.UserSearchQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminUserSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final RowMapper<AdminUserDto.UserSummary> USER_SUMMARY_MAPPER =
+        (resultSet, rowNum) -> new AdminUserDto.UserSummary(
+            resultSet.getLong("id"),
+            resultSet.getString("email"),
+            resultSet.getString("name"),
+            resultSet.getString("country_code"),
+            resultSet.getString("provider"),
+            resultSet.getString("role"),
+            resultSet.getObject("created_at", LocalDateTime.class)
+        );
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * (createdAt, id) 키셋 페이지네이션. OFFSET 을 쓰지 않으므로 몇 번째 페이지든 비용이 같다.
+     */
+    public AdminUserDto.UserSearchResponse search(UserSearchCondition condition, String cursor,
+        int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        UserSearchCursor position = cursor == null || cursor.isBlank()
+            ? null
+            : UserSearchCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다
+        UserSearchQuery query = UserSearchQuery.of(condition, position, pageSize + 1);
+        List<AdminUserDto.UserSummary> rows = namedParameterJdbcTemplate.query(
+            query.sql(), query.parameters(), USER_SUMMARY_MAPPER);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AdminUserDto.UserSummary> users = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AdminUserDto.UserSummary last = users.getLast();
+            nextCursor = new UserSearchCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new AdminUserDto.UserSearchResponse(List.copyOf(users), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,68 @@
+package com.vitaltrip.vitaltrip.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.admin.export.ExportFormat;
+import com.vitaltrip.vitaltrip.domain.admin.export.UserExportRow;
+import com.vitaltrip.vitaltrip.domain.admin.export.UserExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    // 탈퇴 처리된 사용자는 삭제 작업이 지우기 전이라도 내보내지 않는다
+    private static final String EXPORT_SQL = "SELECT " + UserExportRow.COLUMNS
+        + " FROM users WHERE deleted_at IS NULL ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.admin.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * 전방향 커서로 사용자를 한 행씩 읽어 곧바로 출력 스트림에 기록한다.
+     * 결과를 List 로 모으지 않으므로 사용자 수와 관계없이 힙 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        AtomicLong exported = new AtomicLong();
+
+        try (UserExportWriter writer = format.createWriter(outputStream, objectMapper)) {
+            writer.writeHeader();
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                try {
+                    writer.write(UserExportRow.from(resultSet));
+                    exported.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 - 커서는 JdbcTemplate 이 닫는다
+            throw e.getCause();
+        }
+
+        log.info("User export completed. format: {}, rows: {}", format, exported.get());
+        return exported.get();
+    }
+}
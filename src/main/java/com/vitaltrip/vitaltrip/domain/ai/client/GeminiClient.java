@@ -2,16 +2,42 @@ package com.vitaltrip.vitaltrip.domain.ai.client;
 
 import com.vitaltrip.vitaltrip.common.exception.CustomException;
 import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.http.PooledClientHttpRequestFactory;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyPool;
+import com.vitaltrip.vitaltrip.common.resilience.AdaptiveConcurrencyLimiter;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.common.resilience.RequestHedger;
+import com.vitaltrip.vitaltrip.common.resilience.Retry;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
 import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResponse;
-import java.util.List;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResult;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiStreamResult;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRoute;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 
 @Slf4j
 @Component
@@ -19,54 +45,438 @@ import org.springframework.web.client.RestClientException;
 public class GeminiClient {
 
     private final RestClient geminiRestClient;
+    private final PooledClientHttpRequestFactory geminiRequestFactory;
+    private final GeminiJsonCodec geminiJsonCodec;
+    private final CircuitBreaker geminiCircuitBreaker;
+    private final Retry geminiRetry;
+    private final RequestHedger geminiRequestHedger;
+    private final AdaptiveConcurrencyLimiter geminiConcurrencyLimiter;
+    private final GeminiContextCache geminiContextCache;
+    private final ApiKeyPool geminiApiKeyPool;
 
-    @Value("${gemini.api.key}")
-    private String apiKey;
+    @Value("${app.gemini.retry.retryable-statuses:429,500,502,503,504}")
+    private Set<Integer> retryableStatuses;
 
-    private static final String MODEL = "gemini-2.0-flash";
+    // 경로를 고르지 않은 호출은 모델 기본 생성 설정으로 보낸다
+    public static final ModelRoute DEFAULT_ROUTE = new ModelRoute("default", "gemini-2.0-flash",
+        null);
 
     public String generateContent(String prompt) {
-        log.info("Generating content with {} model, prompt length: {}", MODEL, prompt.length());
+        GeminiResult result = generate(prompt, new RequestCancellation());
+        if (!result.hasText()) {
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
+                "Gemini API 응답에서 텍스트를 추출할 수 없습니다 (finishReason: "
+                    + result.finishReason() + ")");
+        }
+        return result.text();
+    }
 
-        Map<String, Object> request = Map.of(
-            "contents", List.of(
-                Map.of("parts", List.of(
-                    Map.of("text", prompt)
-                ))
-            )
-        );
+    /**
+     * 생성된 텍스트와 finishReason 을 함께 돌려준다.
+     * cancellation.cancel() 을 호출하면 응답을 기다리는 중이어도 업스트림 요청을 중단한다.
+     * 회로가 열려 있으면 호출하지 않고 SERVICE_UNAVAILABLE 로 바로 실패한다.
+     * 재시도할 수 있는 상태 코드와 네트워크 오류는 백오프 후 다시 시도하고,
+     * 헤징이 켜져 있으면 느린 요청에 같은 요청을 하나 더 보내 먼저 온 응답을 쓴다.
+     * 동시 호출 수는 관측한 지연에 따라 조절되며, 한도가 차면 잠시 기다리거나 CONCURRENCY_LIMITED 로 실패한다.
+     * 텍스트 없이 끝난 정상 응답(SAFETY, MAX_TOKENS 등)은 실패로 세지 않고 그대로 돌려주므로 호출자가 대안을 고른다.
+     * 시도마다 키 풀에서 가장 여유 있는 API 키를 고르므로, 429 를 받은 키 대신 다른 키로 재시도한다.
+     */
+    public GeminiResult generate(String prompt, RequestCancellation cancellation) {
+        return generate(DEFAULT_ROUTE, null, prompt, cancellation);
+    }
+
+    /**
+     * systemInstruction 은 API 키별 컨텍스트 캐시에 올려 두고 이름만 보낸다. 캐시를 쓸 수 없으면 요청에 직접 넣으며,
+     * Gemini 가 캐시를 찾지 못하면(만료, 삭제) 캐시를 무효화하고 지시문을 직접 넣어 같은 키로 한 번 더 보낸다.
+     *
+     * 요청은 route 의 모델로 보내며 route 의 최대 출력 토큰 수와 temperature 를 쓴다.
+     *
+     * @param systemInstruction 없으면 null
+     */
+    public GeminiResult generate(ModelRoute route, String systemInstruction, String prompt,
+        RequestCancellation cancellation) {
+        RequestBodies requests = new RequestBodies(route, systemInstruction, prompt);
+        return geminiRetry.execute(cancellation,
+            () -> geminiRequestHedger.call(cancellation,
+                attemptCancellation -> attemptGenerate(requests, cancellation,
+                    attemptCancellation)),
+            this::isRetryable);
+    }
 
+    private GeminiResult attemptGenerate(RequestBodies requests,
+        RequestCancellation cancellation,
+        RequestCancellation attemptCancellation) {
+        CallPermits permits = acquirePermission(attemptCancellation);
+        ApiKeyPool.Lease lease = geminiApiKeyPool.acquire();
+        long start = System.nanoTime();
         try {
-            GeminiResponse response = geminiRestClient.post()
-                .uri("/{model}:generateContent?key={apiKey}", MODEL, apiKey)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(request)
-                .retrieve()
-                .body(GeminiResponse.class);
-
-            if (response == null) {
-                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
-                    "Gemini API 응답이 null입니다");
+            GeminiResult result = requests.send(lease.apiKey(),
+                request -> doGenerate(requests.model(), lease.apiKey(), request,
+                    attemptCancellation));
+            long latency = System.nanoTime() - start;
+            permits.circuit().onSuccess(latency);
+            permits.limit().success(latency);
+            lease.complete(result.usage().totalTokens());
+            return result;
+        } catch (RuntimeException e) {
+            reportKeyFailure(lease, e);
+            if (attemptCancellation.isCancelled() && !cancellation.isCancelled()) {
+                // 헤징에서 다른 요청이 먼저 끝나 중단된 요청은 Gemini 상태와 무관하다
+                permits.circuit().release();
+                permits.limit().ignore();
+            } else {
+                // 호출자의 제한 시간 초과로 취소된 호출도 실패로 센다
+                permits.circuit().onFailure(System.nanoTime() - start);
+                if (cancellation.isCancelled() || isOverloaded(e)) {
+                    permits.limit().dropped();
+                } else {
+                    permits.limit().ignore();
+                }
             }
+            throw e;
+        }
+    }
 
-            String generatedText = response.getGeneratedText();
-            if (generatedText == null || generatedText.trim().isEmpty()) {
-                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
-                    "Gemini API 응답에서 텍스트를 추출할 수 없습니다");
+    /**
+     * streamGenerateContent(SSE)로 생성된 텍스트를 도착하는 대로 onText 에 넘긴다.
+     * onText 가 블로킹되면 업스트림 읽기도 멈추므로 느린 소비자에게 자연스럽게 배압이 걸린다.
+     * cancellation.cancel() 을 호출하면 진행 중인 업스트림 요청을 중단한다.
+     * 회로가 열려 있으면 호출하지 않고 SERVICE_UNAVAILABLE 로 바로 실패한다.
+     * 첫 조각을 넘기기 전에 실패한 경우에만 재시도한다.
+     * 동시 호출 한도는 첫 조각을 받으면 반납하므로, 스트림 전체의 동시 실행 수는 호출자가 따로 제한해야 한다.
+     */
+    public GeminiStreamResult streamContent(String prompt, RequestCancellation cancellation,
+        Consumer<String> onText) {
+        return streamContent(DEFAULT_ROUTE, null, prompt, cancellation, onText);
+    }
+
+    /**
+     * systemInstruction 과 API 키는 generate 와 같이 고른다. 캐시를 찾지 못한 실패는 첫 조각 전에 나므로
+     * 지시문을 직접 넣어 다시 보내도 클라이언트에 중복된 조각이 가지 않는다.
+     *
+     * @param systemInstruction 없으면 null
+     */
+    public GeminiStreamResult streamContent(ModelRoute route, String systemInstruction,
+        String prompt, RequestCancellation cancellation, Consumer<String> onText) {
+        RequestBodies requests = new RequestBodies(route, systemInstruction, prompt);
+        long[] firstChunkAt = {0};
+        return geminiRetry.execute(cancellation,
+            () -> attemptStream(requests, cancellation, onText, firstChunkAt),
+            e -> firstChunkAt[0] == 0 && isRetryable(e));
+    }
+
+    private GeminiStreamResult attemptStream(RequestBodies requests,
+        RequestCancellation cancellation, Consumer<String> onText, long[] firstChunkAt) {
+        CallPermits permits = acquirePermission(cancellation);
+        ApiKeyPool.Lease lease = geminiApiKeyPool.acquire();
+        long start = System.nanoTime();
+        try {
+            GeminiStreamResult result = requests.send(lease.apiKey(),
+                request -> doStreamContent(requests.model(), lease.apiKey(), request,
+                    cancellation, text -> {
+                        if (firstChunkAt[0] == 0) {
+                            firstChunkAt[0] = System.nanoTime();
+                            // 한도는 재는 지연과 같은 구간만 잡도록 첫 조각에서 반납한다.
+                            // 이후 실패는 반납된 Permit 에 알려도 무시된다
+                            permits.limit().success(firstChunkAt[0] - start);
+                        }
+                        onText.accept(text);
+                    }));
+            // 스트림 전체 길이는 생성 분량에 따라 달라지므로 첫 조각까지의 지연으로 판단한다
+            long latency = (firstChunkAt[0] == 0 ? System.nanoTime() : firstChunkAt[0]) - start;
+            permits.circuit().onSuccess(latency);
+            permits.limit().success(latency);
+            lease.complete(result.usage().totalTokens());
+            return result;
+        } catch (RuntimeException e) {
+            reportKeyFailure(lease, e);
+            if (cancellation.isCancelled()) {
+                // 클라이언트가 끊은 스트림은 Gemini 상태와 무관하다
+                permits.circuit().release();
+                permits.limit().ignore();
+            } else {
+                permits.circuit().onFailure(System.nanoTime() - start);
+                if (isOverloaded(e)) {
+                    permits.limit().dropped();
+                } else {
+                    permits.limit().ignore();
+                }
             }
+            throw e;
+        }
+    }
+
+    /**
+     * 재시도할 수 있는 상태 코드 응답이나 연결/읽기 오류로 실패한 호출인지.
+     */
+    private boolean isRetryable(RuntimeException e) {
+        return switch (e.getCause()) {
+            case RestClientResponseException responseException ->
+                retryableStatuses.contains(responseException.getStatusCode().value());
+            case ResourceAccessException ignored -> true;
+            case null, default -> false;
+        };
+    }
+
+    /**
+     * 요청에 넣은 cachedContent 를 Gemini 가 찾지 못한 실패인지. 만료되었거나 지워진 캐시는 404 또는
+     * "CachedContent not found" 메시지의 403 으로 온다. 키 권한 문제 같은 다른 403 은 포함하지 않는다.
+     */
+    private static boolean isCachedContentMissing(CustomException e) {
+        if (!(e.getCause() instanceof RestClientResponseException responseException)) {
+            return false;
+        }
+        int status = responseException.getStatusCode().value();
+        return status == 404 || (status == 403 && responseException.getResponseBodyAsString()
+            .toLowerCase(Locale.ROOT).contains("cachedcontent"));
+    }
+
+    private static boolean isForbidden(CustomException e) {
+        return e.getCause() instanceof RestClientResponseException responseException
+            && responseException.getStatusCode().value() == 403;
+    }
+
+    /**
+     * 429 를 받은 키는 키 풀이 한동안 고르지 않는다. Retry-After 가 초 단위로 오면 그만큼 쉰다.
+     */
+    private static void reportKeyFailure(ApiKeyPool.Lease lease, RuntimeException e) {
+        if (e.getCause() instanceof RestClientResponseException responseException
+            && responseException.getStatusCode().value() == 429) {
+            lease.rateLimited(retryAfter(responseException));
+        } else {
+            lease.complete(0);
+        }
+    }
 
-            log.info("Content generation completed successfully. Response length: {}",
-                generatedText.length());
-            return generatedText;
+    private static Duration retryAfter(RestClientResponseException e) {
+        String retryAfter = e.getResponseHeaders() == null ? null
+            : e.getResponseHeaders().getFirst("Retry-After");
+        if (retryAfter == null || !retryAfter.trim().matches("\\d{1,9}")) {
+            return null;
+        }
+        return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+    }
+
+    private byte[] writeRequest(ModelRoute route, String systemInstruction, String cachedContent,
+        String prompt) {
+        GeminiRequest request = GeminiRequest.ofPrompt(prompt)
+            .withGenerationConfig(route.generationConfig());
+        if (cachedContent != null) {
+            request = request.withCachedContent(cachedContent);
+        } else if (systemInstruction != null) {
+            request = request.withSystemInstruction(systemInstruction);
+        }
+        return geminiJsonCodec.writeRequest(request);
+    }
+
+    /**
+     * 업스트림이 과부하를 알린 실패인지 (429, 503, 연결/읽기 시간 초과).
+     */
+    private boolean isOverloaded(RuntimeException e) {
+        return switch (e.getCause()) {
+            case RestClientResponseException responseException ->
+                responseException.getStatusCode().value() == 429
+                    || responseException.getStatusCode().value() == 503;
+            case ResourceAccessException ignored -> true;
+            case null, default -> false;
+        };
+    }
+
+    /**
+     * 동시 호출 한도를 먼저 받고(필요하면 대기열에서 기다린다) 회로 차단기 허가를 받는다.
+     */
+    private CallPermits acquirePermission(RequestCancellation cancellation) {
+        AdaptiveConcurrencyLimiter.Permit permit = geminiConcurrencyLimiter.acquire(cancellation);
+        Optional<CircuitBreaker.Permission> circuitPermission =
+            geminiCircuitBreaker.tryAcquirePermission();
+        if (circuitPermission.isEmpty()) {
+            permit.ignore();
+            throw new CustomException(ErrorType.SERVICE_UNAVAILABLE,
+                "Gemini 호출이 일시적으로 차단되었습니다");
+        }
+        return new CallPermits(permit, circuitPermission.get());
+    }
+
+    private GeminiResult doGenerate(String model, String apiKey, byte[] request,
+        RequestCancellation cancellation) {
+        log.info("Generating content with {} model, request size: {} bytes", model, request.length);
+
+        try {
+            GeminiResponse response = geminiRequestFactory.executeCancellable(cancellation,
+                () -> geminiRestClient.post()
+                    .uri("/{model}:generateContent?key={apiKey}", model, apiKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .exchange((clientRequest, httpResponse) -> {
+                        throwIfError(httpResponse);
+                        return geminiJsonCodec.readResponse(httpResponse.getBody());
+                    }));
+
+            String generatedText = response.text() == null ? "" : response.text();
+            GeminiUsage usage = response.usage() == null ? GeminiUsage.EMPTY : response.usage();
+            if (generatedText.isBlank()) {
+                // Gemini 는 정상적으로 응답했으므로 회로 차단기 실패로 세지 않는다
+                log.warn("Gemini 응답에 텍스트가 없습니다. finishReason: {}, totalTokens: {}",
+                    response.finishReason(), usage.totalTokens());
+            } else {
+                log.info("Content generation completed successfully. Response length: {}, finishReason: {}, totalTokens: {}",
+                    generatedText.length(), response.finishReason(), usage.totalTokens());
+            }
+            return new GeminiResult(generatedText, response.finishReason(), usage);
 
         } catch (RestClientException e) {
+            if (cancellation.isCancelled()) {
+                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "Gemini 호출이 취소되었습니다");
+            }
             log.error("Gemini API 호출 실패", e);
             throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
-                "Gemini API 호출 실패: " + e.getMessage());
+                "Gemini API 호출 실패: " + e.getMessage(), e);
         } catch (Exception e) {
             log.error("컨텐츠 생성 중 예상치 못한 오류", e);
             throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
-                "컨텐츠 생성 실패: " + e.getMessage());
+                "컨텐츠 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private GeminiStreamResult doStreamContent(String model, String apiKey, byte[] request,
+        RequestCancellation cancellation, Consumer<String> onText) {
+        log.info("Streaming content with {} model, request size: {} bytes", model, request.length);
+
+        try {
+            GeminiStreamResult result = geminiRequestFactory.executeCancellable(cancellation,
+                () -> geminiRestClient.post()
+                    .uri("/{model}:streamGenerateContent?alt=sse&key={apiKey}", model, apiKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(request)
+                    .exchange((clientRequest, response) -> {
+                        throwIfError(response);
+                        return readStream(response.getBody(), onText);
+                    }));
+
+            log.info("Content streaming completed. chunks: {}, length: {}, finishReason: {}",
+                result.chunkCount(), result.textLength(), result.finishReason());
+            return result;
+
+        } catch (RestClientException e) {
+            if (cancellation.isCancelled()) {
+                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "Gemini 스트리밍이 취소되었습니다");
+            }
+            log.error("Gemini 스트리밍 API 호출 실패", e);
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR,
+                "Gemini API 호출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private GeminiStreamResult readStream(InputStream body, Consumer<String> onText)
+        throws IOException {
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String finishReason = null;
+        // usageMetadata 는 조각마다 누적값으로 오므로 마지막 값을 쓴다
+        GeminiUsage usage = GeminiUsage.EMPTY;
+        int chunkCount = 0;
+        int textLength = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+
+            GeminiResponse chunk = geminiJsonCodec.readResponse(line.substring(5).trim());
+            if (chunk.finishReason() != null) {
+                finishReason = chunk.finishReason();
+            }
+            if (chunk.usage() != null) {
+                usage = chunk.usage();
+            }
+
+            String text = chunk.text();
+            if (text != null && !text.isEmpty()) {
+                onText.accept(text);
+                chunkCount++;
+                textLength += text.length();
+            }
+        }
+
+        return new GeminiStreamResult(finishReason, chunkCount, textLength, usage);
+    }
+
+    // retrieve() 의 기본 오류 처리와 같이 오류 상태는 RestClientResponseException 으로 던진다
+    // 403 이 캐시 문제인지 구분할 수 있도록 오류 본문을 예외에 담는다
+    private static void throwIfError(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().isError()) {
+            throw new RestClientResponseException(
+                response.getStatusCode().toString(), response.getStatusCode(),
+                response.getStatusText(), response.getHeaders(),
+                response.getBody().readAllBytes(), StandardCharsets.UTF_8);
         }
     }
+
+    /**
+     * 한 호출의 요청 본문. 컨텍스트 캐시가 키마다 다르므로 본문도 키마다 처음 쓸 때 한 번만 만들어,
+     * 재시도와 헤징 요청이 같은 본문을 다시 직렬화하지 않게 한다.
+     */
+    private final class RequestBodies {
+
+        private final ModelRoute route;
+        private final String systemInstruction;
+        private final String prompt;
+        private final Map<String, RequestBody> bodies = new ConcurrentHashMap<>();
+
+        private RequestBodies(ModelRoute route, String systemInstruction, String prompt) {
+            this.route = route;
+            this.systemInstruction = systemInstruction;
+            this.prompt = prompt;
+        }
+
+        private String model() {
+            return route.model();
+        }
+
+        /**
+         * Gemini 가 본문의 캐시를 찾지 못하면 이 키의 캐시를 무효화하고 지시문을 직접 넣은 본문으로 한 번 더 보낸다.
+         * 캐시 때문인지 알 수 없는 403 은 키 자체의 권한 문제일 수 있으므로 캐시만 무효화하고 다시 보내지 않는다.
+         */
+        private <T> T send(String apiKey, Function<byte[], T> sender) {
+            RequestBody body = bodies.computeIfAbsent(apiKey, key -> write(
+                geminiContextCache.find(route.model(), key, systemInstruction)));
+            try {
+                return sender.apply(body.bytes());
+            } catch (CustomException e) {
+                if (body.cachedContent() == null
+                    || !(isCachedContentMissing(e) || isForbidden(e))) {
+                    throw e;
+                }
+                geminiContextCache.invalidate(route.model(), apiKey, systemInstruction,
+                    body.cachedContent());
+                if (!isCachedContentMissing(e)) {
+                    bodies.remove(apiKey, body);
+                    throw e;
+                }
+                RequestBody inline = write(null);
+                bodies.put(apiKey, inline);
+                return sender.apply(inline.bytes());
+            }
+        }
+
+        private RequestBody write(String cachedContent) {
+            return new RequestBody(
+                writeRequest(route, systemInstruction, cachedContent, prompt), cachedContent);
+        }
+    }
+
+    private record RequestBody(byte[] bytes, String cachedContent) {
+
+    }
+
+    /**
+     * 호출 하나가 받은 동시 호출 한도와 회로 차단기 허가. 둘 다 결과를 한 번씩 알려야 한다.
+     */
+    private record CallPermits(AdaptiveConcurrencyLimiter.Permit limit,
+                               CircuitBreaker.Permission circuit) {
+
+    }
 }
@@ -0,0 +1,230 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiCachedContent;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 요청마다 같은 시스템 지시문을 Gemini cachedContents 에 모델과 API 키별로 한 번 올려 두고 그 이름을 돌려준다.
+ * 캐시는 키가 속한 프로젝트에서만 보이므로 키 풀의 키마다 따로 만든다.
+ * 요청은 cachedContent 로 이름만 보내므로 지시문을 다시 보내지 않고, 캐시된 입력 토큰도 할인된다.
+ *
+ * <p>캐시는 만료 refresh-before 전에 스케줄러가 ttl 을 연장하며, ttl 동안 쓰이지 않은 캐시는 연장하지 않는다.
+ * 만들기에 실패하면(지시문이 모델의 최소 캐시 토큰 수보다 짧은 경우 등) retry-after 동안 다시 시도하지 않으며,
+ * 그동안 호출자는 시스템 지시문을 요청에 직접 넣는다. 캐시를 만드는 중인 다른 요청도 기다리지 않고 직접 넣는다.
+ */
+@Slf4j
+@Component
+public class GeminiContextCache {
+
+    private final RestClient geminiRestClient;
+    private final String apiRoot;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final Duration retryAfter;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+    private final Counter createSuccessCounter;
+    private final Counter createFailureCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+
+    public GeminiContextCache(RestClient geminiRestClient,
+        @Value("${gemini.api.base-url}") String baseUrl,
+        @Value("${app.gemini.context-cache.enabled:true}") boolean enabled,
+        @Value("${app.gemini.context-cache.ttl:PT1H}") Duration ttl,
+        @Value("${app.gemini.context-cache.refresh-before:PT10M}") Duration refreshBefore,
+        @Value("${app.gemini.context-cache.retry-after:PT10M}") Duration retryAfter,
+        MeterRegistry meterRegistry) {
+        this.geminiRestClient = geminiRestClient;
+        // base-url 은 .../v1beta/models 이고 cachedContents 는 그 옆에 있다
+        this.apiRoot = baseUrl.replaceFirst("/models/?$", "");
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.retryAfter = retryAfter;
+
+        this.hitCounter = requests(meterRegistry, "hit");
+        this.missCounter = requests(meterRegistry, "miss");
+        this.staleCounter = requests(meterRegistry, "stale");
+        this.createSuccessCounter = operations(meterRegistry, "create", "success");
+        this.createFailureCounter = operations(meterRegistry, "create", "failure");
+        this.refreshSuccessCounter = operations(meterRegistry, "refresh", "success");
+        this.refreshFailureCounter = operations(meterRegistry, "refresh", "failure");
+        Gauge.builder("gemini.context_cache.entries", entries,
+                cached -> cached.values().stream().filter(entry -> entry.name != null).count())
+            .register(meterRegistry);
+    }
+
+    /**
+     * systemInstruction 을 올려 둔 캐시 이름. 캐시를 쓸 수 없으면 null 이며, 호출자는 지시문을 요청에 직접 넣는다.
+     */
+    public String find(String model, String apiKey, String systemInstruction) {
+        if (!enabled || systemInstruction == null) {
+            return null;
+        }
+
+        Key key = new Key(model, apiKey, systemInstruction);
+        Entry entry = entries.computeIfAbsent(key,
+            ignored -> new Entry());
+        long now = System.nanoTime();
+        entry.lastUsedAt = now;
+
+        String name = entry.name;
+        if (name != null && now - entry.expiresAt < 0) {
+            hitCounter.increment();
+            return name;
+        }
+        if (now - entry.retryAt < 0 || !entry.busy.compareAndSet(false, true)) {
+            missCounter.increment();
+            return null;
+        }
+        try {
+            missCounter.increment();
+            return create(key, entry);
+        } finally {
+            entry.busy.set(false);
+        }
+    }
+
+    /**
+     * Gemini 가 name 캐시를 쓰지 못했을 때(만료, 삭제, 권한 거부) 호출한다. 다음 요청에서 새로 만든다.
+     */
+    public void invalidate(String model, String apiKey, String systemInstruction, String name) {
+        Entry entry = entries.get(new Key(model, apiKey, systemInstruction));
+        if (entry != null && name.equals(entry.name)) {
+            entry.name = null;
+            staleCounter.increment();
+            log.info("Gemini 컨텍스트 캐시 {} 를 찾을 수 없어 다시 만듭니다", name);
+        }
+    }
+
+    /**
+     * 곧 만료될 캐시의 ttl 을 연장한다. ttl 동안 쓰이지 않은 캐시는 연장하지 않고 목록에서 지운다.
+     * 각 노드가 자기 캐시만 관리하므로 클러스터 잡으로 돌리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.gemini.context-cache.refresh-interval:PT1M}",
+        initialDelayString = "${app.gemini.context-cache.refresh-interval:PT1M}")
+    public void refresh() {
+        long now = System.nanoTime();
+        entries.forEach((key, entry) -> {
+            if (now - entry.lastUsedAt > ttl.toNanos()) {
+                entries.remove(key, entry);
+                return;
+            }
+            String name = entry.name;
+            if (name == null || entry.expiresAt - now > refreshBefore.toNanos()
+                || !entry.busy.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                extend(key, name, entry);
+            } finally {
+                entry.busy.set(false);
+            }
+        });
+    }
+
+    private String create(Key key, Entry entry) {
+        long startedAt = System.nanoTime();
+        try {
+            GeminiCachedContent created = geminiRestClient.post()
+                .uri(uri("/cachedContents", key.apiKey()).build().toUri())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new GeminiCachedContent(null, "models/" + key.model(),
+                    GeminiRequest.Content.ofText(key.systemInstruction()), ttlValue()))
+                .retrieve()
+                .body(GeminiCachedContent.class);
+            if (created == null || created.name() == null) {
+                throw new RestClientException("cachedContents 응답에 name 이 없습니다");
+            }
+
+            entry.expiresAt = startedAt + ttl.toNanos();
+            entry.name = created.name();
+            createSuccessCounter.increment();
+            log.info("Gemini 컨텍스트 캐시 {} 를 만들었습니다 (model: {}, ttl: {})",
+                created.name(), key.model(), ttl);
+            return created.name();
+        } catch (RestClientException e) {
+            entry.retryAt = System.nanoTime() + retryAfter.toNanos();
+            createFailureCounter.increment();
+            log.warn("Gemini 컨텍스트 캐시를 만들 수 없어 {} 동안 시스템 지시문을 요청마다 보냅니다: {}",
+                retryAfter, e.getMessage());
+            return null;
+        }
+    }
+
+    private void extend(Key key, String name, Entry entry) {
+        long startedAt = System.nanoTime();
+        try {
+            geminiRestClient.patch()
+                .uri(uri("/" + name, key.apiKey()).queryParam("updateMask", "ttl").build()
+                    .toUri())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new GeminiCachedContent(null, null, null, ttlValue()))
+                .retrieve()
+                .toBodilessEntity();
+            entry.expiresAt = startedAt + ttl.toNanos();
+            refreshSuccessCounter.increment();
+        } catch (RestClientException e) {
+            // 다음 요청이 새로 만든다
+            entry.name = null;
+            refreshFailureCounter.increment();
+            log.warn("Gemini 컨텍스트 캐시 {} 의 ttl 을 연장하지 못했습니다: {}", name, e.getMessage());
+        }
+    }
+
+    private UriComponentsBuilder uri(String path, String apiKey) {
+        return UriComponentsBuilder.fromUriString(apiRoot + path).queryParam("key", apiKey);
+    }
+
+    private String ttlValue() {
+        return ttl.toSeconds() + "s";
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gemini.context_cache.requests")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static Counter operations(MeterRegistry meterRegistry, String operation,
+        String result) {
+        return Counter.builder("gemini.context_cache.operations")
+            .tags("operation", operation, "result", result)
+            .register(meterRegistry);
+    }
+
+    private record Key(String model, String apiKey, String systemInstruction) {
+
+    }
+
+    private static final class Entry {
+
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile String name;
+        // System.nanoTime() 기준
+        private volatile long expiresAt;
+        private volatile long retryAt = System.nanoTime();
+        private volatile long lastUsedAt;
+    }
+}
@@ -0,0 +1,176 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResponse;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 요청을 직렬화하고 응답을 스트리밍 파서로 읽는다.
+ *
+ * <p>응답에서는 첫 후보의 첫 텍스트 조각, finishReason, usageMetadata 만 읽고
+ * 나머지 후보와 safetyRatings 등은 객체를 만들지 않고 건너뛴다.
+ */
+@Component
+public class GeminiJsonCodec {
+
+    private final ObjectWriter requestWriter;
+    private final JsonFactory jsonFactory;
+
+    public GeminiJsonCodec(ObjectMapper objectMapper) {
+        this.requestWriter = objectMapper.writerFor(GeminiRequest.class);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public byte[] writeRequest(GeminiRequest request) {
+        try {
+            return requestWriter.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public GeminiResponse readResponse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readResponse(parser);
+        }
+    }
+
+    public GeminiResponse readResponse(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return readResponse(parser);
+        }
+    }
+
+    private GeminiResponse readResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Gemini 응답이 JSON 객체가 아닙니다");
+        }
+
+        Candidate candidate = null;
+        GeminiUsage usage = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "candidates" -> candidate = readFirstCandidate(parser, value);
+                case "usageMetadata" -> usage = readUsage(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return candidate == null
+            ? new GeminiResponse(null, null, usage)
+            : new GeminiResponse(candidate.text(), candidate.finishReason(), usage);
+    }
+
+    private Candidate readFirstCandidate(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        Candidate candidate = null;
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            candidate = readCandidate(parser);
+            token = parser.nextToken();
+        }
+        // 나머지 후보는 읽지 않는다
+        while (token != null && token != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+        return candidate;
+    }
+
+    private Candidate readCandidate(JsonParser parser) throws IOException {
+        String text = null;
+        String finishReason = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "content" -> text = readContentText(parser, value);
+                case "finishReason" -> finishReason = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Candidate(text, finishReason);
+    }
+
+    private String readContentText(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if ("parts".equals(field) && fieldValue == JsonToken.START_ARRAY) {
+                text = readFirstText(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return text;
+    }
+
+    private String readFirstText(JsonParser parser) throws IOException {
+        String text = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (text == null && "text".equals(field)) {
+                    text = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return text;
+    }
+
+    private GeminiUsage readUsage(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        int promptTokens = 0;
+        int candidatesTokens = 0;
+        int totalTokens = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "promptTokenCount" -> promptTokens = parser.getValueAsInt();
+                case "candidatesTokenCount" -> candidatesTokens = parser.getValueAsInt();
+                case "totalTokenCount" -> totalTokens = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new GeminiUsage(promptTokens, candidatesTokens, totalTokens);
+    }
+
+    private record Candidate(String text, String finishReason) {
+
+    }
+}
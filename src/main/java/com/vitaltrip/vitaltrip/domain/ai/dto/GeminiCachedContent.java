@@ -0,0 +1,23 @@
+package com.vitaltrip.vitaltrip.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * cachedContents 생성/갱신 요청 본문과 응답. 응답에서는 name 만 사용한다.
+ *
+ * @param name              cachedContents/{id}. 생성 요청에서는 비워 둔다
+ * @param model             models/{model}
+ * @param systemInstruction 캐시에 올릴 시스템 지시문
+ * @param ttl               "3600s" 형식의 유지 시간
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeminiCachedContent(
+    String name,
+    String model,
+    GeminiRequest.Content systemInstruction,
+    String ttl
+) {
+
+}
@@ -0,0 +1,78 @@
+package com.vitaltrip.vitaltrip.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * generateContent / streamGenerateContent 요청 본문.
+ * cachedContent 를 지정하면 캐시에 올린 시스템 지시문을 쓰므로 systemInstruction 은 함께 보내지 않는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GeminiRequest(
+    List<Content> contents,
+    Content systemInstruction,
+    String cachedContent,
+    GenerationConfig generationConfig
+) {
+
+    public static GeminiRequest ofPrompt(String prompt) {
+        return new GeminiRequest(List.of(Content.ofText(prompt)), null, null, null);
+    }
+
+    public GeminiRequest withSystemInstruction(String systemInstruction) {
+        return new GeminiRequest(contents, Content.ofText(systemInstruction), null,
+            generationConfig);
+    }
+
+    public GeminiRequest withCachedContent(String cachedContent) {
+        return new GeminiRequest(contents, null, cachedContent, generationConfig);
+    }
+
+    public GeminiRequest withGenerationConfig(GenerationConfig generationConfig) {
+        return new GeminiRequest(contents, systemInstruction, cachedContent, generationConfig);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Content(
+        String role,
+        List<Part> parts
+    ) {
+
+        public static Content ofText(String text) {
+            return new Content(null, List.of(new Part(text)));
+        }
+    }
+
+    public record Part(
+        String text
+    ) {
+
+    }
+
+    /**
+     * 값이 null 이면 모델 기본값을 쓴다.
+     * thinkingConfig 는 생각(thinking)을 지원하는 모델(2.5 이상)에만 보낸다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record GenerationConfig(
+        Integer maxOutputTokens,
+        Double temperature,
+        ThinkingConfig thinkingConfig
+    ) {
+
+        public GenerationConfig(Integer maxOutputTokens, Double temperature) {
+            this(maxOutputTokens, temperature, null);
+        }
+    }
+
+    /**
+     * 생각 토큰도 maxOutputTokens 에서 쓰므로 예산이 없으면 답변이 비거나 MAX_TOKENS 로 잘릴 수 있다.
+     *
+     * @param thinkingBudget 0 이면 생각하지 않고, -1 이면 모델이 정한다
+     */
+    public record ThinkingConfig(
+        Integer thinkingBudget
+    ) {
+
+    }
+}
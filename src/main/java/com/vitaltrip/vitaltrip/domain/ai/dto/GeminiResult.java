@@ -0,0 +1,20 @@
+package com.vitaltrip.vitaltrip.domain.ai.dto;
+
+public record GeminiResult(
+    String text,
+    String finishReason,
+    GeminiUsage usage
+) {
+
+    private static final String FINISH_REASON_STOP = "STOP";
+
+    // 모델이 스스로 생성을 끝낸 응답만 완결된 것으로 본다 (MAX_TOKENS, SAFETY 등은 잘렸거나 걸러진 응답)
+    public boolean isComplete() {
+        return FINISH_REASON_STOP.equals(finishReason);
+    }
+
+    // 안전 필터로 막혔거나 출력 한도를 생각(thinking) 토큰에 모두 쓴 응답은 텍스트가 없다
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.domain.ai.dto;
+
+public record GeminiStreamResult(
+    String finishReason,
+    int chunkCount,
+    int textLength,
+    GeminiUsage usage
+) {
+
+    private static final String FINISH_REASON_STOP = "STOP";
+
+    // GeminiResult 와 같이 모델이 스스로 생성을 끝낸 스트림만 완결된 것으로 본다
+    public boolean isComplete() {
+        return FINISH_REASON_STOP.equals(finishReason);
+    }
+}
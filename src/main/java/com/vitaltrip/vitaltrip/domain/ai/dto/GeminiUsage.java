@@ -0,0 +1,13 @@
+package com.vitaltrip.vitaltrip.domain.ai.dto;
+
+/**
+ * Gemini 응답의 usageMetadata. 값이 없으면 0 으로 둔다.
+ */
+public record GeminiUsage(
+    int promptTokens,
+    int candidatesTokens,
+    int totalTokens
+) {
+
+    public static final GeminiUsage EMPTY = new GeminiUsage(0, 0, 0);
+}
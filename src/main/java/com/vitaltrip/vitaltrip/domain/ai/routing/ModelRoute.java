@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.domain.ai.routing;
+
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+
+/**
+ * @param name             메트릭과 로그에 쓰는 경로 이름 (fast, quality)
+ * @param model            호출할 Gemini 모델
+ * @param generationConfig 이 경로의 최대 출력 토큰 수와 temperature. null 이면 모델 기본값을 쓴다
+ */
+public record ModelRoute(
+    String name,
+    String model,
+    GeminiRequest.GenerationConfig generationConfig
+) {
+
+}
@@ -0,0 +1,206 @@
+package com.vitaltrip.vitaltrip.domain.ai.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응급상황 분류, 프롬프트 길이, 최근 지연으로 fast / quality 모델 경로를 고른다.
+ *
+ * <p>fastTypes 는 항상 fast, qualityTypes 와 qualityMinTokens 이상의 긴 프롬프트는 quality, 나머지는 fast 로 보낸다.
+ * quality 경로의 최근 지연이 SLO 를 넘으면 quality 로 갈 요청도 fast 로 낮춘다.
+ * 낮춘 동안에는 quality 지연이 기록되지 않으므로 window 가 지나 기록이 minSamples 아래로 줄면 다시 quality 로 보낸다.
+ * 호출자는 quality 경로로 보낸 호출이 끝나면 recordLatency() 로 지연을 알려야 한다.
+ *
+ * <p>route() 마다 기록을 정렬하지 않도록 분위수는 window 의 1/20 이 지나거나 windowSize 의 1/20 만큼 새로 기록될 때만
+ * 다시 계산한다. 다른 스레드가 기록 중이면 계산을 미루고 이전 값을 쓴다.
+ */
+@Slf4j
+public class ModelRouter {
+
+    private final ModelRoutingSettings settings;
+    private final LongSupplier nanoClock;
+
+    // quality 경로의 최근 성공 호출 지연과 기록 시각 (고리 버퍼)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] latencies;
+    private final long[] recordedAt;
+    private int recorded;
+    private int next;
+
+    // 마지막으로 계산한 분위수. lock 을 쥔 채로만 쓴다
+    private final long refreshIntervalNanos;
+    private final int refreshSamples;
+    private volatile int recordedSinceRefresh;
+    private volatile long refreshedAt;
+    private volatile long cachedLatencyNanos = -1;
+    private volatile boolean breached;
+
+    private final Map<String, Counter> decisionCounters = new HashMap<>();
+
+    public ModelRouter(ModelRoutingSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    ModelRouter(ModelRoutingSettings settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.latencies = new long[settings.windowSize()];
+        this.recordedAt = new long[settings.windowSize()];
+        this.refreshIntervalNanos = settings.window().toNanos() / 20;
+        this.refreshSamples = Math.max(1, settings.windowSize() / 20);
+        this.refreshedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param emergencyType 응급상황 분류
+     * @param promptTokens  프롬프트의 어림 토큰 수
+     */
+    public ModelRoute route(String emergencyType, int promptTokens) {
+        if (settings.fastTypes().contains(emergencyType)) {
+            return decide(settings.fast(), "time_critical");
+        }
+
+        String reason;
+        if (settings.qualityTypes().contains(emergencyType)) {
+            reason = "emergency_type";
+        } else if (promptTokens >= settings.qualityMinTokens()) {
+            reason = "prompt_length";
+        } else {
+            return decide(settings.fast(), "simple");
+        }
+
+        if (isSloBreached()) {
+            return decide(settings.fast(), "slo_breach");
+        }
+        return decide(settings.quality(), reason);
+    }
+
+    /**
+     * 성공한 호출의 지연 (스트리밍은 첫 조각까지의 지연). quality 경로의 지연만 SLO 판단에 쓴다.
+     */
+    public void recordLatency(ModelRoute route, long latencyNanos) {
+        if (!route.equals(settings.quality())) {
+            return;
+        }
+        lock.lock();
+        try {
+            latencies[next] = latencyNanos;
+            recordedAt[next] = nanoClock.getAsLong();
+            next = (next + 1) % latencies.length;
+            if (recorded < latencies.length) {
+                recorded++;
+            }
+            recordedSinceRefresh++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isSloBreached() {
+        if (isStale() && lock.tryLock()) {
+            try {
+                if (isStale()) {
+                    refresh();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return breached;
+    }
+
+    /**
+     * window 안에 기록된 quality 경로 지연의 sloPercentile 분위수. 기록이 minSamples 보다 적으면 -1.
+     */
+    long qualityLatencyNanos() {
+        lock.lock();
+        try {
+            return computeQualityLatencyNanos();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStale() {
+        return recordedSinceRefresh >= refreshSamples
+            || nanoClock.getAsLong() - refreshedAt >= refreshIntervalNanos;
+    }
+
+    // lock 을 쥔 채로 호출한다
+    private void refresh() {
+        long percentile = computeQualityLatencyNanos();
+        cachedLatencyNanos = percentile;
+        recordedSinceRefresh = 0;
+        refreshedAt = nanoClock.getAsLong();
+
+        boolean breachedNow = percentile > settings.latencySlo().toNanos();
+        if (breachedNow != breached) {
+            breached = breachedNow;
+            if (breachedNow) {
+                log.warn("{} 경로 p{} 지연 {}ms 가 SLO {}ms 를 넘어 {} 경로로 낮춥니다",
+                    settings.quality().name(), Math.round(settings.sloPercentile() * 100),
+                    percentile / 1_000_000, settings.latencySlo().toMillis(),
+                    settings.fast().name());
+            } else {
+                log.info("{} 경로 지연이 SLO 안으로 돌아왔습니다", settings.quality().name());
+            }
+        }
+    }
+
+    // lock 을 쥔 채로 호출한다
+    private long computeQualityLatencyNanos() {
+        long since = nanoClock.getAsLong() - settings.window().toNanos();
+        long[] recent = new long[recorded];
+        int count = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (recordedAt[i] - since > 0) {
+                recent[count++] = latencies[i];
+            }
+        }
+        if (count < settings.minSamples()) {
+            return -1;
+        }
+
+        Arrays.sort(recent, 0, count);
+        int index = (int) Math.ceil(settings.sloPercentile() * count) - 1;
+        return recent[Math.max(0, index)];
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        for (String reason : new String[]{"time_critical", "simple", "slo_breach"}) {
+            registerDecisionCounter(meterRegistry, settings.fast(), reason);
+        }
+        for (String reason : new String[]{"emergency_type", "prompt_length"}) {
+            registerDecisionCounter(meterRegistry, settings.quality(), reason);
+        }
+        Gauge.builder("gemini.routing.quality_latency", this,
+                router -> Math.max(0, router.cachedLatencyNanos) / 1_000_000_000.0)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("gemini.routing.slo_breached", this, router -> router.breached ? 1 : 0)
+            .register(meterRegistry);
+    }
+
+    private void registerDecisionCounter(MeterRegistry meterRegistry, ModelRoute route,
+        String reason) {
+        decisionCounters.put(route.name() + ":" + reason,
+            Counter.builder("gemini.routing.decisions")
+                .tags("route", route.name(), "model", route.model(), "reason", reason)
+                .register(meterRegistry));
+    }
+
+    private ModelRoute decide(ModelRoute route, String reason) {
+        Counter counter = decisionCounters.get(route.name() + ":" + reason);
+        if (counter != null) {
+            counter.increment();
+        }
+        return route;
+    }
+}
@@ -0,0 +1,31 @@
+package com.vitaltrip.vitaltrip.domain.ai.routing;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * @param fast             짧은 질문과 시간이 급한 응급상황에 쓰는 빠른 모델 경로
+ * @param quality          복잡한 질문에 쓰는 품질 우선 모델 경로
+ * @param fastTypes        항상 fast 경로로 보내는 응급상황 분류
+ * @param qualityTypes     quality 경로로 보내는 응급상황 분류
+ * @param qualityMinTokens 프롬프트 어림 토큰 수가 이 이상이면 quality 경로로 보낸다
+ * @param latencySlo       quality 경로 지연의 sloPercentile 분위수가 이보다 크면 fast 경로로 낮춘다
+ * @param sloPercentile    SLO 를 판단하는 분위수 (0~1)
+ * @param window           이 시간 안에 기록된 지연으로만 분위수를 계산한다
+ * @param windowSize       분위수를 계산하는 최근 호출 수의 상한
+ * @param minSamples       window 안의 기록이 이보다 적으면 SLO 위반으로 보지 않는다
+ */
+public record ModelRoutingSettings(
+    ModelRoute fast,
+    ModelRoute quality,
+    Set<String> fastTypes,
+    Set<String> qualityTypes,
+    int qualityMinTokens,
+    Duration latencySlo,
+    double sloPercentile,
+    Duration window,
+    int windowSize,
+    int minSamples
+) {
+
+}
@@ -3,7 +3,7 @@ package com.vitaltrip.vitaltrip.domain.auth.controller;
 import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
 import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
 import com.vitaltrip.vitaltrip.domain.auth.service.AuthService;
-import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +18,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -89,14 +90,26 @@ public class AuthController {
             description = "이메일 중복",
             content = @Content(
                 mediaType = "application/json",
-                examples = @ExampleObject(
-                    value = """
-                        {
-                          "message": "이미 사용 중인 이메일입니다.",
-                          "errorCode": "DUPLICATE_EMAIL"
-                        }
-                        """
-                )
+                examples = {
+                    @ExampleObject(
+                        name = "이미 사용 중인 이메일",
+                        value = """
+                            {
+                              "message": "이미 사용 중인 이메일입니다.",
+                              "errorCode": "DUPLICATE_EMAIL"
+                            }
+                            """
+                    ),
+                    @ExampleObject(
+                        name = "탈퇴 처리 중인 계정의 이메일",
+                        value = """
+                            {
+                              "message": "탈퇴 처리 중인 계정의 이메일입니다. 잠시 후 다시 시도해 주세요.",
+                              "errorCode": "ACCOUNT_PENDING_DELETION"
+                            }
+                            """
+                    )
+                }
             )
         )
     })
@@ -359,7 +372,7 @@ public class AuthController {
         )
     })
     public ApiResponse<AuthDto.UserInfo> getMyInfo(
-        @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user) {
         AuthDto.UserInfo userInfo = new AuthDto.UserInfo(
             user.getId(),
             user.getEmail(),
@@ -426,7 +439,7 @@ public class AuthController {
         )
     })
     public ApiResponse<String> updateProfile(
-        @Parameter(hidden = true) @AuthenticationPrincipal User user,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user,
         @Valid @RequestBody
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "수정할 프로필 정보",
@@ -445,7 +458,7 @@ public class AuthController {
         )
         AuthDto.ProfileUpdateRequest request) {
 
-        authService.updateProfile(user, request);
+        authService.updateProfile(user.getId(), request);
         return ApiResponse.success("프로필이 업데이트되었습니다");
     }
 
@@ -514,7 +527,7 @@ public class AuthController {
         )
     })
     public ApiResponse<String> changePassword(
-        @Parameter(hidden = true) @AuthenticationPrincipal User user,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user,
         @Valid @RequestBody
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "비밀번호 변경 정보",
@@ -532,7 +545,7 @@ public class AuthController {
         )
         AuthDto.PasswordChangeRequest request) {
 
-        authService.changePassword(user, request);
+        authService.changePassword(user.getId(), request);
         return ApiResponse.success("비밀번호가 변경되었습니다");
     }
 
@@ -574,10 +587,60 @@ public class AuthController {
         )
     })
     public ApiResponse<String> logout(
-        @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user) {
         return ApiResponse.success("로그아웃되었습니다. 클라이언트에서 토큰을 삭제해주세요.");
     }
 
+    @DeleteMapping("/me")
+    @Operation(
+        summary = "회원 탈퇴",
+        description = """
+            현재 로그인한 사용자의 계정을 탈퇴 처리합니다.
+            
+            ## 주의사항
+            - 탈퇴 즉시 기존 액세스/리프레시 토큰으로 더 이상 인증할 수 없습니다.
+            - 계정 데이터는 백그라운드 작업에서 순차적으로 삭제됩니다.
+            """,
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "회원 탈퇴 성공",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "회원 탈퇴가 완료되었습니다"
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                        {
+                          "message": "인증이 필요합니다.",
+                          "errorCode": "UNAUTHORIZED"
+                        }
+                        """
+                )
+            )
+        )
+    })
+    public ApiResponse<String> deleteAccount(
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user) {
+
+        authService.deleteAccount(user.getId());
+        return ApiResponse.success("회원 탈퇴가 완료되었습니다");
+    }
+
     @GetMapping("/check-email")
     @Operation(
         summary = "이메일 중복 검사",
@@ -596,7 +659,8 @@ public class AuthController {
                             {
                               "message": "사용 가능한 이메일입니다",
                               "data": {
-                                "available": true
+                                "available": true,
+                                "pendingDeletion": false
                               }
                             }
                             """
@@ -607,7 +671,8 @@ public class AuthController {
                             {
                               "message": "이미 사용 중인 이메일입니다",
                               "data": {
-                                "available": false
+                                "available": false,
+                                "pendingDeletion": false
                               }
                             }
                             """
@@ -133,7 +133,10 @@ public class AuthDto {
 
     public record EmailCheckResponse(
         @Schema(description = "이메일 사용 가능 여부", example = "true")
-        boolean available
+        boolean available,
+
+        @Schema(description = "탈퇴 처리 중인 계정의 이메일이라 삭제가 끝나면 사용할 수 있는지", example = "false")
+        boolean pendingDeletion
     ) {
 
     }
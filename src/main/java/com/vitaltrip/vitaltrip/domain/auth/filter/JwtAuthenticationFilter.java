@@ -1,7 +1,7 @@
 package com.vitaltrip.vitaltrip.domain.auth.filter;
 
 import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
-import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -46,7 +46,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String userId = jwtUtil.getUserId(token);
-        User user = userRepository.findById(Long.parseLong(userId)).orElse(null);
+        UserProfileView user = userRepository.findProfileByIdAndDeletedAtIsNull(Long.parseLong(userId))
+            .orElse(null);
 
         if (user == null) {
             filterChain.doFilter(request, response);
@@ -82,7 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             requestURI.equals("/api/oauth2/status");
     }
 
-    private void setAuthentication(HttpServletRequest request, User user) {
+    private void setAuthentication(HttpServletRequest request, UserProfileView user) {
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority(
             "ROLE_" + user.getRole().name());
 
@@ -95,7 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
-    private void setTempAuthentication(HttpServletRequest request, User user) {
+    private void setTempAuthentication(HttpServletRequest request, UserProfileView user) {
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_TEMP_USER");
 
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
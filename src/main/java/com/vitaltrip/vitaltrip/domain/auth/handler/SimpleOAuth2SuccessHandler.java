@@ -1,6 +1,7 @@
 package com.vitaltrip.vitaltrip.domain.auth.handler;
 
 import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
 import com.vitaltrip.vitaltrip.domain.user.User;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
 import jakarta.servlet.ServletException;
@@ -12,6 +13,7 @@ import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -25,6 +27,7 @@ public class SimpleOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.oauth2.authorized-redirect-uri}")
     private String frontendRedirectUri;
@@ -53,6 +56,11 @@ public class SimpleOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
 
             User user = processOAuth2User(email, name, picture, sub);
 
+            if (user.isDeleted()) {
+                redirectWithError(response, "ACCOUNT_DELETED", "탈퇴 처리된 계정입니다");
+                return;
+            }
+
             if (isProfileComplete(user)) {
                 String accessToken = jwtUtil.generateAccessToken(user);
                 String refreshToken = jwtUtil.generateRefreshToken(user);
@@ -74,6 +82,9 @@ public class SimpleOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
     private User processOAuth2User(String email, String name, String picture, String sub) {
         return userRepository.findByEmail(email)
             .map(existingUser -> {
+                if (existingUser.isDeleted()) {
+                    return existingUser;
+                }
                 if (picture != null && !picture.equals(existingUser.getProfileImageUrl())) {
                     existingUser.updateProfileImage(picture);
                     return userRepository.save(existingUser);
@@ -90,7 +101,10 @@ public class SimpleOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
                     .role(User.Role.USER)
                     .build();
 
-                return userRepository.save(newUser);
+                User savedUser = userRepository.save(newUser);
+                eventPublisher.publishEvent(UserCountChangedEvent.joined(
+                    savedUser.getCountryCode(), savedUser.getProvider()));
+                return savedUser;
             });
     }
 
@@ -4,10 +4,14 @@ import com.vitaltrip.vitaltrip.common.exception.CustomException;
 import com.vitaltrip.vitaltrip.common.exception.ErrorType;
 import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
 import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
 import com.vitaltrip.vitaltrip.domain.user.User;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,13 +25,16 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void signUp(AuthDto.SignUpRequest request) {
 
-        if (userRepository.existsByEmail(request.email())) {
-            throw new CustomException(ErrorType.DUPLICATE_EMAIL);
-        }
+        userRepository.findEmailStatus(request.email()).ifPresent(existing -> {
+            // 탈퇴한 계정의 행은 UserPurgeJob 이 지울 때까지 이메일을 차지한다
+            throw new CustomException(existing.isDeleted()
+                ? ErrorType.ACCOUNT_PENDING_DELETION : ErrorType.DUPLICATE_EMAIL);
+        });
 
         if (!request.isPasswordMatched()) {
             throw new CustomException(ErrorType.INVALID_REQUEST, "비밀번호와 비밀번호 확인이 일치하지 않습니다");
@@ -47,11 +54,14 @@ public class AuthService {
             .build();
 
         userRepository.save(user);
+        eventPublisher.publishEvent(
+            UserCountChangedEvent.joined(user.getCountryCode(), user.getProvider()));
     }
 
     public AuthDto.AuthResponse login(AuthDto.LoginRequest request) {
 
         User user = userRepository.findByEmail(request.email())
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new CustomException(ErrorType.RESOURCE_NOT_FOUND, "등록되지 않은 이메일입니다"));
 
         if (user.getProvider() != User.AuthProvider.LOCAL) {
@@ -75,6 +85,7 @@ public class AuthService {
 
         String userId = jwtUtil.getUserId(refreshToken);
         User user = userRepository.findById(Long.parseLong(userId))
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new CustomException(ErrorType.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다"));
 
         String newAccessToken = jwtUtil.generateAccessToken(user);
@@ -82,6 +93,11 @@ public class AuthService {
         return new AuthDto.TokenResponse(newAccessToken);
     }
 
+    @Transactional
+    public void changePassword(Long userId, AuthDto.PasswordChangeRequest request) {
+        changePassword(findUser(userId), request);
+    }
+
     @Transactional
     public void changePassword(User user, AuthDto.PasswordChangeRequest request) {
 
@@ -102,9 +118,16 @@ public class AuthService {
 
     }
 
+    @Transactional
+    public void updateProfile(Long userId, AuthDto.ProfileUpdateRequest request) {
+        updateProfile(findUser(userId), request);
+    }
+
     @Transactional
     public void updateProfile(User user, AuthDto.ProfileUpdateRequest request) {
 
+        String previousCountryCode = user.getCountryCode();
+
         user.updateProfile(
             request.name(),
             request.birthDate(),
@@ -112,11 +135,33 @@ public class AuthService {
             request.phoneNumber()
         );
 
+        if (!Objects.equals(previousCountryCode, user.getCountryCode())) {
+            eventPublisher.publishEvent(
+                UserCountChangedEvent.left(previousCountryCode, user.getProvider()));
+            eventPublisher.publishEvent(
+                UserCountChangedEvent.joined(user.getCountryCode(), user.getProvider()));
+        }
+    }
+
+    // 즉시 탈퇴 처리만 하고 실제 행 삭제는 UserPurgeJob 이 배치로 수행한다
+    @Transactional
+    public void deleteAccount(Long userId) {
+        User user = findUser(userId);
+        user.markDeleted(LocalDateTime.now());
+        eventPublisher.publishEvent(
+            UserCountChangedEvent.left(user.getCountryCode(), user.getProvider()));
     }
 
     public AuthDto.EmailCheckResponse checkEmailAvailability(String email) {
-        boolean isAvailable = !userRepository.existsByEmail(email);
-        return new AuthDto.EmailCheckResponse(isAvailable);
+        return userRepository.findEmailStatus(email)
+            .map(existing -> new AuthDto.EmailCheckResponse(false, existing.isDeleted()))
+            .orElseGet(() -> new AuthDto.EmailCheckResponse(true, false));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+            .filter(user -> !user.isDeleted())
+            .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
     }
 
     private AuthDto.AuthResponse createAuthResponse(User user) {
@@ -4,10 +4,13 @@ import com.vitaltrip.vitaltrip.common.exception.CustomException;
 import com.vitaltrip.vitaltrip.common.exception.ErrorType;
 import com.vitaltrip.vitaltrip.domain.auth.dto.OAuthDto;
 import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
 import com.vitaltrip.vitaltrip.domain.user.User;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ public class OAuth2Service {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OAuthDto.CompleteProfileResponse completeProfile(String tempToken,
@@ -26,12 +30,15 @@ public class OAuth2Service {
 
         String userId = jwtUtil.getUserId(tempToken);
         User user = userRepository.findById(Long.parseLong(userId))
+            .filter(found -> !found.isDeleted())
             .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
 
         if (user.getProvider() == User.AuthProvider.LOCAL) {
             throw new CustomException(ErrorType.INVALID_REQUEST, "일반 회원가입 사용자는 이 기능을 사용할 수 없습니다.");
         }
 
+        String previousCountryCode = user.getCountryCode();
+
         user.updateProfile(
             request.name(),
             request.birthDate(),
@@ -41,6 +48,13 @@ public class OAuth2Service {
 
         User savedUser = userRepository.save(user);
 
+        if (!Objects.equals(previousCountryCode, savedUser.getCountryCode())) {
+            eventPublisher.publishEvent(
+                UserCountChangedEvent.left(previousCountryCode, savedUser.getProvider()));
+            eventPublisher.publishEvent(
+                UserCountChangedEvent.joined(savedUser.getCountryCode(), savedUser.getProvider()));
+        }
+
         String accessToken = jwtUtil.generateAccessToken(savedUser);
         String refreshToken = jwtUtil.generateRefreshToken(savedUser);
 
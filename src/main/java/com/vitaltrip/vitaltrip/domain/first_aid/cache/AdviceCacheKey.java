@@ -0,0 +1,35 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.cache;
+
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 질문이 표기만 다르게 들어와도 같은 캐시 항목을 쓰도록 정규화한 키.
+ * 유니코드 호환 정규화(NFKC), 소문자 변환, 연속 공백 축약, 앞뒤 공백/문장부호 제거를 적용한다.
+ */
+public record AdviceCacheKey(
+    String emergencyType,
+    String userMessage
+) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[\\p{P}\\s]+|[\\p{P}\\s]+$");
+
+    public static AdviceCacheKey of(EmergencyChatAdviceRequest request) {
+        return new AdviceCacheKey(normalize(request.emergencyType()),
+            normalize(request.userMessage()));
+    }
+
+    public int length() {
+        return emergencyType.length() + userMessage.length();
+    }
+
+    public static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return EDGE_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+}
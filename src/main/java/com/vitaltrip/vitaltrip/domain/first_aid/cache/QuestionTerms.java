@@ -0,0 +1,48 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.cache;
+
+import com.vitaltrip.vitaltrip.common.cache.MinHasher;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 질문에서 불용어를 뺀 핵심 단어 집합의 지문.
+ * 문자열이 비슷해도 "swallowed a coin" 과 "swallowed a battery" 처럼 핵심 단어가 다르면 다른 질문으로 본다.
+ * 부정어(not, no, isnt 등)는 의미를 뒤집으므로 불용어에 넣지 않는다.
+ */
+final class QuestionTerms {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "the", "my", "your", "his", "her", "their", "our", "its",
+        "i", "me", "we", "you", "he", "she", "they", "it", "im",
+        "is", "am", "are", "was", "were", "be", "been", "being",
+        "do", "does", "did", "doing", "what", "how", "should", "can", "could", "would", "will",
+        "to", "of", "in", "on", "at", "for", "with", "and", "or", "so", "just", "now",
+        "this", "that", "there", "please", "help", "ive"
+    );
+
+    private QuestionTerms() {
+    }
+
+    static long fingerprint(String normalizedText) {
+        Set<String> terms = new TreeSet<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= normalizedText.length(); i++) {
+            char c = i < normalizedText.length() ? normalizedText.charAt(i) : ' ';
+            if (c == '\'' || c == '’') {
+                // isn't -> isnt
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                if (!STOP_WORDS.contains(word.toString())) {
+                    terms.add(word.toString());
+                }
+                word.setLength(0);
+            }
+        }
+
+        String joined = String.join(" ", terms);
+        return MinHasher.hash64(joined, 0, joined.length());
+    }
+}
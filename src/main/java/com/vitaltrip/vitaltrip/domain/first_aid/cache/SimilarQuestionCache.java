@@ -0,0 +1,242 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.cache;
+
+import com.vitaltrip.vitaltrip.common.cache.CacheStatistics;
+import com.vitaltrip.vitaltrip.common.cache.MinHasher;
+import com.vitaltrip.vitaltrip.common.cache.MonitoredCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 표현이 조금 다른 같은 질문에 저장된 조언을 돌려주는 유사 질문 캐시.
+ *
+ * <p>응급상황 유형별로 userMessage 의 MinHash 서명을 LSH 밴드로 나눠 색인한다.
+ * 조회 시 서명이 한 밴드라도 같은 항목만 후보로 보고, 후보 중 핵심 단어 집합이 같고
+ * 추정 유사도가 threshold 이상인 가장 비슷한 항목을 돌려준다. 조회 비용은 전체 항목 수가 아니라
+ * 버킷 크기에 비례한다.
+ *
+ * <p>항목은 저장 순서대로 고리 버퍼에 담기며, 가득 차면 가장 오래된 항목을 덮어쓴다.
+ * TTL 이 고정이므로 저장 순서가 곧 만료 순서다.
+ */
+public class SimilarQuestionCache<V> implements MonitoredCache {
+
+    private final String name;
+    private final MinHasher minHasher;
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Entry<V>[] ring;
+    private final Map<Long, List<Entry<V>>> buckets = new HashMap<>();
+    private int next;
+    private int size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public SimilarQuestionCache(String name, int maxEntries, Duration ttl, double threshold,
+        int bands, int rows, int shingleLength) {
+        this(name, maxEntries, ttl, threshold, bands, rows, shingleLength, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    SimilarQuestionCache(String name, int maxEntries, Duration ttl, double threshold, int bands,
+        int rows, int shingleLength, LongSupplier nanoClock) {
+        this.name = name;
+        this.minHasher = new MinHasher(bands * rows, shingleLength);
+        this.bands = bands;
+        this.rows = rows;
+        this.threshold = threshold;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.ring = (Entry<V>[]) new Entry[maxEntries];
+    }
+
+    public Optional<V> get(AdviceCacheKey key) {
+        if (ring.length == 0) {
+            return Optional.empty();
+        }
+
+        Question question = Question.of(key, minHasher);
+        long now = nanoClock.getAsLong();
+
+        Entry<V> best = null;
+        double bestSimilarity = threshold;
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < bands; band++) {
+                List<Entry<V>> bucket = buckets.get(bucketKey(question.emergencyType(),
+                    question.signature(), band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry<V> candidate : bucket) {
+                    if (candidate == best || !candidate.matches(question, now)) {
+                        continue;
+                    }
+                    double similarity = MinHasher.similarity(question.signature(),
+                        candidate.signature());
+                    if (similarity >= bestSimilarity) {
+                        best = candidate;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (best == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(best.value());
+    }
+
+    public void put(AdviceCacheKey key, V value) {
+        if (ring.length == 0) {
+            return;
+        }
+
+        Question question = Question.of(key, minHasher);
+        Entry<V> entry = new Entry<>(question.emergencyType(), question.signature(),
+            question.termsFingerprint(), value, nanoClock.getAsLong() + ttlNanos);
+
+        lock.writeLock().lock();
+        try {
+            Entry<V> oldest = ring[next];
+            if (oldest != null) {
+                unindex(oldest);
+                if (oldest.isExpired(nanoClock.getAsLong())) {
+                    expirations.increment();
+                } else {
+                    evictions.increment();
+                }
+            } else {
+                size++;
+            }
+
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+            index(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(ring, null);
+            buckets.clear();
+            next = 0;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        int currentSize;
+        lock.readLock().lock();
+        try {
+            currentSize = size;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new CacheStatistics(name, currentSize, currentSize, ring.length, hitCount,
+            missCount, evictions.sum(), expirations.sum(),
+            requests == 0 ? 0 : (double) hitCount / requests);
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("cache.size", this, cache -> cache.statistics().size())
+            .tag("cache", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags("cache", name, "result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags("cache", name, "result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tags("cache", name, "cause", "size")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", expirations, LongAdder::sum)
+            .tags("cache", name, "cause", "expired")
+            .register(meterRegistry);
+    }
+
+    private void index(Entry<V> entry) {
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bucketKey(entry.emergencyType(), entry.signature(), band),
+                bucketKey -> new ArrayList<>(2)).add(entry);
+        }
+    }
+
+    private void unindex(Entry<V> entry) {
+        for (int band = 0; band < bands; band++) {
+            long bucketKey = bucketKey(entry.emergencyType(), entry.signature(), band);
+            List<Entry<V>> bucket = buckets.get(bucketKey);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.removeIf(candidate -> candidate == entry);
+            if (bucket.isEmpty()) {
+                buckets.remove(bucketKey);
+            }
+        }
+    }
+
+    // 응급상황 유형이 다르면 같은 버킷에 들어가지 않도록 유형도 버킷 키에 섞는다
+    private long bucketKey(String emergencyType, int[] signature, int band) {
+        long key = MinHasher.mix64(emergencyType.hashCode() * 31L + band);
+        for (int row = 0; row < rows; row++) {
+            key = MinHasher.mix64(key ^ signature[band * rows + row]);
+        }
+        return key;
+    }
+
+    private record Question(String emergencyType, int[] signature, long termsFingerprint) {
+
+        static Question of(AdviceCacheKey key, MinHasher minHasher) {
+            return new Question(key.emergencyType(), minHasher.signature(key.userMessage()),
+                QuestionTerms.fingerprint(key.userMessage()));
+        }
+    }
+
+    private record Entry<V>(String emergencyType, int[] signature, long termsFingerprint,
+                            V value, long expiresAt) {
+
+        boolean matches(Question question, long now) {
+            return termsFingerprint == question.termsFingerprint()
+                && emergencyType.equals(question.emergencyType())
+                && !isExpired(now);
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -4,18 +4,24 @@ import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
 import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
 import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceResponse;
 import com.vitaltrip.vitaltrip.domain.first_aid.service.FirstAidService;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/first-aid")
@@ -37,6 +43,10 @@ public class FirstAidController {
             ## 주의사항
             - 현재는 단순 프롬프트를 활용한 응급처치 조언만을 반환하며 일부 필드(summery, recommendedAction, confidence, blogLinks)는 고정값을 포함합니다.
             - AI 응답은 영어로 제공됩니다.
+            - 동시에 처리 중인 요청이 많으면 503 을 반환합니다.
+            - 로그인한 사용자는 하루 AI 토큰 사용량 한도가 있으며, 넘으면 429 를 반환합니다. 캐시된 조언은 한도에 포함되지 않습니다.
+            - 같은 사용자(비로그인은 같은 IP)의 요청이 너무 잦으면 429 와 Retry-After 헤더(초)를 반환합니다. 스트리밍 요청과 한도를 함께 씁니다.
+            - AI 응답이 제한 시간 안에 오지 않거나 AI 호출이 실패하면(연속 실패로 호출이 차단된 경우 포함) 응급상황 유형별 기본 안내를 fallback=true 로 반환합니다.
             """
     )
     @ApiResponses(value = {
@@ -46,7 +56,7 @@ public class FirstAidController {
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = ApiResponse.class),
-                examples = @ExampleObject(
+                examples = {@ExampleObject(
                     name = "심폐소생술 조언 예시",
                     value = """
                         {
@@ -58,12 +68,29 @@ public class FirstAidController {
                             "confidence": 100.0,
                             "blogLinks": [
                               "https://www.eunwoo-levi.blog/"
-                            ]
+                            ],
+                            "fallback": false
                           },
                           "errorCode": null
                         }
                         """
-                )
+                ), @ExampleObject(
+                    name = "기본 안내 예시",
+                    value = """
+                        {
+                          "message": "성공",
+                          "data": {
+                            "content": "AI advice is temporarily unavailable. Call your local emergency number now...",
+                            "summery": "Cardiac arrest",
+                            "recommendedAction": "call-emergency-services",
+                            "confidence": 0.0,
+                            "blogLinks": [],
+                            "fallback": true
+                          },
+                          "errorCode": null
+                        }
+                        """
+                )}
             )
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -83,23 +110,48 @@ public class FirstAidController {
             )
         ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "500",
-            description = "서버 오류 - AI 서비스 응답 실패",
+            responseCode = "429",
+            description = "요청이 너무 잦거나 오늘 AI 사용량 한도 초과",
+            content = @Content(
+                mediaType = "application/json",
+                examples = {@ExampleObject(
+                    name = "요청 빈도 제한",
+                    value = """
+                        {
+                          "message": "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                          "errorCode": "RATE_LIMITED"
+                        }
+                        """
+                ), @ExampleObject(
+                    name = "일일 사용량 한도 초과",
+                    value = """
+                        {
+                          "message": "오늘 사용할 수 있는 AI 사용량(200000 토큰)을 모두 사용했습니다",
+                          "data": null,
+                          "errorCode": "TOKEN_QUOTA_EXCEEDED"
+                        }
+                        """
+                )}
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "처리 중인 요청이 많음",
             content = @Content(
                 mediaType = "application/json",
                 examples = @ExampleObject(
                     value = """
                         {
-                          "message": "Gemini API 호출 실패: 네트워크 오류",
+                          "message": "처리 중인 응급처치 조언 요청이 많습니다. 잠시 후 다시 시도해 주세요",
                           "data": null,
-                          "errorCode": "INTERNAL_SERVER_ERROR"
+                          "errorCode": "SERVICE_UNAVAILABLE"
                         }
                         """
                 )
             )
         )
     })
-    public ApiResponse<EmergencyChatAdviceResponse> getEmergencyChatAdvice(
+    public CompletableFuture<ApiResponse<EmergencyChatAdviceResponse>> getEmergencyChatAdvice(
         @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "응급처치 조언 요청 정보",
             required = true,
@@ -150,8 +202,66 @@ public class FirstAidController {
                 }
             )
         )
-        @Valid @RequestBody EmergencyChatAdviceRequest request) {
-        EmergencyChatAdviceResponse response = firstAidService.generateEmergencyAdvice(request);
-        return ApiResponse.success(response);
+        @Valid @RequestBody EmergencyChatAdviceRequest request,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user) {
+        return firstAidService.generateEmergencyAdviceAsync(request, userId(user))
+            .thenApply(ApiResponse::success);
+    }
+
+    @PostMapping(value = "/advice/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "응급처치 조언 스트리밍",
+        description = """
+            /api/first-aid/advice 와 같은 요청을 받아, AI 가 생성하는 조언을 Server-Sent Events 로 바로 전달합니다.
+            
+            ## 이벤트
+            - chunk: 생성된 텍스트 조각 `{"text": "..."}`. 도착 순서대로 이어 붙입니다.
+            - done: 생성 완료 `{"finishReason": "STOP"}`
+            - error: 생성 실패 `{"message": "...", "errorCode": "INTERNAL_SERVER_ERROR"}`
+            
+            첫 chunk 를 보내기 전에 AI 호출이 실패하면 기본 안내를 chunk 하나로 보내고 `{"finishReason": "FALLBACK"}` 으로 끝냅니다.
+            
+            ## 주의사항
+            - 연결을 끊으면 서버도 AI 호출을 즉시 중단합니다.
+            - 로그인한 사용자가 하루 AI 토큰 사용량 한도를 넘거나 요청이 너무 잦으면 스트림을 열지 않고 429 를 반환합니다.
+            """
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "이벤트 스트림",
+            content = @Content(
+                mediaType = "text/event-stream",
+                examples = @ExampleObject(
+                    value = """
+                        event:chunk
+                        data:{"text":"1. **Call 911**: "}
+                        
+                        event:chunk
+                        data:{"text":"First, call 911 immediately..."}
+                        
+                        event:done
+                        data:{"finishReason":"STOP"}
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 - 필수 필드 누락"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "429",
+            description = "요청이 너무 잦거나 오늘 AI 사용량 한도 초과"
+        )
+    })
+    public SseEmitter streamEmergencyChatAdvice(
+        @Valid @RequestBody EmergencyChatAdviceRequest request,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserProfileView user) {
+        return firstAidService.streamEmergencyAdvice(request, userId(user));
+    }
+
+    private static Long userId(UserProfileView user) {
+        return user == null ? null : user.getId();
     }
 }
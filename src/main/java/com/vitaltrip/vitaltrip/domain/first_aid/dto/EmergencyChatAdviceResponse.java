@@ -7,13 +7,20 @@ public record EmergencyChatAdviceResponse(
     String summery,
     String recommendedAction,
     double confidence,
-    List<String> blogLinks
+    List<String> blogLinks,
+    boolean fallback
 ) {
 
     public static EmergencyChatAdviceResponse from(String content, String summery,
         String recommendedAction,
         double confidence, List<String> blogLinks) {
         return new EmergencyChatAdviceResponse(content, summery, recommendedAction, confidence,
-            blogLinks);
+            blogLinks, false);
+    }
+
+    // AI 가 아닌 기본 안내이므로 confidence 는 0 으로 둔다
+    public static EmergencyChatAdviceResponse fromFallback(String title, String content) {
+        return new EmergencyChatAdviceResponse(content, title, "call-emergency-services", 0.0,
+            List.of(), true);
     }
 }
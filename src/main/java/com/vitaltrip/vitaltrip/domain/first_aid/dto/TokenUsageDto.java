@@ -0,0 +1,40 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+public class TokenUsageDto {
+
+    public record EmergencyTypeUsage(
+        @Schema(description = "응급상황 분류", example = "Cardiac arrest")
+        String emergencyType,
+
+        long promptTokens,
+        long candidatesTokens,
+        long totalTokens,
+        long requestCount
+    ) {
+
+    }
+
+    public record UserUsage(
+        @Schema(description = "사용자 ID. 0 은 비로그인 요청", example = "42")
+        long userId,
+
+        long promptTokens,
+        long candidatesTokens,
+        long totalTokens,
+        long requestCount
+    ) {
+
+    }
+
+    public record DailyUsageResponse(
+        LocalDate date,
+        List<EmergencyTypeUsage> emergencyTypes,
+        List<UserUsage> topUsers
+    ) {
+
+    }
+}
@@ -0,0 +1,11 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.fallback;
+
+import java.util.List;
+
+public record FallbackAdvice(
+    String title,
+    List<String> aliases,
+    String content
+) {
+
+}
@@ -0,0 +1,80 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.fallback;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.AdviceCacheKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 를 사용할 수 없을 때 내려주는 응급상황 유형별 기본 응급처치 안내.
+ * 애플리케이션에 포함된 first-aid/fallback-advice.json 을 시작 시 한 번 읽는다.
+ */
+@Component
+public class FallbackAdviceCatalog {
+
+    private static final String LOCATION = "first-aid/fallback-advice.json";
+
+    private final FallbackAdvice defaultAdvice;
+    // 긴 별칭부터 비교해 "heat stroke" 가 "stroke" 보다 먼저 맞도록 한다
+    private final List<Map.Entry<String, FallbackAdvice>> aliases;
+    private final Set<String> titles;
+
+    public FallbackAdviceCatalog(ObjectMapper objectMapper) {
+        Catalog catalog;
+        try (InputStream inputStream = new ClassPathResource(LOCATION).getInputStream()) {
+            catalog = objectMapper.readValue(inputStream, Catalog.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응급처치 기본 안내를 읽을 수 없습니다: " + LOCATION, e);
+        }
+
+        this.defaultAdvice = catalog.defaultAdvice();
+        this.aliases = catalog.advice().stream()
+            .flatMap(advice -> advice.aliases().stream()
+                .map(alias -> Map.entry(AdviceCacheKey.normalize(alias), advice)))
+            .sorted(Comparator.comparing(
+                (Map.Entry<String, FallbackAdvice> entry) -> entry.getKey().length()).reversed())
+            .collect(Collectors.toUnmodifiableList());
+
+        Set<String> allTitles = new LinkedHashSet<>();
+        allTitles.add(defaultAdvice.title());
+        catalog.advice().forEach(advice -> allTitles.add(advice.title()));
+        this.titles = Collections.unmodifiableSet(allTitles);
+    }
+
+    /**
+     * 응급상황 유형과 같거나 유형에 단어로 포함된 별칭의 안내를 찾고, 없으면 일반 안내를 돌려준다.
+     */
+    public FallbackAdvice find(String emergencyType) {
+        String normalized = " " + AdviceCacheKey.normalize(emergencyType) + " ";
+        return aliases.stream()
+            .filter(alias -> normalized.contains(" " + alias.getKey() + " "))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(defaultAdvice);
+    }
+
+    /**
+     * 일반 안내를 포함한 모든 분류 이름. find() 가 돌려주는 안내의 title 은 항상 이 중 하나다.
+     */
+    public Set<String> titles() {
+        return titles;
+    }
+
+    record Catalog(
+        @JsonProperty("default") FallbackAdvice defaultAdvice,
+        List<FallbackAdvice> advice
+    ) {
+
+    }
+}
@@ -0,0 +1,99 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.ratelimit.TokenBucketRateLimiter;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 응급처치 조언 생성 요청을 클라이언트별 토큰 버킷으로 제한한다.
+ * 로그인한 사용자는 사용자 ID 로, 비로그인 요청은 클라이언트 IP 로 구분하므로 JWT 인증 필터 뒤에 둔다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 로 구분된다.
+ * 거절할 때는 Retry-After 헤더와 미리 직렬화한 응답 본문을 바로 쓰고 컨트롤러까지 가지 않는다.
+ */
+@Slf4j
+@Component
+public class AdviceRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ADVICE_PATH = "/api/first-aid/advice";
+
+    private final TokenBucketRateLimiter adviceRateLimiter;
+    private final boolean enabled;
+    private final byte[] limitedBody;
+
+    public AdviceRateLimitFilter(TokenBucketRateLimiter adviceRateLimiter,
+        ObjectMapper objectMapper,
+        @Value("${app.first-aid.rate-limit.enabled:true}") boolean enabled) {
+        this.adviceRateLimiter = adviceRateLimiter;
+        this.enabled = enabled;
+        try {
+            this.limitedBody = objectMapper.writeValueAsBytes(ApiResponse.error(
+                ErrorType.RATE_LIMITED.getMessage(), ErrorType.RATE_LIMITED.getCode()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !HttpMethod.POST.matches(request.getMethod())
+            || !request.getRequestURI().startsWith(ADVICE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = adviceRateLimiter.tryAcquire(clientKey(request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+            waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(ErrorType.RATE_LIMITED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(limitedBody.length);
+        response.getOutputStream().write(limitedBody);
+    }
+
+    @Scheduled(fixedDelayString = "${app.first-aid.rate-limit.evict-interval:PT1M}",
+        initialDelayString = "${app.first-aid.rate-limit.evict-interval:PT1M}")
+    public void evictIdleClients() {
+        int evicted = adviceRateLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets, remaining: {}", evicted,
+                adviceRateLimiter.size());
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+            && authentication.getPrincipal() instanceof UserProfileView user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,18 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.prompt;
+
+/**
+ * @param category          프롬프트 템플릿을 고른 응급상황 분류
+ * @param systemInstruction 모든 요청에 같은 시스템 지시문. Gemini 컨텍스트 캐시에 한 번 올려 두고 재사용한다
+ * @param text              요청마다 달라지는 프롬프트
+ * @param estimatedTokens   text 의 어림 토큰 수
+ * @param truncated         사용자 메시지를 토큰 예산에 맞춰 잘랐는지
+ */
+public record AdvicePrompt(
+    String category,
+    String systemInstruction,
+    String text,
+    int estimatedTokens,
+    boolean truncated
+) {
+
+}
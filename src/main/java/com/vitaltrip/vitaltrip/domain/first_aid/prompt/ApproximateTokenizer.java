@@ -0,0 +1,71 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.prompt;
+
+/**
+ * Gemini 토크나이저를 호출하지 않고 토큰 수를 어림한다.
+ * 영문/숫자 단어는 4글자마다 1토큰, 한글·한자 등 CJK 문자와 문장부호는 글자마다 1토큰, 공백은 0토큰으로 센다.
+ * 실제 값보다 조금 크게 나오는 편이라 예산을 넘지 않는 쪽으로 틀린다.
+ */
+final class ApproximateTokenizer {
+
+    private static final int CHARS_PER_WORD_TOKEN = 4;
+
+    private ApproximateTokenizer() {
+    }
+
+    static int count(CharSequence text) {
+        return (int) scan(text, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 앞에서부터 maxTokens 안에 들어가는 가장 긴 접두사의 길이. 첫 단어가 아니면 단어 중간에서는 자르지 않는다.
+     */
+    static int prefixLength(CharSequence text, int maxTokens) {
+        return (int) (scan(text, maxTokens) >>> 32);
+    }
+
+    // 상위 32비트: maxTokens 안에 들어간 접두사 길이, 하위 32비트: 센 토큰 수
+    private static long scan(CharSequence text, int maxTokens) {
+        int tokens = 0;
+        int wordLength = 0;
+        int fitsUntil = 0;
+        int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (isWordChar(c)) {
+                if (wordLength % CHARS_PER_WORD_TOKEN == 0) {
+                    tokens++;
+                }
+                wordLength++;
+                if (tokens > maxTokens) {
+                    // 첫 단어부터 예산을 넘으면 단어 중간에서라도 자른다
+                    if (fitsUntil == 0) {
+                        fitsUntil = i;
+                    }
+                    break;
+                }
+                continue;
+            }
+
+            wordLength = 0;
+            if (tokens <= maxTokens) {
+                fitsUntil = i;
+            }
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+                if (tokens > maxTokens) {
+                    break;
+                }
+                fitsUntil = i + 1;
+            }
+        }
+        if (tokens <= maxTokens) {
+            fitsUntil = length;
+        }
+        return ((long) fitsUntil << 32) | Math.min(tokens, Integer.MAX_VALUE);
+    }
+
+    private static boolean isWordChar(char c) {
+        return c < 0x2E80 && Character.isLetterOrDigit(c);
+    }
+}
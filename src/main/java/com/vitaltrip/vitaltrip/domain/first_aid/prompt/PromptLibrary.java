@@ -0,0 +1,131 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.prompt;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.first_aid.fallback.FallbackAdviceCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응급상황 분류별 프롬프트 템플릿. first-aid/prompt-templates.json 을 시작 시 한 번 읽어 컴파일한다.
+ * 분류는 기본 안내 목록과 같은 기준으로 고르며, 템플릿이 없는 분류는 default 템플릿을 쓴다.
+ * 모든 분류에 공통인 규칙은 systemInstruction 으로 분리해 요청마다 다시 보내지 않도록 한다.
+ *
+ * <p>사용자 메시지는 유니코드 정규화와 공백 정리 후 user-message-max-tokens 안으로 자른다.
+ * 분류별 프롬프트 토큰 수와 잘린 횟수를 first_aid.prompt.tokens / first_aid.prompt.truncated 로 남긴다.
+ */
+@Component
+public class PromptLibrary {
+
+    private static final String LOCATION = "first-aid/prompt-templates.json";
+
+    // 줄바꿈과 탭을 제외한 제어 문자와 서식 문자
+    private static final Pattern CONTROL = Pattern.compile("[\\p{Cc}\\p{Cf}&&[^\\n\\t]]");
+    private static final Pattern INLINE_WHITESPACE = Pattern.compile("[\\t\\x0B\\f\\r\\p{Zs}]+");
+    // 줄바꿈 앞뒤 공백과 연속된 빈 줄
+    private static final Pattern LINE_BREAKS = Pattern.compile(" ?\\n[\\n ]*");
+
+    private final FallbackAdviceCatalog fallbackAdviceCatalog;
+    private final String systemInstruction;
+    private final Map<String, CompiledPrompt> prompts;
+    private final int userMessageMaxTokens;
+
+    public PromptLibrary(ObjectMapper objectMapper, FallbackAdviceCatalog fallbackAdviceCatalog,
+        MeterRegistry meterRegistry,
+        @Value("${app.first-aid.prompt.user-message-max-tokens:300}") int userMessageMaxTokens) {
+        this.fallbackAdviceCatalog = fallbackAdviceCatalog;
+        this.userMessageMaxTokens = userMessageMaxTokens;
+
+        Templates templates;
+        try (InputStream inputStream = new ClassPathResource(LOCATION).getInputStream()) {
+            templates = objectMapper.readValue(inputStream, Templates.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("프롬프트 템플릿을 읽을 수 없습니다: " + LOCATION, e);
+        }
+
+        if (templates.systemInstruction() == null || templates.systemInstruction().isBlank()) {
+            throw new IllegalStateException("프롬프트 템플릿에 systemInstruction 이 없습니다");
+        }
+        this.systemInstruction = templates.systemInstruction();
+
+        templates.templates().keySet().stream()
+            .filter(category -> !fallbackAdviceCatalog.titles().contains(category))
+            .findFirst()
+            .ifPresent(category -> {
+                throw new IllegalStateException("기본 안내 목록에 없는 분류의 프롬프트 템플릿입니다: " + category);
+            });
+
+        PromptTemplate defaultTemplate = PromptTemplate.compile("default",
+            templates.defaultTemplate());
+        Map<String, CompiledPrompt> compiled = new HashMap<>();
+        for (String category : fallbackAdviceCatalog.titles()) {
+            String template = templates.templates().get(category);
+            compiled.put(category, new CompiledPrompt(
+                template == null ? defaultTemplate : PromptTemplate.compile(category, template),
+                DistributionSummary.builder("first_aid.prompt.tokens")
+                    .tag("emergency_type", category)
+                    .baseUnit("tokens")
+                    .register(meterRegistry),
+                Counter.builder("first_aid.prompt.truncated")
+                    .tag("emergency_type", category)
+                    .register(meterRegistry)));
+        }
+        this.prompts = Map.copyOf(compiled);
+    }
+
+    public AdvicePrompt build(String emergencyType, String userMessage) {
+        String category = fallbackAdviceCatalog.find(emergencyType).title();
+        CompiledPrompt prompt = prompts.get(category);
+
+        String type = normalize(emergencyType);
+        String message = normalize(userMessage);
+        int messageLength = ApproximateTokenizer.prefixLength(message, userMessageMaxTokens);
+        boolean truncated = messageLength < message.length();
+        if (truncated) {
+            message = message.substring(0, messageLength).stripTrailing();
+            prompt.truncated().increment();
+        }
+
+        int tokens = prompt.template().literalTokens()
+            + ApproximateTokenizer.count(type)
+            + ApproximateTokenizer.count(message);
+        prompt.tokens().record(tokens);
+        return new AdvicePrompt(category, systemInstruction,
+            prompt.template().render(type, message), tokens, truncated);
+    }
+
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        normalized = CONTROL.matcher(normalized).replaceAll("");
+        normalized = INLINE_WHITESPACE.matcher(normalized).replaceAll(" ");
+        normalized = LINE_BREAKS.matcher(normalized).replaceAll("\n");
+        return normalized.strip();
+    }
+
+    private record CompiledPrompt(
+        PromptTemplate template,
+        DistributionSummary tokens,
+        Counter truncated
+    ) {
+
+    }
+
+    record Templates(
+        String systemInstruction,
+        @JsonProperty("default") String defaultTemplate,
+        Map<String, String> templates
+    ) {
+
+    }
+}
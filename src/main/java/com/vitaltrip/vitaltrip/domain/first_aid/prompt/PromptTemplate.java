@@ -0,0 +1,78 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {{emergencyType}}, {{userMessage}} 자리표시자를 가진 프롬프트 템플릿.
+ * 시작할 때 고정 문자열 조각과 자리표시자 순서로 한 번 나눠 두고, 요청마다 이어 붙이기만 한다.
+ */
+final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    enum Slot {
+        EMERGENCY_TYPE, USER_MESSAGE
+    }
+
+    // literals.length == slots.length + 1
+    private final String[] literals;
+    private final Slot[] slots;
+    private final int literalLength;
+    private final int literalTokens;
+
+    private PromptTemplate(String[] literals, Slot[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        int tokens = 0;
+        for (String literal : literals) {
+            length += literal.length();
+            tokens += ApproximateTokenizer.count(literal);
+        }
+        this.literalLength = length;
+        this.literalTokens = tokens;
+    }
+
+    static PromptTemplate compile(String name, String template) {
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(last, matcher.start()));
+            slots.add(switch (matcher.group(1)) {
+                case "emergencyType" -> Slot.EMERGENCY_TYPE;
+                case "userMessage" -> Slot.USER_MESSAGE;
+                default -> throw new IllegalStateException(
+                    "알 수 없는 프롬프트 자리표시자입니다: " + name + " - " + matcher.group());
+            });
+            last = matcher.end();
+        }
+        literals.add(template.substring(last));
+
+        if (!slots.contains(Slot.USER_MESSAGE)) {
+            throw new IllegalStateException("프롬프트 템플릿에 {{userMessage}} 가 없습니다: " + name);
+        }
+        return new PromptTemplate(literals.toArray(String[]::new), slots.toArray(Slot[]::new));
+    }
+
+    String render(String emergencyType, String userMessage) {
+        StringBuilder prompt = new StringBuilder(
+            literalLength + emergencyType.length() + userMessage.length());
+        for (int i = 0; i < slots.length; i++) {
+            prompt.append(literals[i]);
+            prompt.append(slots[i] == Slot.EMERGENCY_TYPE ? emergencyType : userMessage);
+        }
+        return prompt.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * 자리표시자를 뺀 고정 문자열의 어림 토큰 수.
+     */
+    int literalTokens() {
+        return literalTokens;
+    }
+}
@@ -1,40 +1,402 @@
 package com.vitaltrip.vitaltrip.domain.first_aid.service;
 
+import com.vitaltrip.vitaltrip.common.cache.WeightedTtlCache;
+import com.vitaltrip.vitaltrip.common.concurrent.SingleFlight;
+import com.vitaltrip.vitaltrip.common.dto.ApiResponse;
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
 import com.vitaltrip.vitaltrip.domain.ai.client.GeminiClient;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResult;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiStreamResult;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRoute;
+import com.vitaltrip.vitaltrip.domain.ai.routing.ModelRouter;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.AdviceCacheKey;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.SimilarQuestionCache;
 import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
 import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceResponse;
+import com.vitaltrip.vitaltrip.domain.first_aid.fallback.FallbackAdvice;
+import com.vitaltrip.vitaltrip.domain.first_aid.fallback.FallbackAdviceCatalog;
+import com.vitaltrip.vitaltrip.domain.first_aid.prompt.AdvicePrompt;
+import com.vitaltrip.vitaltrip.domain.first_aid.prompt.PromptLibrary;
+import com.vitaltrip.vitaltrip.domain.first_aid.usage.TokenUsageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FirstAidService {
 
     private final GeminiClient geminiClient;
+    private final WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> adviceCache;
+    private final SimilarQuestionCache<EmergencyChatAdviceResponse> similarAdviceCache;
+    private final FallbackAdviceCatalog fallbackAdviceCatalog;
+    private final PromptLibrary promptLibrary;
+    private final ModelRouter geminiModelRouter;
+    private final TokenUsageService tokenUsageService;
+    private final MeterRegistry meterRegistry;
 
-    public EmergencyChatAdviceResponse generateEmergencyAdvice(EmergencyChatAdviceRequest request) {
-        String prompt = createEmergencyPrompt(request.emergencyType(), request.userMessage());
-        String advice = geminiClient.generateContent(prompt);
-
-        // todo - advice를 위한 프롬프트 고도화, confidence 계산식, 추천 블로그 선택 알고리즘
-        return EmergencyChatAdviceResponse.from(advice, "summery", "temp", 100.0,
-            List.of("https://www.eunwoo-levi.blog/"));
-    }
-
-    // 임시 프롬프트 - 차후 응급처치 메뉴얼 제공 알고리즘 수정 예정
-    private String createEmergencyPrompt(String emergencyType, String userMessage) {
-        return String.format("""
-            You are an emergency medical expert. Please provide assistance for the following emergency situation:
-            
-            Emergency Type: %s
-            User Message: %s
-            
-            Please provide concise and clear instructions on what actions should be taken immediately.
-            Since this is a life-related emergency situation, please provide only accurate information.
-            """, emergencyType, userMessage);
+    // 요청마다 Gemini 응답을 기다리는 동안 블로킹되므로 가상 스레드를 사용한다
+    private final ExecutorService adviceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 가상 스레드는 사실상 무제한이므로 동시에 진행할 수 있는 조언 요청 수를 별도로 제한한다
+    private final Semaphore adviceSlots;
+    private final SingleFlight<AdviceCacheKey, EmergencyChatAdviceResponse> adviceFlights =
+        new SingleFlight<>();
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    @Value("${app.first-aid.advice-timeout:PT25S}")
+    private Duration adviceTimeout;
+
+    @Value("${app.first-aid.stream-timeout:PT90S}")
+    private Duration streamTimeout;
+
+    public FirstAidService(GeminiClient geminiClient,
+        WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> adviceCache,
+        SimilarQuestionCache<EmergencyChatAdviceResponse> similarAdviceCache,
+        FallbackAdviceCatalog fallbackAdviceCatalog, PromptLibrary promptLibrary,
+        ModelRouter geminiModelRouter, TokenUsageService tokenUsageService,
+        @Value("${app.first-aid.max-in-flight:200}") int maxInFlight,
+        MeterRegistry meterRegistry) {
+        this.geminiClient = geminiClient;
+        this.adviceCache = adviceCache;
+        this.similarAdviceCache = similarAdviceCache;
+        this.fallbackAdviceCatalog = fallbackAdviceCatalog;
+        this.promptLibrary = promptLibrary;
+        this.geminiModelRouter = geminiModelRouter;
+        this.tokenUsageService = tokenUsageService;
+        this.meterRegistry = meterRegistry;
+        this.adviceSlots = new Semaphore(maxInFlight);
+        this.rejectedCounter = meterRegistry.counter("first_aid.advice.rejected");
+        this.timeoutCounter = meterRegistry.counter("first_aid.advice.timeout");
+        meterRegistry.gauge("first_aid.advice.in_flight", adviceSlots,
+            slots -> maxInFlight - slots.availablePermits());
+        // 진행 중인 같은 질문의 Gemini 호출 결과를 함께 받은 요청 수
+        FunctionCounter.builder("first_aid.advice.coalesced", adviceFlights,
+                SingleFlight::coalescedCount)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 조언 생성을 가상 스레드에서 실행해 요청 스레드를 바로 돌려준다.
+     * 같은 질문이나 유사한 질문이 캐시에 있으면 슬롯을 쓰지 않고 바로 응답하고,
+     * 같은 질문의 Gemini 호출이 이미 진행 중이면 새로 호출하지 않고 그 결과(또는 오류)를 함께 받는다.
+     * 캐시 응답은 토큰을 쓰지 않으므로 일일 한도는 캐시를 확인한 뒤에 적용하며,
+     * 합류한 호출의 토큰 사용량은 처음 호출한 사용자에게만 기록한다.
+     *
+     * @param userId 로그인하지 않은 요청이면 null
+     */
+    public CompletableFuture<EmergencyChatAdviceResponse> generateEmergencyAdviceAsync(
+        EmergencyChatAdviceRequest request, Long userId) {
+        AdviceCacheKey cacheKey = AdviceCacheKey.of(request);
+        Optional<EmergencyChatAdviceResponse> cached = findCachedAdvice(cacheKey);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        tokenUsageService.checkQuota(userId);
+        return adviceFlights.execute(cacheKey, () -> startAdvice(request, cacheKey, userId));
+    }
+
+    /**
+     * 진행 중인 호출이 max-in-flight 에 이르면 즉시 503 으로 거절한다.
+     * advice-timeout 이 지나거나 Gemini 호출이 실패하면(차단기 열림 포함) 업스트림 호출을 중단하고
+     * 응급상황 유형별 기본 안내로 응답한다. 기본 안내는 캐시에 넣지 않는다.
+     * 제한 시간은 호출 단위이므로 나중에 합류한 요청은 남은 시간만 기다린다.
+     */
+    private CompletableFuture<EmergencyChatAdviceResponse> startAdvice(
+        EmergencyChatAdviceRequest request, AdviceCacheKey cacheKey, Long userId) {
+        acquireSlot();
+
+        RequestCancellation cancellation = new RequestCancellation();
+        CompletableFuture<EmergencyChatAdviceResponse> advice;
+        try {
+            advice = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return generateEmergencyAdvice(request, cacheKey, userId, cancellation);
+                } finally {
+                    adviceSlots.release();
+                }
+            }, adviceExecutor);
+        } catch (RejectedExecutionException e) {
+            adviceSlots.release();
+            throw new CustomException(ErrorType.SERVICE_UNAVAILABLE, "서버가 종료 중입니다");
+        }
+
+        return advice
+            .orTimeout(adviceTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(error -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof TimeoutException) {
+                    cancellation.cancel();
+                    timeoutCounter.increment();
+                    return fallbackAdvice(request.emergencyType(), "timeout");
+                }
+                return fallbackAdvice(request.emergencyType(), fallbackReason(cause));
+            });
+    }
+
+    private void acquireSlot() {
+        if (!adviceSlots.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorType.SERVICE_UNAVAILABLE,
+                "처리 중인 응급처치 조언 요청이 많습니다. 잠시 후 다시 시도해 주세요");
+        }
+    }
+
+    private EmergencyChatAdviceResponse fallbackAdvice(String emergencyType, String reason) {
+        log.warn("응급처치 기본 안내로 응답합니다 - emergencyType: {}, reason: {}", emergencyType, reason);
+        meterRegistry.counter("first_aid.advice.fallback", "reason", reason).increment();
+        FallbackAdvice advice = fallbackAdviceCatalog.find(emergencyType);
+        return EmergencyChatAdviceResponse.fromFallback(advice.title(), advice.content());
+    }
+
+    private String fallbackReason(Throwable cause) {
+        if (!(cause instanceof CustomException customException)) {
+            log.error("응급처치 조언 생성 중 예상치 못한 오류", cause);
+            return "error";
+        }
+        return switch (customException.getErrorType()) {
+            case SERVICE_UNAVAILABLE -> "circuit_open";
+            case CONCURRENCY_LIMITED -> "concurrency_limited";
+            default -> "error";
+        };
+    }
+
+    // 안전 필터로 막힌 응답(SAFETY 등)과 출력 한도에 걸린 빈 응답(MAX_TOKENS)을 구분해 센다
+    private static String noTextReason(String finishReason) {
+        return "MAX_TOKENS".equals(finishReason) ? "max_tokens" : "no_text";
+    }
+
+    private EmergencyChatAdviceResponse generateEmergencyAdvice(EmergencyChatAdviceRequest request,
+        AdviceCacheKey cacheKey, Long userId, RequestCancellation cancellation) {
+        AdvicePrompt prompt = promptLibrary.build(request.emergencyType(), request.userMessage());
+        ModelRoute route = geminiModelRouter.route(prompt.category(), prompt.estimatedTokens());
+        long startedAt = System.nanoTime();
+        GeminiResult result = geminiClient.generate(route, prompt.systemInstruction(),
+            prompt.text(), cancellation);
+        long latency = System.nanoTime() - startedAt;
+        geminiModelRouter.recordLatency(route, latency);
+        tokenUsageService.record(userId, request.emergencyType(), result.usage(), latency);
+        if (!result.hasText()) {
+            return fallbackAdvice(request.emergencyType(), noTextReason(result.finishReason()));
+        }
+
+        EmergencyChatAdviceResponse response = adviceResponse(result.text());
+
+        // 길이 제한이나 안전 필터로 잘린 응답은 다른 사용자에게 재사용하지 않는다
+        if (result.isComplete()) {
+            cacheAdvice(cacheKey, response);
+        }
+        return response;
+    }
+
+    // todo - advice를 위한 프롬프트 고도화, confidence 계산식, 추천 블로그 선택 알고리즘
+    private static EmergencyChatAdviceResponse adviceResponse(String text) {
+        return EmergencyChatAdviceResponse.from(text,
+            "summery", "temp", 100.0, List.of("https://www.eunwoo-levi.blog/"));
+    }
+
+    private void cacheAdvice(AdviceCacheKey cacheKey, EmergencyChatAdviceResponse response) {
+        adviceCache.put(cacheKey, response);
+        similarAdviceCache.put(cacheKey, response);
+    }
+
+    private Optional<EmergencyChatAdviceResponse> findCachedAdvice(AdviceCacheKey cacheKey) {
+        return adviceCache.get(cacheKey).or(() -> similarAdviceCache.get(cacheKey));
+    }
+
+    /**
+     * Gemini 가 생성하는 텍스트를 chunk 이벤트로 바로 전달하고, 끝나면 done 이벤트를 보낸다.
+     * 클라이언트 쓰기가 막히면 업스트림 읽기도 멈추고, 연결이 끊기면 업스트림 요청을 중단한다.
+     * 같은 질문이나 유사한 질문이 캐시에 있으면 Gemini 를 호출하지 않고 하나의 chunk 로 보낸다.
+     * 일일 한도를 넘었거나 진행 중인 조언 요청이 max-in-flight 에 이르렀으면 스트림을 열기 전에 거절하며,
+     * 슬롯은 스트림이 끝날 때까지 유지한다. 완결된 스트림은 비스트리밍 경로와 같은 캐시에 넣는다.
+     *
+     * @param userId 로그인하지 않은 요청이면 null
+     */
+    public SseEmitter streamEmergencyAdvice(EmergencyChatAdviceRequest request, Long userId) {
+        AdviceCacheKey cacheKey = AdviceCacheKey.of(request);
+        Optional<EmergencyChatAdviceResponse> cached = findCachedAdvice(cacheKey);
+        if (cached.isPresent()) {
+            SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+            sendCachedAndComplete(emitter, cached.get());
+            return emitter;
+        }
+
+        tokenUsageService.checkQuota(userId);
+        acquireSlot();
+        try {
+            AdvicePrompt prompt = promptLibrary.build(request.emergencyType(),
+                request.userMessage());
+            ModelRoute route = geminiModelRouter.route(prompt.category(),
+                prompt.estimatedTokens());
+            SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+            RequestCancellation cancellation = new RequestCancellation();
+
+            emitter.onTimeout(cancellation::cancel);
+            emitter.onError(error -> cancellation.cancel());
+
+            adviceExecutor.execute(() -> {
+                try {
+                    streamAdvice(request.emergencyType(), cacheKey, userId, route, prompt,
+                        emitter, cancellation);
+                } finally {
+                    adviceSlots.release();
+                }
+            });
+            return emitter;
+        } catch (RejectedExecutionException e) {
+            adviceSlots.release();
+            throw new CustomException(ErrorType.SERVICE_UNAVAILABLE, "서버가 종료 중입니다");
+        } catch (RuntimeException e) {
+            adviceSlots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 첫 chunk 를 보내기 전에 Gemini 호출이 실패하면 기본 안내를 chunk 로 보내고
+     * finishReason 이 FALLBACK 인 done 이벤트로 끝낸다. 이미 일부를 보냈다면 error 이벤트를 보낸다.
+     */
+    private void streamAdvice(String emergencyType, AdviceCacheKey cacheKey, Long userId,
+        ModelRoute route, AdvicePrompt prompt, SseEmitter emitter,
+        RequestCancellation cancellation) {
+        AtomicBoolean chunkSent = new AtomicBoolean();
+        StringBuilder streamedText = new StringBuilder();
+        try {
+            long startedAt = System.nanoTime();
+            GeminiStreamResult result = geminiClient.streamContent(route,
+                prompt.systemInstruction(), prompt.text(), cancellation, text -> {
+                    // 스트리밍은 첫 조각까지의 지연으로 경로의 SLO 를 판단한다
+                    if (chunkSent.compareAndSet(false, true)) {
+                        geminiModelRouter.recordLatency(route, System.nanoTime() - startedAt);
+                    }
+                    streamedText.append(text);
+                    send(emitter, cancellation, "chunk", Map.of("text", text));
+                });
+            tokenUsageService.record(userId, emergencyType, result.usage(),
+                System.nanoTime() - startedAt);
+            if (result.chunkCount() == 0) {
+                sendFallbackAndComplete(emitter, cancellation, emergencyType,
+                    noTextReason(result.finishReason()));
+                return;
+            }
+
+            if (result.isComplete()) {
+                cacheAdvice(cacheKey, adviceResponse(streamedText.toString()));
+            }
+
+            send(emitter, cancellation, "done",
+                Map.of("finishReason", String.valueOf(result.finishReason())));
+            emitter.complete();
+
+        } catch (StreamClosedException e) {
+            log.info("Advice stream closed by client: {}", e.getMessage());
+        } catch (CustomException e) {
+            if (cancellation.isCancelled()) {
+                log.info("Advice stream cancelled: {}", e.getMessage());
+                return;
+            }
+            if (!chunkSent.get()) {
+                sendFallbackAndComplete(emitter, cancellation, emergencyType,
+                    fallbackReason(e));
+                return;
+            }
+            sendErrorAndComplete(emitter, e.getMessage(), e.getErrorType());
+        } catch (RuntimeException e) {
+            log.error("응급처치 조언 스트리밍 중 예상치 못한 오류", e);
+            if (!chunkSent.get()) {
+                sendFallbackAndComplete(emitter, cancellation, emergencyType, "error");
+                return;
+            }
+            sendErrorAndComplete(emitter, ErrorType.INTERNAL_SERVER_ERROR.getMessage(),
+                ErrorType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void send(SseEmitter emitter, RequestCancellation cancellation, String name,
+        Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊겼거나 타임아웃 등으로 이미 완료된 emitter
+            cancellation.cancel();
+            throw new StreamClosedException(e);
+        }
+    }
+
+    private void sendCachedAndComplete(SseEmitter emitter, EmergencyChatAdviceResponse advice) {
+        try {
+            emitter.send(SseEmitter.event().name("chunk")
+                .data(Map.of("text", advice.content()), MediaType.APPLICATION_JSON));
+            emitter.send(SseEmitter.event().name("done")
+                .data(Map.of("finishReason", "STOP"), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.info("Failed to send cached advice to client: {}", e.getMessage());
+        }
+    }
+
+    private void sendFallbackAndComplete(SseEmitter emitter, RequestCancellation cancellation,
+        String emergencyType, String reason) {
+        EmergencyChatAdviceResponse advice = fallbackAdvice(emergencyType, reason);
+        try {
+            send(emitter, cancellation, "chunk", Map.of("text", advice.content()));
+            send(emitter, cancellation, "done", Map.of("finishReason", "FALLBACK"));
+            emitter.complete();
+        } catch (StreamClosedException e) {
+            log.info("Failed to send fallback advice to client: {}", e.getMessage());
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, String message, ErrorType errorType) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("error")
+                .data(ApiResponse.error(message, errorType.getCode()),
+                    MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.info("Failed to send stream error to client: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        adviceExecutor.shutdownNow();
+    }
+
+    /**
+     * SSE 로 보내지 못한 경우. 다른 IllegalStateException 과 구분하기 위해 send() 에서만 던진다.
+     */
+    private static final class StreamClosedException extends RuntimeException {
+
+        private StreamClosedException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
     }
 
 }
@@ -0,0 +1,24 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.usage;
+
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+
+public record TokenUsageDelta(
+    long promptTokens,
+    long candidatesTokens,
+    long totalTokens,
+    long requestCount
+) {
+
+    public static TokenUsageDelta of(GeminiUsage usage) {
+        return new TokenUsageDelta(usage.promptTokens(), usage.candidatesTokens(),
+            usage.totalTokens(), 1);
+    }
+
+    public TokenUsageDelta plus(TokenUsageDelta other) {
+        return new TokenUsageDelta(
+            promptTokens + other.promptTokens,
+            candidatesTokens + other.candidatesTokens,
+            totalTokens + other.totalTokens,
+            requestCount + other.requestCount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.usage;
+
+import java.time.LocalDate;
+
+/**
+ * @param emergencyType 기본 안내 목록의 분류 이름 (자유 입력을 그대로 쓰지 않아 값의 종류가 제한된다)
+ */
+public record TokenUsageKey(LocalDate usageDate, long userId, String emergencyType) {
+
+    // 로그인하지 않은 요청
+    public static final long ANONYMOUS_USER_ID = 0L;
+}
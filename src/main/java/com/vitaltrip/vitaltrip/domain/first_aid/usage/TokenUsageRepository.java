@@ -0,0 +1,142 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.usage;
+
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.TokenUsageDto;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class TokenUsageRepository {
+
+    private static final String ADD_USAGE_SQL = """
+        MERGE INTO user_token_usage t
+        USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS VARCHAR(50)),
+                       CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT)))
+            AS s (usage_date, user_id, emergency_type,
+                  prompt_tokens, candidates_tokens, total_tokens, request_count)
+        ON t.usage_date = s.usage_date AND t.user_id = s.user_id
+            AND t.emergency_type = s.emergency_type
+        WHEN MATCHED THEN
+            UPDATE SET prompt_tokens = t.prompt_tokens + s.prompt_tokens,
+                       candidates_tokens = t.candidates_tokens + s.candidates_tokens,
+                       total_tokens = t.total_tokens + s.total_tokens,
+                       request_count = t.request_count + s.request_count,
+                       updated_at = CURRENT_TIMESTAMP
+        WHEN NOT MATCHED THEN
+            INSERT (usage_date, user_id, emergency_type,
+                    prompt_tokens, candidates_tokens, total_tokens, request_count, updated_at)
+            VALUES (s.usage_date, s.user_id, s.emergency_type,
+                    s.prompt_tokens, s.candidates_tokens, s.total_tokens, s.request_count,
+                    CURRENT_TIMESTAMP)
+        """;
+
+    private static final int USER_TOTALS_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 절대값이 아닌 증가분을 더하므로 여러 노드가 각자의 사용량을 동시에 반영해도 서로 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void addUsage(Map<TokenUsageKey, TokenUsageDelta> usage) {
+        List<Object[]> batchArgs = usage.entrySet().stream()
+            .map(entry -> new Object[]{
+                entry.getKey().usageDate(),
+                entry.getKey().userId(),
+                entry.getKey().emergencyType(),
+                entry.getValue().promptTokens(),
+                entry.getValue().candidatesTokens(),
+                entry.getValue().totalTokens(),
+                entry.getValue().requestCount()
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate(ADD_USAGE_SQL, batchArgs);
+    }
+
+    public long findUserTotal(LocalDate usageDate, long userId) {
+        Long total = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(total_tokens), 0)
+                FROM user_token_usage
+                WHERE usage_date = ? AND user_id = ?
+                """,
+            Long.class, usageDate, userId);
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * IN 목록이 너무 길어지지 않도록 {@value #USER_TOTALS_CHUNK_SIZE} 명씩 나눠 읽는다.
+     */
+    public Map<Long, Long> findUserTotals(LocalDate usageDate, List<Long> userIds) {
+        Map<Long, Long> totals = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += USER_TOTALS_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from,
+                Math.min(from + USER_TOTALS_CHUNK_SIZE, userIds.size()));
+            namedParameterJdbcTemplate.query("""
+                    SELECT user_id, SUM(total_tokens) AS total_tokens
+                    FROM user_token_usage
+                    WHERE usage_date = :usageDate AND user_id IN (:userIds)
+                    GROUP BY user_id
+                    """,
+                new MapSqlParameterSource()
+                    .addValue("usageDate", usageDate)
+                    .addValue("userIds", chunk),
+                (RowCallbackHandler) resultSet -> totals.put(resultSet.getLong("user_id"),
+                    resultSet.getLong("total_tokens")));
+        }
+        return totals;
+    }
+
+    public List<TokenUsageDto.EmergencyTypeUsage> findEmergencyTypeUsage(LocalDate usageDate) {
+        return jdbcTemplate.query("""
+                SELECT emergency_type, SUM(prompt_tokens) AS prompt_tokens,
+                       SUM(candidates_tokens) AS candidates_tokens, SUM(total_tokens) AS total_tokens,
+                       SUM(request_count) AS request_count
+                FROM user_token_usage
+                WHERE usage_date = ?
+                GROUP BY emergency_type
+                ORDER BY total_tokens DESC, emergency_type
+                """,
+            (resultSet, rowNum) -> new TokenUsageDto.EmergencyTypeUsage(
+                resultSet.getString("emergency_type"),
+                resultSet.getLong("prompt_tokens"),
+                resultSet.getLong("candidates_tokens"),
+                resultSet.getLong("total_tokens"),
+                resultSet.getLong("request_count")),
+            usageDate);
+    }
+
+    public List<TokenUsageDto.UserUsage> findTopUsers(LocalDate usageDate, int limit) {
+        return jdbcTemplate.query("""
+                SELECT user_id, SUM(prompt_tokens) AS prompt_tokens,
+                       SUM(candidates_tokens) AS candidates_tokens, SUM(total_tokens) AS total_tokens,
+                       SUM(request_count) AS request_count
+                FROM user_token_usage
+                WHERE usage_date = ?
+                GROUP BY user_id
+                ORDER BY total_tokens DESC, user_id
+                FETCH FIRST ? ROWS ONLY
+                """,
+            (resultSet, rowNum) -> new TokenUsageDto.UserUsage(
+                resultSet.getLong("user_id"),
+                resultSet.getLong("prompt_tokens"),
+                resultSet.getLong("candidates_tokens"),
+                resultSet.getLong("total_tokens"),
+                resultSet.getLong("request_count")),
+            usageDate, limit);
+    }
+
+    public int deleteBefore(LocalDate usageDate) {
+        return jdbcTemplate.update("DELETE FROM user_token_usage WHERE usage_date < ?", usageDate);
+    }
+}
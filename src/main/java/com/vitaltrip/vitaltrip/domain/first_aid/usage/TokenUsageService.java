@@ -0,0 +1,250 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.usage;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.scheduling.ClusterJobRunner;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.TokenUsageDto;
+import com.vitaltrip.vitaltrip.domain.first_aid.fallback.FallbackAdviceCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Gemini 응답의 usageMetadata 로 토큰 사용량을 응급상황 분류별 메트릭과 사용자별 일일 집계로 남기고, 일일 한도를 적용한다.
+ * <p>
+ * 사용자 ID 는 값의 종류가 많아 메트릭 태그에 넣지 않고 user_token_usage 에만 저장한다.
+ * 사용량은 이 노드의 증가분으로 모았다가 주기적으로 테이블에 더하며, 한도 확인 값은
+ * 테이블에서 읽어 둔 오늘 합계 + 아직 반영하지 않은 이 노드의 증가분이다.
+ * 읽어 둔 합계는 체크포인트마다 버리고, 이번에 반영한 사용자 것만 다시 읽는다. 나머지 사용자는
+ * 한도를 확인할 때 한 명씩 읽으므로 캐시는 최근 한 주기 동안 요청한 사용자만큼만 커진다.
+ * 따라서 여러 노드에 요청이 나뉘면 체크포인트 주기 동안은 한도를 조금 넘을 수 있다.
+ * 한도 확인은 호출 전에 하므로 마지막 요청 하나만큼도 넘을 수 있다.
+ */
+@Slf4j
+@Service
+public class TokenUsageService {
+
+    private final TokenUsageRepository tokenUsageRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final FallbackAdviceCatalog fallbackAdviceCatalog;
+    private final MeterRegistry meterRegistry;
+    private final Counter quotaExceededCounter;
+
+    // 분류별 증가분과 한도 확인용 합계를 한 값으로 묶어 merge 한 번에 함께 바꾼다
+    private final ConcurrentHashMap<UserDay, PendingUsage> pendingUsage = new ConcurrentHashMap<>();
+    // 체크포인트가 테이블에 더하는 중인 증가분. 스냅샷을 다시 읽기 전까지 한도 확인 값에 포함한다
+    private final ConcurrentHashMap<UserDay, PendingUsage> flushingUsage = new ConcurrentHashMap<>();
+
+    private volatile ConcurrentHashMap<UserDay, Long> checkpointedUserTotals =
+        new ConcurrentHashMap<>();
+
+    @Value("${app.first-aid.token-quota.daily-per-user:200000}")
+    private long dailyQuotaPerUser;
+
+    @Value("${app.first-aid.token-usage.retention:P90D}")
+    private Duration retention;
+
+    @Value("${app.first-aid.token-usage.purge-lease:PT10M}")
+    private Duration purgeLease;
+
+    public TokenUsageService(TokenUsageRepository tokenUsageRepository,
+        ClusterJobRunner clusterJobRunner, FallbackAdviceCatalog fallbackAdviceCatalog,
+        MeterRegistry meterRegistry) {
+        this.tokenUsageRepository = tokenUsageRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.fallbackAdviceCatalog = fallbackAdviceCatalog;
+        this.meterRegistry = meterRegistry;
+        this.quotaExceededCounter = meterRegistry.counter("first_aid.token_quota.exceeded");
+        meterRegistry.gauge("first_aid.token_usage.pending.keys", pendingUsage, Map::size);
+    }
+
+    /**
+     * 로그인한 사용자가 오늘 한도를 모두 썼으면 429 로 거절한다. 비로그인 요청과 한도 0 은 제한하지 않는다.
+     */
+    public void checkQuota(Long userId) {
+        if (userId == null || dailyQuotaPerUser <= 0) {
+            return;
+        }
+
+        if (getTodayUsage(userId) >= dailyQuotaPerUser) {
+            quotaExceededCounter.increment();
+            throw new CustomException(ErrorType.TOKEN_QUOTA_EXCEEDED,
+                "오늘 사용할 수 있는 AI 사용량(" + dailyQuotaPerUser + " 토큰)을 모두 사용했습니다");
+        }
+    }
+
+    public long getTodayUsage(long userId) {
+        LocalDate today = LocalDate.now();
+        UserDay userDay = new UserDay(today, userId);
+        // 체크포인트가 옮기는 순서(pending -> flushing -> 스냅샷)대로 읽어야 덜 세는 일이 없다
+        long pending = totalTokens(pendingUsage.get(userDay));
+        long flushing = totalTokens(flushingUsage.get(userDay));
+        return checkpointedTotal(userDay) + flushing + pending;
+    }
+
+    /**
+     * @param emergencyType 사용자가 입력한 응급상황 유형. 기본 안내 목록의 분류 이름으로 바꿔 기록한다
+     * @param latencyNanos  Gemini 호출에 걸린 시간
+     */
+    public void record(Long userId, String emergencyType, GeminiUsage usage, long latencyNanos) {
+        String category = fallbackAdviceCatalog.find(emergencyType).title();
+
+        meterRegistry.counter("first_aid.tokens", "emergency_type", category, "type", "prompt")
+            .increment(usage.promptTokens());
+        meterRegistry.counter("first_aid.tokens", "emergency_type", category, "type", "candidates")
+            .increment(usage.candidatesTokens());
+        meterRegistry.counter("first_aid.tokens", "emergency_type", category, "type", "total")
+            .increment(usage.totalTokens());
+        Timer.builder("first_aid.gemini.latency")
+            .tag("emergency_type", category)
+            .register(meterRegistry)
+            .record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        long user = userId == null ? TokenUsageKey.ANONYMOUS_USER_ID : userId;
+        pendingUsage.merge(new UserDay(LocalDate.now(), user),
+            PendingUsage.of(category, TokenUsageDelta.of(usage)), PendingUsage::plus);
+    }
+
+    @Scheduled(fixedDelayString = "${app.first-aid.token-usage.checkpoint-interval:PT1M}",
+        initialDelayString = "${app.first-aid.token-usage.checkpoint-interval:PT1M}")
+    public synchronized void checkpoint() {
+        moveAll(pendingUsage, flushingUsage);
+
+        if (!flushingUsage.isEmpty()) {
+            try {
+                tokenUsageRepository.addUsage(toRows(flushingUsage));
+            } catch (RuntimeException e) {
+                log.warn("Token usage checkpoint failed, keeping usage for next run", e);
+                moveAll(flushingUsage, pendingUsage);
+                return;
+            }
+        }
+
+        // 스냅샷을 먼저 바꾼 뒤 flushing 을 비워야 한도 확인 값이 잠깐이라도 줄어들지 않는다.
+        // 이미 테이블에 더했으므로 다시 읽지 못해도 flushing 은 비워야 다음 체크포인트가 두 번 더하지 않는다
+        try {
+            reloadUserTotals(flushingUsage.keySet());
+        } catch (RuntimeException e) {
+            log.warn("Token usage totals reload failed, loading them on demand", e);
+            checkpointedUserTotals = new ConcurrentHashMap<>();
+        }
+        flushingUsage.clear();
+    }
+
+    /**
+     * 종료 전에 이 노드의 미반영 사용량을 테이블에 더한다. 배포마다 최대 한 주기만큼의 사용량이 사라지지 않도록 한다.
+     */
+    @PreDestroy
+    public void flush() {
+        checkpoint();
+    }
+
+    @Scheduled(cron = "${app.first-aid.token-usage.purge-cron:0 40 3 * * *}")
+    public void scheduledPurge() {
+        clusterJobRunner.run("token-usage-purge", purgeLease, purgeLease, this::purge);
+    }
+
+    public int purge() {
+        LocalDate cutoff = LocalDate.now().minusDays(retention.toDays());
+        int deleted = tokenUsageRepository.deleteBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Purged {} token usage rows before {}", deleted, cutoff);
+        }
+        return deleted;
+    }
+
+    public TokenUsageDto.DailyUsageResponse getDailyUsage(LocalDate date, int limit) {
+        return new TokenUsageDto.DailyUsageResponse(date,
+            tokenUsageRepository.findEmergencyTypeUsage(date),
+            tokenUsageRepository.findTopUsers(date, limit));
+    }
+
+    /**
+     * 캐시에 없으면 테이블에서 읽는다. 다음 체크포인트가 캐시를 바꾸므로 다른 노드의 사용량도 한 주기 안에 반영된다.
+     */
+    private long checkpointedTotal(UserDay userDay) {
+        ConcurrentHashMap<UserDay, Long> totals = checkpointedUserTotals;
+        Long cached = totals.get(userDay);
+        if (cached != null) {
+            return cached;
+        }
+        long loaded = tokenUsageRepository.findUserTotal(userDay.date(), userDay.userId());
+        Long previous = totals.putIfAbsent(userDay, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    /**
+     * 이번에 반영한 오늘 사용자의 합계만 한 번에 다시 읽어 새 캐시로 바꾼다. 그 밖의 사용자는 다음 조회 때 읽는다.
+     */
+    private void reloadUserTotals(Set<UserDay> flushed) {
+        LocalDate today = LocalDate.now();
+        List<Long> userIds = flushed.stream()
+            .filter(userDay -> userDay.date().equals(today))
+            .map(UserDay::userId)
+            .toList();
+
+        ConcurrentHashMap<UserDay, Long> totals = new ConcurrentHashMap<>();
+        if (!userIds.isEmpty()) {
+            Map<Long, Long> loaded = tokenUsageRepository.findUserTotals(today, userIds);
+            userIds.forEach(userId ->
+                totals.put(new UserDay(today, userId), loaded.getOrDefault(userId, 0L)));
+        }
+        checkpointedUserTotals = totals;
+    }
+
+    /**
+     * 키마다 대상 맵에 먼저 더한 뒤 원래 맵에서 지운다. 그 사이에 읽으면 두 번 셀 수는 있어도 빠뜨리지는 않는다.
+     */
+    private static void moveAll(ConcurrentHashMap<UserDay, PendingUsage> from,
+        ConcurrentHashMap<UserDay, PendingUsage> to) {
+        for (UserDay key : from.keySet()) {
+            from.computeIfPresent(key, (k, usage) -> {
+                to.merge(k, usage, PendingUsage::plus);
+                return null;
+            });
+        }
+    }
+
+    private static Map<TokenUsageKey, TokenUsageDelta> toRows(Map<UserDay, PendingUsage> usage) {
+        Map<TokenUsageKey, TokenUsageDelta> rows = new HashMap<>();
+        usage.forEach((userDay, pending) -> pending.byCategory().forEach((category, delta) ->
+            rows.put(new TokenUsageKey(userDay.date(), userDay.userId(), category), delta)));
+        return rows;
+    }
+
+    private static long totalTokens(PendingUsage usage) {
+        return usage == null ? 0L : usage.totalTokens();
+    }
+
+    private record UserDay(LocalDate date, long userId) {
+
+    }
+
+    private record PendingUsage(Map<String, TokenUsageDelta> byCategory, long totalTokens) {
+
+        static PendingUsage of(String category, TokenUsageDelta delta) {
+            return new PendingUsage(Map.of(category, delta), delta.totalTokens());
+        }
+
+        PendingUsage plus(PendingUsage other) {
+            Map<String, TokenUsageDelta> merged = new HashMap<>(byCategory);
+            other.byCategory.forEach((category, delta) ->
+                merged.merge(category, delta, TokenUsageDelta::plus));
+            return new PendingUsage(Map.copyOf(merged), totalTokens + other.totalTokens);
+        }
+    }
+}
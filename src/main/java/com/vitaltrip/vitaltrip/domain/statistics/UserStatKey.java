@@ -0,0 +1,13 @@
+package com.vitaltrip.vitaltrip.domain.statistics;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+
+public record UserStatKey(String countryCode, User.AuthProvider provider) {
+
+    // 프로필 미완성 OAuth 사용자처럼 국가가 없는 경우
+    public static final String UNKNOWN_COUNTRY = "UNKNOWN";
+
+    public static UserStatKey of(String countryCode, User.AuthProvider provider) {
+        return new UserStatKey(countryCode == null ? UNKNOWN_COUNTRY : countryCode, provider);
+    }
+}
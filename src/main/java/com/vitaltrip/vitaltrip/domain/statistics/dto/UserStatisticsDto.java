@@ -0,0 +1,26 @@
+package com.vitaltrip.vitaltrip.domain.statistics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public class UserStatisticsDto {
+
+    public record UserCount(
+        @Schema(description = "국가 코드. 프로필 미완성 사용자는 UNKNOWN", example = "KR")
+        String countryCode,
+
+        @Schema(description = "가입 경로", example = "LOCAL")
+        String provider,
+
+        long count
+    ) {
+
+    }
+
+    public record UserCountResponse(
+        List<UserCount> counts,
+        long total
+    ) {
+
+    }
+}
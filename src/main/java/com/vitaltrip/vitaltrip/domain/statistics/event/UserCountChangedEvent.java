@@ -0,0 +1,21 @@
+package com.vitaltrip.vitaltrip.domain.statistics.event;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+
+/**
+ * 국가/가입 경로별 사용자 수 증감. 국가가 바뀌면 이전 국가 -1, 새 국가 +1 두 건을 발행한다.
+ */
+public record UserCountChangedEvent(
+    String countryCode,
+    User.AuthProvider provider,
+    int delta
+) {
+
+    public static UserCountChangedEvent joined(String countryCode, User.AuthProvider provider) {
+        return new UserCountChangedEvent(countryCode, provider, 1);
+    }
+
+    public static UserCountChangedEvent left(String countryCode, User.AuthProvider provider) {
+        return new UserCountChangedEvent(countryCode, provider, -1);
+    }
+}
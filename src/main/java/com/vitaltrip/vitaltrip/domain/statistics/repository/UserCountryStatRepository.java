@@ -0,0 +1,132 @@
+package com.vitaltrip.vitaltrip.domain.statistics.repository;
+
+import com.vitaltrip.vitaltrip.domain.statistics.UserStatKey;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserCountryStatRepository {
+
+    private static final String ADD_DELTA_SQL = """
+        MERGE INTO user_country_stats t
+        USING (VALUES (CAST(? AS VARCHAR(10)), CAST(? AS VARCHAR(20)), CAST(? AS BIGINT)))
+            AS s (country_code, provider, delta)
+        ON t.country_code = s.country_code AND t.provider = s.provider
+        WHEN MATCHED THEN
+            UPDATE SET user_count = t.user_count + s.delta, updated_at = CURRENT_TIMESTAMP
+        WHEN NOT MATCHED THEN
+            INSERT (country_code, provider, user_count, updated_at)
+            VALUES (s.country_code, s.provider, s.delta, CURRENT_TIMESTAMP)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconcileMark findReconcileMark() {
+        return queryReconcileMark("""
+            SELECT reconciled_at, LOCALTIMESTAMP AS db_now
+            FROM user_country_stat_reconcile
+            WHERE id = 1
+            """);
+    }
+
+    /**
+     * 기준 시각 행을 잠가 읽는다. 호출한 트랜잭션이 끝날 때까지 정합성 작업은 기준 시각을 바꾸지 못한다.
+     */
+    @Transactional
+    public ReconcileMark lockReconcileMark() {
+        return queryReconcileMark("""
+            SELECT reconciled_at, LOCALTIMESTAMP AS db_now
+            FROM user_country_stat_reconcile
+            WHERE id = 1
+            FOR UPDATE
+            """);
+    }
+
+    public Map<UserStatKey, Long> findAll() {
+        return queryCounts("SELECT country_code, provider, user_count FROM user_country_stats");
+    }
+
+    /**
+     * 절대값이 아닌 증감분을 더하므로 여러 노드가 각자의 증감분을 동시에 반영해도 서로 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void addDeltas(Map<UserStatKey, Long> deltas) {
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+            .map(entry -> new Object[]{
+                entry.getKey().countryCode(),
+                entry.getKey().provider().name(),
+                entry.getValue()
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate(ADD_DELTA_SQL, batchArgs);
+    }
+
+    public Map<UserStatKey, Long> countActiveUsers() {
+        return queryCounts("""
+            SELECT COALESCE(country_code, '%s') AS country_code, provider, COUNT(*) AS user_count
+            FROM users
+            WHERE deleted_at IS NULL
+            GROUP BY COALESCE(country_code, '%s'), provider
+            """.formatted(UserStatKey.UNKNOWN_COUNTRY, UserStatKey.UNKNOWN_COUNTRY));
+    }
+
+    /**
+     * 기준 시각을 지금 DB 시각으로 바꾼다. 호출한 트랜잭션이 끝날 때까지 기준 시각 행이 잠기므로
+     * 다른 노드의 lockReconcileMark 는 그동안 기다린다.
+     */
+    @Transactional
+    public void markReconciled() {
+        jdbcTemplate.update(
+            "UPDATE user_country_stat_reconcile SET reconciled_at = LOCALTIMESTAMP WHERE id = 1");
+    }
+
+    @Transactional
+    public void replaceAll(Map<UserStatKey, Long> counts) {
+        jdbcTemplate.update("DELETE FROM user_country_stats");
+
+        List<Object[]> batchArgs = counts.entrySet().stream()
+            .map(entry -> new Object[]{
+                entry.getKey().countryCode(),
+                entry.getKey().provider().name(),
+                entry.getValue()
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO user_country_stats (country_code, provider, user_count, updated_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+            """, batchArgs);
+    }
+
+    private ReconcileMark queryReconcileMark(String sql) {
+        return jdbcTemplate.queryForObject(sql, (resultSet, rowNum) -> new ReconcileMark(
+            resultSet.getObject("reconciled_at", LocalDateTime.class),
+            resultSet.getObject("db_now", LocalDateTime.class)));
+    }
+
+    private Map<UserStatKey, Long> queryCounts(String sql) {
+        Map<UserStatKey, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> counts.put(
+            new UserStatKey(resultSet.getString("country_code"),
+                User.AuthProvider.valueOf(resultSet.getString("provider"))),
+            resultSet.getLong("user_count")));
+        return counts;
+    }
+
+    /**
+     * 마지막 정합성 작업이 실제 값을 센 DB 시각과, 함께 읽은 지금 DB 시각.
+     */
+    public record ReconcileMark(LocalDateTime reconciledAt, LocalDateTime dbNow) {
+
+    }
+}
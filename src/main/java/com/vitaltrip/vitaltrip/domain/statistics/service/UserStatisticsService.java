@@ -0,0 +1,305 @@
+package com.vitaltrip.vitaltrip.domain.statistics.service;
+
+import com.vitaltrip.vitaltrip.common.scheduling.ClusterJobRunner;
+import com.vitaltrip.vitaltrip.domain.statistics.UserStatKey;
+import com.vitaltrip.vitaltrip.domain.statistics.dto.UserStatisticsDto;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
+import com.vitaltrip.vitaltrip.domain.statistics.repository.UserCountryStatRepository;
+import com.vitaltrip.vitaltrip.domain.statistics.repository.UserCountryStatRepository.ReconcileMark;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 국가/가입 경로별 사용자 수를 메모리에서 유지한다.
+ * <p>
+ * 가입/탈퇴/국가 변경은 커밋 후 발생 시각과 함께 큐에 쌓이고, 주기적으로 user_country_stats 에 더해진다.
+ * 조회 값은 마지막 체크포인트 시점의 테이블 값 + 아직 반영하지 않은 이 노드의 증감분이다.
+ * 다른 노드의 증감분은 해당 노드의 체크포인트 이후에 보이며, 누적 오차는 야간 정합성 작업이 실제 값으로 보정한다.
+ * <p>
+ * 정합성 작업은 테이블을 덮어쓰며 실제 값을 센 DB 시각을 남긴다. 그 시각 이전에 커밋된 증감분은 이미 실제 값에 포함되어
+ * 있으므로 노드는 체크포인트에서 그 증감분만 버리고, 이후의 증감분은 그대로 더한다. 증감분의 시각은 커밋 이후에 찍히므로
+ * 포함되지 않은 증감분을 버리는 일은 없다. 커밋과 리스너 사이의 짧은 틈에 정합성 작업이 실제 값을 세면 그 증감분은 한 번
+ * 더 더해질 수 있으며, 이 오차는 다음 정합성 작업이 보정한다.
+ * <p>
+ * 큐에서 증감분을 꺼내는 것은 체크포인트 하나뿐이고, 테이블에 반영한 뒤에만 꺼내므로 반영 중에 들어온 증감분을 잃지 않는다.
+ * 체크포인트와 정합성 작업은 가상 스레드에서 JDBC 를 기다리므로 synchronized 대신 ReentrantLock 으로 직렬화한다.
+ * 체크포인트는 노드마다 자기 증감분을 반영해야 하므로 모든 노드에서, 정합성 작업은 임대를 잡은 한 노드에서만 실행한다.
+ */
+@Slf4j
+@Service
+public class UserStatisticsService {
+
+    private final UserCountryStatRepository statRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+
+    private final ConcurrentLinkedQueue<PendingDelta> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private volatile Checkpointed checkpointed = Checkpointed.EMPTY;
+
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter discardedCounter;
+
+    @Value("${app.statistics.user.reconcile-lease:PT10M}")
+    private Duration reconcileLease;
+
+    public UserStatisticsService(UserCountryStatRepository statRepository,
+        TransactionTemplate transactionTemplate, ClusterJobRunner clusterJobRunner,
+        MeterRegistry meterRegistry) {
+        this.statRepository = statRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterJobRunner = clusterJobRunner;
+        meterRegistry.gauge("user.statistics.reconcile.drift", lastDrift);
+        meterRegistry.gauge("user.statistics.pending.events", pending, ConcurrentLinkedQueue::size);
+        this.discardedCounter = meterRegistry.counter("user.statistics.checkpoint.discarded");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        checkpointLock.lock();
+        try {
+            checkpointed = loadCheckpointed(checkpointed.generation());
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    // 롤백된 변경이 집계되지 않도록 커밋 이후에만 반영한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCountChanged(UserCountChangedEvent event) {
+        pending.add(new PendingDelta(UserStatKey.of(event.countryCode(), event.provider()),
+            event.delta(), LocalDateTime.now()));
+    }
+
+    public long getCount(String countryCode, User.AuthProvider provider) {
+        return getCounts().getOrDefault(UserStatKey.of(countryCode, provider), 0L);
+    }
+
+    public Map<UserStatKey, Long> getCounts() {
+        Checkpointed snapshot = checkpointed;
+        Map<UserStatKey, Long> counts = new HashMap<>(snapshot.counts());
+        for (PendingDelta delta : pending) {
+            if (snapshot.lacks(delta)) {
+                counts.merge(delta.key(), delta.delta(), Long::sum);
+            }
+        }
+        counts.values().removeIf(count -> count <= 0);
+        return counts;
+    }
+
+    public UserStatisticsDto.UserCountResponse getUserCounts() {
+        List<UserStatisticsDto.UserCount> counts = getCounts().entrySet().stream()
+            .map(entry -> new UserStatisticsDto.UserCount(
+                entry.getKey().countryCode(),
+                entry.getKey().provider().name(),
+                entry.getValue()))
+            .sorted(Comparator.comparingLong(UserStatisticsDto.UserCount::count).reversed()
+                .thenComparing(UserStatisticsDto.UserCount::countryCode)
+                .thenComparing(UserStatisticsDto.UserCount::provider))
+            .toList();
+
+        long total = counts.stream().mapToLong(UserStatisticsDto.UserCount::count).sum();
+        return new UserStatisticsDto.UserCountResponse(counts, total);
+    }
+
+    @Scheduled(fixedDelayString = "${app.statistics.user.checkpoint-interval:PT1M}",
+        initialDelayString = "${app.statistics.user.checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            doCheckpoint();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void doCheckpoint() {
+        // 큐에서 꺼내는 것은 이 메서드뿐이므로 순회 결과는 큐의 앞부분이고, 아래에서 같은 수만큼 꺼내면 정확히 이 증감분이다
+        List<PendingDelta> batch = new ArrayList<>(pending);
+        if (batch.isEmpty()) {
+            reload(checkpointed.generation(), Map.of());
+            return;
+        }
+
+        Map<UserStatKey, Long> applied;
+        try {
+            applied = transactionTemplate.execute(status -> addDeltasSinceReconcile(batch));
+        } catch (RuntimeException e) {
+            log.warn("User statistics checkpoint failed, keeping deltas for next run", e);
+            return;
+        }
+
+        // 조회 스레드가 이전 스냅샷과 함께 읽으면 반영한 증감분을 계속 더하고, 새 스냅샷과 함께 읽으면 빼도록 먼저 표시한다
+        long generation = checkpointed.generation() + 1;
+        batch.forEach(delta -> delta.appliedIn = generation);
+        reload(generation, applied);
+        batch.forEach(delta -> pending.poll());
+    }
+
+    private Map<UserStatKey, Long> addDeltasSinceReconcile(List<PendingDelta> batch) {
+        LocalDateTime localNow = LocalDateTime.now();
+        // 기준 시각 행 잠금은 커밋까지 유지되므로 정합성 작업의 덮어쓰기 전후 어느 한쪽에만 들어간다
+        ReconcileMark mark = statRepository.lockReconcileMark();
+        LocalDateTime reconciledAt = toLocalClock(mark, localNow);
+
+        Map<UserStatKey, Long> deltas = new HashMap<>();
+        long discarded = 0;
+        for (PendingDelta delta : batch) {
+            if (delta.committedBefore(reconciledAt)) {
+                discarded += Math.abs(delta.delta());
+            } else {
+                deltas.merge(delta.key(), delta.delta(), Long::sum);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty()) {
+            statRepository.addDeltas(deltas);
+        }
+        if (discarded > 0) {
+            discardedCounter.increment(discarded);
+            log.info("User statistics reconciled at {}, discarding deltas: {}",
+                mark.reconciledAt(), discarded);
+        }
+        return deltas;
+    }
+
+    @Scheduled(cron = "${app.statistics.user.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        clusterJobRunner.run("user-statistics-reconcile", reconcileLease, reconcileLease,
+            this::reconcile);
+    }
+
+    /**
+     * 집계 테이블을 users 의 실제 GROUP BY 결과로 덮어쓴다. 하루 한 번만 실행되는 전체 스캔이다.
+     */
+    public long reconcile() {
+        checkpointLock.lock();
+        try {
+            doCheckpoint();
+
+            long drift = transactionTemplate.execute(status -> {
+                // 실제 값을 세기 직전의 DB 시각을 남긴다. 이 시각 이후에 찍힌 증감분은 어느 노드에서든 다시 더해진다
+                statRepository.markReconciled();
+                Map<UserStatKey, Long> exact = statRepository.countActiveUsers();
+                Map<UserStatKey, Long> current = statRepository.findAll();
+
+                Set<UserStatKey> keys = new HashSet<>(exact.keySet());
+                keys.addAll(current.keySet());
+                long total = keys.stream()
+                    .mapToLong(key -> Math.abs(
+                        exact.getOrDefault(key, 0L) - current.getOrDefault(key, 0L)))
+                    .sum();
+
+                statRepository.replaceAll(exact);
+                return total;
+            });
+
+            // 이 노드에 남은 증감분은 새 기준 시각에 따라 다음 체크포인트에서 버리거나 더한다
+            reload(checkpointed.generation(), Map.of());
+            lastDrift.set(drift);
+        } finally {
+            checkpointLock.unlock();
+        }
+
+        if (lastDrift.get() > 0) {
+            log.warn("User statistics drift corrected. drift: {}", lastDrift.get());
+        }
+        return lastDrift.get();
+    }
+
+    /**
+     * 테이블을 다시 읽어 스냅샷을 바꾼다. 반영은 이미 커밋됐으므로 다시 읽지 못하면 반영한 증감분을 지금 스냅샷에 더한다.
+     */
+    private void reload(long generation, Map<UserStatKey, Long> applied) {
+        Checkpointed current = checkpointed;
+        try {
+            checkpointed = loadCheckpointed(generation);
+        } catch (RuntimeException e) {
+            log.warn("User statistics reload failed, keeping previous snapshot", e);
+            Map<UserStatKey, Long> merged = new HashMap<>(current.counts());
+            applied.forEach((key, delta) -> merged.merge(key, delta, Long::sum));
+            checkpointed = new Checkpointed(Map.copyOf(merged), generation,
+                current.reconciledAt());
+        }
+    }
+
+    private Checkpointed loadCheckpointed(long generation) {
+        Map<UserStatKey, Long> counts = statRepository.findAll();
+        LocalDateTime localNow = LocalDateTime.now();
+        ReconcileMark mark = statRepository.findReconcileMark();
+        return new Checkpointed(Map.copyOf(counts), generation, toLocalClock(mark, localNow));
+    }
+
+    /**
+     * DB 시각으로 남은 기준 시각을 이 노드의 시계로 옮긴다. 두 시계의 차이는 기준 시각과 함께 읽은 DB 시각으로 잰다.
+     */
+    private static LocalDateTime toLocalClock(ReconcileMark mark, LocalDateTime localNow) {
+        return mark.reconciledAt().minus(Duration.between(localNow, mark.dbNow()));
+    }
+
+    /**
+     * 커밋된 증감분 하나. appliedIn 은 이 증감분을 테이블에 반영한 체크포인트의 세대이며, 반영 전에는 Long.MAX_VALUE 다.
+     */
+    private static final class PendingDelta {
+
+        private final UserStatKey key;
+        private final long delta;
+        private final LocalDateTime committedAt;
+        private volatile long appliedIn = Long.MAX_VALUE;
+
+        private PendingDelta(UserStatKey key, long delta, LocalDateTime committedAt) {
+            this.key = key;
+            this.delta = delta;
+            this.committedAt = committedAt;
+        }
+
+        private UserStatKey key() {
+            return key;
+        }
+
+        private long delta() {
+            return delta;
+        }
+
+        // 시각은 커밋 이후에 찍으므로 기준 시각보다 늦지 않으면 커밋은 확실히 기준 시각 이전이다
+        private boolean committedBefore(LocalDateTime reconciledAt) {
+            return !committedAt.isAfter(reconciledAt);
+        }
+    }
+
+    /**
+     * generation 세대 체크포인트가 읽은 테이블 값과 그때의 정합성 기준 시각(이 노드의 시계).
+     */
+    private record Checkpointed(Map<UserStatKey, Long> counts, long generation,
+                                LocalDateTime reconciledAt) {
+
+        private static final Checkpointed EMPTY = new Checkpointed(Map.of(), 0, LocalDateTime.MIN);
+
+        // 테이블 값에 아직 들어 있지 않은 증감분인지
+        private boolean lacks(PendingDelta delta) {
+            return delta.appliedIn > generation && !delta.committedBefore(reconciledAt);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
 @Table(name = "users")
@@ -19,6 +21,9 @@ public class User extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String email;
 
+    @Column(name = "normalized_email", unique = true, nullable = false)
+    private String normalizedEmail;
+
     @Column(nullable = false)
     private String name;
 
@@ -48,6 +53,9 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private Role role;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public void updateProfile(String name, LocalDate birthDate, String countryCode, String phoneNumber) {
         this.name = name;
         this.birthDate = birthDate;
@@ -67,6 +75,24 @@ public class User extends BaseEntity {
         this.phoneNumber = phoneNumber;
     }
 
+    public void markDeleted(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void syncNormalizedEmail() {
+        this.normalizedEmail = normalizeEmail(email);
+    }
+
     public enum AuthProvider {
         LOCAL, GOOGLE
     }
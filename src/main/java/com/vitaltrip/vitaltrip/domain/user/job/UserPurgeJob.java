@@ -0,0 +1,128 @@
+package com.vitaltrip.vitaltrip.domain.user.job;
+
+import com.vitaltrip.vitaltrip.common.scheduling.ClusterJobRunner;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 탈퇴 처리된 사용자를 작은 배치 단위로 삭제한다.
+ * 배치마다 짧은 트랜잭션을 사용하고, 배치 사이 대기와 실행당 배치/시간 상한으로 DB 부하를 제한한다.
+ * 여러 노드 중 임대를 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+public class UserPurgeJob {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingUsers = new AtomicLong();
+
+    @Value("${app.user.purge.grace-period:PT10M}")
+    private Duration gracePeriod;
+
+    @Value("${app.user.purge.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.user.purge.pause-between-batches:PT0.5S}")
+    private Duration pauseBetweenBatches;
+
+    @Value("${app.user.purge.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.user.purge.max-run-duration:PT30S}")
+    private Duration maxRunDuration;
+
+    @Value("${app.user.purge.lease:PT2M}")
+    private Duration lease;
+
+    @Value("${app.user.purge.min-lease:PT1M}")
+    private Duration minLease;
+
+    public UserPurgeJob(UserRepository userRepository, TransactionTemplate transactionTemplate,
+        ClusterJobRunner clusterJobRunner, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterJobRunner = clusterJobRunner;
+        this.purgedCounter = meterRegistry.counter("user.purge.purged");
+        this.batchTimer = meterRegistry.timer("user.purge.batch");
+        meterRegistry.gauge("user.purge.pending", pendingUsers);
+    }
+
+    @Scheduled(fixedRateString = "${app.user.purge.interval:PT5M}",
+        initialDelayString = "${app.user.purge.initial-delay:PT1M}")
+    public void run() {
+        clusterJobRunner.run("user-purge", lease, minLease,
+            () -> purge(LocalDateTime.now().minus(gracePeriod)));
+    }
+
+    public long purge(LocalDateTime deletedBefore) {
+        long deadline = System.nanoTime() + maxRunDuration.toNanos();
+        long purged = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerRun && System.nanoTime() < deadline) {
+            int deleted = batchTimer.record(() -> purgeBatch(deletedBefore));
+            batches++;
+            purged += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+
+            if (!pause()) {
+                break;
+            }
+        }
+
+        pendingUsers.set(userRepository.countByDeletedAtBefore(deletedBefore));
+
+        if (purged > 0) {
+            log.info("User purge run completed. purged: {}, batches: {}, pending: {}",
+                purged, batches, pendingUsers.get());
+        }
+        return purged;
+    }
+
+    private int purgeBatch(LocalDateTime deletedBefore) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = userRepository.findPurgeCandidateIds(deletedBefore,
+                PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            userRepository.deleteAllByIdInBatch(ids);
+            return ids.size();
+        });
+
+        int count = deleted == null ? 0 : deleted;
+        purgedCounter.increment(count);
+        return count;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.vitaltrip.vitaltrip.domain.user.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가입과 이메일 중복 확인에 필요한 컬럼만 담는 읽기 전용 뷰.
+ * 이메일이 이미 쓰였는지와 그 계정이 탈퇴 대기 중인지만 판단한다.
+ */
+public interface UserEmailStatusView {
+
+    LocalDateTime getDeletedAt();
+
+    default boolean isDeleted() {
+        return getDeletedAt() != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.vitaltrip.vitaltrip.domain.user.projection;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import java.time.LocalDate;
+
+/**
+ * 인증 필터와 내 정보 조회에 필요한 컬럼만 담는 읽기 전용 뷰.
+ * 엔티티가 아니므로 영속성 컨텍스트와 dirty checking 스냅샷을 만들지 않는다.
+ */
+public interface UserProfileView {
+
+    Long getId();
+
+    String getEmail();
+
+    String getName();
+
+    LocalDate getBirthDate();
+
+    String getCountryCode();
+
+    String getPhoneNumber();
+
+    String getProfileImageUrl();
+
+    User.AuthProvider getProvider();
+
+    User.Role getRole();
+}
@@ -1,16 +1,41 @@
 package com.vitaltrip.vitaltrip.domain.user.repository;
 
 import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserEmailStatusView;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    Optional<User> findByEmail(String email);
+    Optional<User> findByNormalizedEmail(String normalizedEmail);
 
     Optional<User> findByProviderAndProviderId(User.AuthProvider provider, String providerId);
 
-    boolean existsByEmail(String email);
+    Optional<UserEmailStatusView> findEmailStatusByNormalizedEmail(String normalizedEmail);
+
+    // 탈퇴 처리된 사용자는 인증 대상에서 제외한다
+    Optional<UserProfileView> findProfileByIdAndDeletedAtIsNull(Long id);
+
+    @Query("select u.id from User u where u.deletedAt < :deletedBefore order by u.deletedAt")
+    List<Long> findPurgeCandidateIds(@Param("deletedBefore") LocalDateTime deletedBefore,
+        Pageable pageable);
+
+    long countByDeletedAtBefore(LocalDateTime deletedBefore);
+
+    // 이메일 조회는 대소문자를 구분하지 않고 uk_users_normalized_email 인덱스를 사용한다
+    default Optional<User> findByEmail(String email) {
+        return findByNormalizedEmail(User.normalizeEmail(email));
+    }
+
+    default Optional<UserEmailStatusView> findEmailStatus(String email) {
+        return findEmailStatusByNormalizedEmail(User.normalizeEmail(email));
+    }
 }
@@ -0,0 +1,18 @@
+-- 기존 Hibernate 자동 생성 스키마와 동일한 users 테이블
+CREATE TABLE IF NOT EXISTS users
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    email             VARCHAR(255) NOT NULL,
+    name              VARCHAR(255) NOT NULL,
+    password_hash     VARCHAR(255),
+    birth_date        DATE,
+    country_code      VARCHAR(2),
+    phone_number      VARCHAR(20),
+    provider          VARCHAR(20)  NOT NULL,
+    provider_id       VARCHAR(255),
+    profile_image_url VARCHAR(255),
+    role              VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
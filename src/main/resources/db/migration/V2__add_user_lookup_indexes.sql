@@ -0,0 +1,12 @@
+-- UserRepository 조회 경로에 맞춘 인덱스
+-- H2는 함수 기반 인덱스를 지원하지 않으므로 정규화된 이메일을 별도 컬럼으로 저장한다
+ALTER TABLE users ADD COLUMN IF NOT EXISTS normalized_email VARCHAR(255);
+
+UPDATE users SET normalized_email = LOWER(TRIM(email)) WHERE normalized_email IS NULL;
+
+ALTER TABLE users ALTER COLUMN normalized_email SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_normalized_email ON users (normalized_email);
+
+-- Google 로그인 findByProviderAndProviderId
+CREATE INDEX IF NOT EXISTS idx_users_provider_provider_id ON users (provider, provider_id);
@@ -0,0 +1,13 @@
+-- 관리자 사용자 검색(키셋 페이지네이션)용 인덱스
+-- 정렬 순서(created_at DESC, id DESC)를 인덱스에 그대로 두어 페이지 깊이와 관계없이 LIMIT 만큼만 읽는다
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id
+    ON users (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_country_created_at_id
+    ON users (country_code, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_provider_created_at_id
+    ON users (provider, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_country_provider_created_at_id
+    ON users (country_code, provider, created_at DESC, id DESC);
@@ -0,0 +1,5 @@
+-- 회원 탈퇴: 즉시 deleted_at 을 기록하고 백그라운드 작업이 배치로 삭제한다
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+-- 삭제 대상 조회(deleted_at < ?)용
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at);
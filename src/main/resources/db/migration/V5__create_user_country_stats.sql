@@ -0,0 +1,16 @@
+-- 국가/가입 경로별 사용자 수 집계 테이블
+-- 각 노드가 메모리의 증감분을 주기적으로 더하고, 야간 정합성 작업이 실제 값으로 보정한다
+CREATE TABLE IF NOT EXISTS user_country_stats
+(
+    country_code VARCHAR(10)  NOT NULL,
+    provider     VARCHAR(20)  NOT NULL,
+    user_count   BIGINT       NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_user_country_stats PRIMARY KEY (country_code, provider)
+);
+
+INSERT INTO user_country_stats (country_code, provider, user_count, updated_at)
+SELECT COALESCE(country_code, 'UNKNOWN'), provider, COUNT(*), CURRENT_TIMESTAMP
+FROM users
+WHERE deleted_at IS NULL
+GROUP BY COALESCE(country_code, 'UNKNOWN'), provider;
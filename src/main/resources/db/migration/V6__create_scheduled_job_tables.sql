@@ -0,0 +1,27 @@
+-- 여러 노드 중 한 곳에서만 주기 작업을 실행하기 위한 임대(lease)
+CREATE TABLE IF NOT EXISTS scheduled_job_lease
+(
+    job_name     VARCHAR(100) NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_at    TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_scheduled_job_lease PRIMARY KEY (job_name)
+);
+
+-- 주기 작업 실행 이력
+CREATE TABLE IF NOT EXISTS scheduled_job_run
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    job_name      VARCHAR(100)  NOT NULL,
+    node_id       VARCHAR(255)  NOT NULL,
+    started_at    TIMESTAMP(6)  NOT NULL,
+    finished_at   TIMESTAMP(6),
+    duration_ms   BIGINT,
+    status        VARCHAR(20)   NOT NULL,
+    error_message VARCHAR(1000),
+    CONSTRAINT pk_scheduled_job_run PRIMARY KEY (id)
+);
+
+-- 작업별 최근 이력 조회와 보관 기간이 지난 이력 삭제용
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_run_job_started_at
+    ON scheduled_job_run (job_name, started_at DESC);
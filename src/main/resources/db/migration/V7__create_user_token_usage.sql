@@ -0,0 +1,14 @@
+-- 사용자/응급상황 유형별 일일 Gemini 토큰 사용량
+-- 각 노드가 메모리에 누적한 사용량을 주기적으로 더한다. user_id 0 은 비로그인 요청이다
+CREATE TABLE IF NOT EXISTS user_token_usage
+(
+    usage_date        DATE         NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    emergency_type    VARCHAR(50)  NOT NULL,
+    prompt_tokens     BIGINT       NOT NULL,
+    candidates_tokens BIGINT       NOT NULL,
+    total_tokens      BIGINT       NOT NULL,
+    request_count     BIGINT       NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_user_token_usage PRIMARY KEY (usage_date, user_id, emergency_type)
+);
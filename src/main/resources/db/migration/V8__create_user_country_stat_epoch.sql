@@ -0,0 +1,11 @@
+-- 정합성 작업 세대. 정합성 작업이 집계를 덮어쓸 때마다 1 늘린다
+-- 노드는 증감분을 쌓기 시작한 세대가 지금 세대와 같을 때만 더하고, 이전 세대의 증감분은 버린다
+CREATE TABLE IF NOT EXISTS user_country_stat_epoch
+(
+    id    INT    NOT NULL,
+    epoch BIGINT NOT NULL,
+    CONSTRAINT pk_user_country_stat_epoch PRIMARY KEY (id)
+);
+
+INSERT INTO user_country_stat_epoch (id, epoch)
+VALUES (1, 0);
@@ -0,0 +1,8 @@
+-- 정합성 작업은 세대 번호 대신 실제 값을 센 DB 시각을 남긴다
+-- 노드는 그 시각 이전에 커밋된 증감분만 버리고, 이후의 증감분은 그대로 더한다
+ALTER TABLE user_country_stat_epoch RENAME TO user_country_stat_reconcile;
+
+ALTER TABLE user_country_stat_reconcile
+    ADD COLUMN reconciled_at TIMESTAMP(6) DEFAULT TIMESTAMP '1970-01-01 00:00:00' NOT NULL;
+
+ALTER TABLE user_country_stat_reconcile DROP COLUMN epoch;
@@ -0,0 +1,102 @@
+package com.vitaltrip.vitaltrip.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("가중치/TTL 캐시 테스트")
+class WeightedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private WeightedTtlCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WeightedTtlCache<>("test", 10, Duration.ofMinutes(1),
+            (key, value) -> value.length(), now::get);
+    }
+
+    @Test
+    @DisplayName("조회 적중과 미적중을 기록")
+    void get_RecordsHitsAndMisses() {
+        // given
+        cache.put("a", "aaa");
+
+        // when
+        assertThat(cache.get("a")).contains("aaa");
+        assertThat(cache.get("b")).isEmpty();
+
+        // then
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hitRate()).isEqualTo(0.5);
+        assertThat(statistics.weight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가중치 상한을 넘으면 가장 오래 조회되지 않은 항목부터 제거")
+    void put_EvictsLeastRecentlyUsedWhenOverweight() {
+        // given
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        // when - 4 + 4 + 4 > 10
+        cache.put("c", "cccc");
+
+        // then
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("aaaa");
+        assertThat(cache.get("c")).contains("cccc");
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+        assertThat(cache.statistics().weight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회되지 않음")
+    void get_ExpiredEntryIsMiss() {
+        // given
+        cache.put("a", "aaa");
+
+        // when
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.statistics().expirations()).isEqualTo(1);
+        assertThat(cache.statistics().size()).isZero();
+        assertThat(cache.statistics().weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 저장하면 가중치를 교체")
+    void put_ReplacesWeightOfSameKey() {
+        // when
+        cache.put("a", "aaaaaaaa");
+        cache.put("a", "aa");
+
+        // then
+        assertThat(cache.statistics().weight()).isEqualTo(2);
+        assertThat(cache.statistics().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상한보다 무거운 항목은 저장하지 않음")
+    void put_SkipsEntryHeavierThanMaxWeight() {
+        // given
+        cache.put("a", "aaa");
+
+        // when
+        cache.put("huge", "x".repeat(11));
+
+        // then
+        assertThat(cache.get("huge")).isEmpty();
+        assertThat(cache.get("a")).contains("aaa");
+        assertThat(cache.statistics().evictions()).isZero();
+    }
+}
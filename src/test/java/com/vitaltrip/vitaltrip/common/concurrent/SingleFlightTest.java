@@ -0,0 +1,115 @@
+package com.vitaltrip.vitaltrip.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("같은 키 호출 병합 테스트")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("진행 중인 같은 키의 호출은 결과를 함께 받음")
+    void execute_SharesInFlightCall() {
+        // given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<String> first = singleFlight.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = singleFlight.execute("key", () -> call(upstream));
+        upstream.complete("advice");
+
+        // then
+        assertThat(first.join()).isEqualTo("advice");
+        assertThat(second.join()).isEqualTo("advice");
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키는 각자 호출")
+    void execute_DifferentKeysCallSeparately() {
+        // when
+        singleFlight.execute("a", () -> call(new CompletableFuture<>()));
+        singleFlight.execute("b", () -> call(new CompletableFuture<>()));
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출 실패는 함께 기다리던 호출자 모두에게 전달")
+    void execute_SharesFailure() {
+        // given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> call(upstream));
+        CompletableFuture<String> second = singleFlight.execute("key", () -> call(upstream));
+
+        // when
+        upstream.completeExceptionally(new IllegalStateException("upstream failed"));
+
+        // then
+        assertThatThrownBy(first::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("완료된 뒤의 호출은 새로 시작")
+    void execute_StartsNewCallAfterCompletion() {
+        // when
+        singleFlight.execute("key", () -> call(CompletableFuture.completedFuture("first"))).join();
+        String second = singleFlight.execute("key",
+            () -> call(CompletableFuture.completedFuture("second"))).join();
+
+        // then
+        assertThat(second).isEqualTo("second");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("한 호출자의 제한 시간은 다른 호출자에게 영향을 주지 않음")
+    void execute_CallerTimeoutDoesNotAffectOthers() {
+        // given
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> impatient = singleFlight.execute("key", () -> call(upstream))
+            .orTimeout(10, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> patient = singleFlight.execute("key", () -> call(upstream));
+
+        // when
+        assertThatThrownBy(impatient::join).hasCauseInstanceOf(TimeoutException.class);
+        upstream.complete("advice");
+
+        // then
+        assertThat(patient.join()).isEqualTo("advice");
+    }
+
+    @Test
+    @DisplayName("호출 시작이 즉시 실패하면 예외를 던지고 키를 비움")
+    void execute_SynchronousFailureClearsKey() {
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("rejected");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private CompletableFuture<String> call(CompletableFuture<String> upstream) {
+        calls.incrementAndGet();
+        return upstream;
+    }
+}
@@ -0,0 +1,144 @@
+package com.vitaltrip.vitaltrip.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.datasource.proxy.enabled=true",
+    "app.datasource.proxy.slow-query-threshold=PT0S"
+})
+@DisplayName("SQL 프로파일링 DataSource 테스트")
+class ProfilingDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlStatementProfiler sqlStatementProfiler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        admin = userRepository.save(User.builder()
+            .email("admin@example.com")
+            .name("관리자")
+            .provider(User.AuthProvider.LOCAL)
+            .role(User.Role.ADMIN)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("DataSource 가 프록시로 감싸지고 풀 대기와 실행 시간이 따로 기록됨")
+    void recordsAcquireAndExecutionSeparately() {
+        // given
+        long acquiredBefore = sqlStatementProfiler.connectionAcquireTiming().count();
+
+        // when
+        userRepository.findByEmail("admin@example.com");
+        userRepository.findByEmail("other@example.com");
+
+        // then
+        assertThat(dataSource).isInstanceOf(ProfilingDataSource.class);
+        assertThat(sqlStatementProfiler.connectionAcquireTiming().count())
+            .isGreaterThan(acquiredBefore);
+        assertThat(sqlStatementProfiler.statementTimings(200))
+            .filteredOn(statement -> statement.sql().contains("normalized_email=?"))
+            .filteredOn(statement -> statement.sql().startsWith("select"))
+            .singleElement()
+            .satisfies(statement -> assertThat(statement.timing().count())
+                .isGreaterThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("전체 실행 시간은 지문별 Timer 와 다른 이름으로 기록해 합산 시 중복되지 않음")
+    void totalTimer_SeparateFromFingerprintTimers() {
+        // when
+        userRepository.findByEmail("admin@example.com");
+
+        // then
+        assertThat(meterRegistry.find("db.statement.execution").timers())
+            .allSatisfy(timer -> assertThat(timer.getId().getTag("fingerprint")).isNotEqualTo("all"));
+        assertThat(meterRegistry.get("db.statement.execution.total").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("관리자 API 로 풀 대기 시간과 지문별 실행 시간 조회")
+    void adminEndpoint_ReturnsProfile() throws Exception {
+        // given
+        userRepository.findByEmail("admin@example.com");
+
+        // when & then
+        mockMvc.perform(get("/api/admin/database/statements")
+                .header("Authorization", "Bearer " + jwtUtil.generateAccessToken(admin)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.connectionAcquire.count").isNumber())
+            .andExpect(jsonPath("$.data.statementExecution.p99Millis").isNumber())
+            .andExpect(jsonPath("$.data.statements[0].fingerprint").isString());
+    }
+
+    @Nested
+    @DisplayName("SQL 지문")
+    class FingerprintTest {
+
+        @Test
+        @DisplayName("리터럴과 IN 목록 길이는 지문에서 제거")
+        void normalize_ReplacesLiteralsAndInLists() {
+            String first = SqlFingerprint.normalize(
+                "select * from users  where email = 'a@b.com' and id in (?, ?, ?) fetch first 21 rows only");
+            String second = SqlFingerprint.normalize(
+                "select * from users where email = 'other' and id in (?,?) fetch first 5 rows only");
+
+            assertThat(first)
+                .isEqualTo(second)
+                .isEqualTo("select * from users where email = ? and id in (?...) fetch first ? rows only");
+        }
+
+        @Test
+        @DisplayName("별칭 안의 숫자는 유지")
+        void normalize_KeepsAliases() {
+            assertThat(SqlFingerprint.normalize("select u1_0.id from users u1_0 where u1_0.id=?"))
+                .isEqualTo("select u1_0.id from users u1_0 where u1_0.id=?");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.vitaltrip.vitaltrip.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 로컬 가짜 서버로 지연/트리클/gzip 응답을 흉내 내 제한 시간과 풀 동작을 확인한다.
+ */
+@DisplayName("커넥션 풀 HTTP 클라이언트 테스트")
+class PooledClientHttpRequestFactoryTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration TOTAL_TIMEOUT = Duration.ofMillis(1_500);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService callers;
+    private final AtomicReference<String> lastAcceptEncoding = new AtomicReference<>();
+
+    private PooledClientHttpRequestFactory requestFactory;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        callers = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+
+        server.createContext("/ok", exchange -> respond(exchange, "ok"));
+        server.createContext("/hold", exchange -> {
+            sleep(Duration.ofMillis(700));
+            respond(exchange, "held");
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(READ_TIMEOUT.multipliedBy(4));
+            respond(exchange, "too late");
+        });
+        // 바이트 간격은 읽기 제한 시간보다 짧지만 전체 응답은 전체 제한 시간보다 오래 걸린다
+        server.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < 40; i++) {
+                    body.write('.');
+                    body.flush();
+                    sleep(Duration.ofMillis(100));
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 끊음
+            }
+        });
+        server.createContext("/gzip", exchange -> {
+            lastAcceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] compressed = gzip("compressed response");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(compressed);
+            }
+        });
+        server.start();
+
+        requestFactory = createRequestFactory(2, Duration.ofSeconds(5), Duration.ofSeconds(30));
+        restClient = createRestClient(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        requestFactory.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("응답 시작이 읽기 제한 시간을 넘으면 실패")
+    void readTimeout() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> get("/slow"))
+            .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isLessThan(READ_TIMEOUT.multipliedBy(3));
+    }
+
+    @Test
+    @DisplayName("조금씩 흘러나오는 응답은 전체 제한 시간에서 중단")
+    void totalTimeout() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> get("/trickle"))
+            .isInstanceOf(RestClientException.class)
+            .hasStackTraceContaining("전체 제한 시간");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isGreaterThanOrEqualTo(TOTAL_TIMEOUT)
+            .isLessThan(TOTAL_TIMEOUT.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("gzip 을 요청하고 압축된 응답을 풀어서 반환")
+    void gzipResponse() {
+        assertThat(get("/gzip")).isEqualTo("compressed response");
+        assertThat(lastAcceptEncoding.get()).contains("gzip");
+    }
+
+    @Test
+    @DisplayName("route 당 최대 커넥션을 넘는 요청은 풀에서 대기하고 커넥션은 재사용")
+    void perRouteLimit() throws Exception {
+        // when
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> get("/hold"), callers));
+        }
+        sleep(Duration.ofMillis(300));
+        PoolStatistics during = requestFactory.poolStatistics();
+        for (CompletableFuture<String> call : calls) {
+            assertThat(call.get()).isEqualTo("held");
+        }
+        PoolStatistics after = requestFactory.poolStatistics();
+
+        // then
+        assertThat(during.leased()).isEqualTo(2);
+        assertThat(during.pending()).isEqualTo(2);
+        assertThat(after.leased()).isZero();
+        assertThat(after.available()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀 대기 시간을 넘기면 실패")
+    void poolWaitTimeout() throws Exception {
+        // given
+        requestFactory.destroy();
+        requestFactory = createRequestFactory(1, Duration.ofMillis(100), Duration.ofSeconds(30));
+        restClient = createRestClient(requestFactory);
+        CompletableFuture<String> holding =
+            CompletableFuture.supplyAsync(() -> get("/hold"), callers);
+        sleep(Duration.ofMillis(200));
+
+        // when & then
+        assertThatThrownBy(() -> get("/ok"))
+            .isInstanceOf(ResourceAccessException.class);
+        assertThat(holding.get()).isEqualTo("held");
+    }
+
+    @Test
+    @DisplayName("유휴 커넥션은 백그라운드에서 정리")
+    void idleEviction() {
+        // given
+        requestFactory.destroy();
+        requestFactory = createRequestFactory(2, Duration.ofSeconds(5), Duration.ofMillis(200));
+        restClient = createRestClient(requestFactory);
+
+        // when
+        get("/ok");
+        int availableAfterRequest = requestFactory.poolStatistics().available();
+        sleep(Duration.ofSeconds(1));
+
+        // then
+        assertThat(availableAfterRequest).isEqualTo(1);
+        assertThat(requestFactory.poolStatistics().available()).isZero();
+    }
+
+    private PooledClientHttpRequestFactory createRequestFactory(int maxPerRoute,
+        Duration poolWaitTimeout, Duration maxIdleTime) {
+        return new PooledClientHttpRequestFactory("test", new HttpClientPoolSettings(
+            10,
+            maxPerRoute,
+            Duration.ofSeconds(1),
+            poolWaitTimeout,
+            READ_TIMEOUT,
+            TOTAL_TIMEOUT,
+            maxIdleTime,
+            Duration.ofMinutes(5)
+        ));
+    }
+
+    private RestClient createRestClient(PooledClientHttpRequestFactory factory) {
+        return RestClient.builder()
+            .baseUrl("http://localhost:" + server.getAddress().getPort())
+            .requestFactory(factory)
+            .requestInterceptor(factory.totalDeadlineInterceptor())
+            .build();
+    }
+
+    private String get(String path) {
+        return restClient.get().uri(path).retrieve().body(String.class);
+    }
+
+    private static void respond(HttpExchange exchange, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("API 키 풀 테스트")
+class ApiKeyPoolTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ApiKeyPool pool = new ApiKeyPool("gemini", List.of("key-a1", "key-b2"),
+        new ApiKeyPoolSettings(10, 1_000, Duration.ofSeconds(30), Duration.ofMinutes(2)),
+        now::get);
+
+    @Test
+    @DisplayName("최근 1분 사용률이 가장 낮은 키를 고름")
+    void acquire_PicksLeastLoadedKey() {
+        // given - key-a1 이 토큰 한도의 절반을 썼다
+        ApiKeyPool.Lease first = pool.acquire();
+        assertThat(first.apiKey()).isEqualTo("key-a1");
+        first.complete(500);
+
+        // when & then - 요청 1건이 0.1 이므로 key-b2 를 5건 쓸 때까지 key-b2 를 고른다
+        for (int i = 0; i < 5; i++) {
+            ApiKeyPool.Lease lease = pool.acquire();
+            assertThat(lease.apiKey()).isEqualTo("key-b2");
+            lease.complete(0);
+        }
+        assertThat(pool.acquire().apiKey()).isEqualTo("key-a1");
+    }
+
+    @Test
+    @DisplayName("사용률이 같으면 진행 중인 요청이 적은 키를 고름")
+    void acquire_TiesBrokenByInFlight() {
+        // given - 두 키 모두 요청 1건을 썼고 key-a1 의 요청만 진행 중이다
+        ApiKeyPool.Lease first = pool.acquire();
+        pool.acquire().complete(0);
+
+        // when
+        ApiKeyPool.Lease next = pool.acquire();
+
+        // then
+        assertThat(first.apiKey()).isEqualTo("key-a1");
+        assertThat(next.apiKey()).isEqualTo("key-b2");
+    }
+
+    @Test
+    @DisplayName("429 를 받은 키는 quarantine 동안 고르지 않고, 연속되면 두 배씩 늘림")
+    void rateLimited_QuarantinesKey() {
+        // given
+        pool.acquire().rateLimited(null);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            ApiKeyPool.Lease lease = pool.acquire();
+            assertThat(lease.apiKey()).isEqualTo("key-b2");
+            lease.complete(0);
+        }
+        assertThat(pool.usage().getFirst().quarantineRemainingSeconds()).isEqualTo(30);
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        ApiKeyPool.Lease recovered = pool.acquire();
+        assertThat(recovered.apiKey()).isEqualTo("key-a1");
+
+        recovered.rateLimited(null);
+        assertThat(pool.usage().getFirst().quarantineRemainingSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Retry-After 가 있으면 그만큼 쉬고 maxQuarantine 을 넘지 않음")
+    void rateLimited_UsesRetryAfterUpToMax() {
+        // when
+        pool.acquire().rateLimited(Duration.ofSeconds(5));
+        pool.acquire().rateLimited(Duration.ofMinutes(10));
+
+        // then
+        List<ApiKeyUsage> usage = pool.usage();
+        assertThat(usage.get(0).quarantineRemainingSeconds()).isEqualTo(5);
+        assertThat(usage.get(1).quarantineRemainingSeconds()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("모든 키가 쉬고 있으면 가장 먼저 풀리는 키를 씀")
+    void acquire_AllQuarantined_UsesSoonestReleasedKey() {
+        // given
+        pool.acquire().rateLimited(Duration.ofSeconds(20));
+        pool.acquire().rateLimited(Duration.ofSeconds(10));
+
+        // when & then
+        assertThat(pool.acquire().apiKey()).isEqualTo("key-b2");
+    }
+
+    @Test
+    @DisplayName("사용량은 키 끝 4자리만 보이고 1분이 지나면 최근 사용량에서 빠짐")
+    void usage_MasksKeyAndSlidesWindow() {
+        // given
+        pool.acquire().complete(100);
+
+        // when
+        ApiKeyUsage recent = pool.usage().getFirst();
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        ApiKeyUsage later = pool.usage().getFirst();
+
+        // then
+        assertThat(recent.key()).isEqualTo("gemini-1 (...y-a1)");
+        assertThat(recent.requestsLastMinute()).isEqualTo(1);
+        assertThat(recent.tokensLastMinute()).isEqualTo(100);
+        assertThat(recent.load()).isEqualTo(0.1);
+        assertThat(later.requestsLastMinute()).isZero();
+        assertThat(later.tokensLastMinute()).isZero();
+        assertThat(later.totalTokens()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,99 @@
+package com.vitaltrip.vitaltrip.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("토큰 버킷 요청 제한 테스트")
+class TokenBucketRateLimiterTest {
+
+    private static final long REFILL = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong(Duration.ofHours(1).toNanos());
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter("test",
+        new RateLimitSettings(3, Duration.ofSeconds(1), 2), now::get);
+
+    @Test
+    @DisplayName("버킷 크기만큼 몰아서 허용하고, 이후에는 채워질 때까지 기다릴 시간을 돌려줌")
+    void tryAcquire_AllowsBurstThenReturnsWait() {
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("a")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("a")).isEqualTo(REFILL);
+
+        now.addAndGet(REFILL / 2);
+        assertThat(rateLimiter.tryAcquire("a")).isEqualTo(REFILL / 2);
+
+        now.addAndGet(REFILL / 2);
+        assertThat(rateLimiter.tryAcquire("a")).isZero();
+        assertThat(rateLimiter.tryAcquire("a")).isEqualTo(REFILL);
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로 있음")
+    void tryAcquire_SeparatesKeys() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("a");
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("a")).isPositive();
+        assertThat(rateLimiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 가득 찬 버킷만 지움")
+    void evictIdle_RemovesOnlyFullBuckets() {
+        // given
+        rateLimiter.tryAcquire("a");
+        now.addAndGet(REFILL);
+        rateLimiter.tryAcquire("b");
+
+        // when
+        int evicted = rateLimiter.evictIdle();
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 수가 한도에 이르면 새 키는 공용 버킷을 함께 씀")
+    void tryAcquire_SharesOverflowBucketWhenFull() {
+        // given
+        rateLimiter.tryAcquire("a");
+        rateLimiter.tryAcquire("b");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("c" + i)).isZero();
+        }
+
+        // then
+        assertThat(rateLimiter.tryAcquire("d")).isPositive();
+        assertThat(rateLimiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("키 수가 한도에 이르면 다시 가득 찬 버킷이 있어도 주기 정리 전까지 새 키는 공용 버킷을 씀")
+    void tryAcquire_LeavesEvictionToScheduledJob() {
+        // given
+        rateLimiter.tryAcquire("a");
+        rateLimiter.tryAcquire("b");
+        now.addAndGet(REFILL);
+
+        // when
+        rateLimiter.tryAcquire("c");
+
+        // then
+        assertThat(rateLimiter.size()).isEqualTo(2);
+        assertThat(rateLimiter.evictIdle()).isEqualTo(2);
+        rateLimiter.tryAcquire("c");
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+}
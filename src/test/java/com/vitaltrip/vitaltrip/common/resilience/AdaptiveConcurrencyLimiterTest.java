@@ -0,0 +1,144 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("적응형 동시 호출 한도 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("한도의 절반 이상을 쓰는 동안 빠르게 성공하면 한도를 1씩 늘림")
+    void success_UnderLoad_IncreasesLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, Duration.ZERO);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 3);
+
+        // when
+        permits.getFirst().success(FAST);
+        acquire(limiter, 1).getFirst().success(FAST);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("한도를 거의 쓰지 않을 때의 성공은 한도를 늘리지 않음")
+    void success_Idle_KeepsLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, Duration.ZERO);
+
+        // when
+        acquire(limiter, 1).getFirst().success(FAST);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("느린 호출과 과부하 신호는 한도를 줄이되, 이미 진행 중이던 호출로는 다시 줄이지 않음")
+    void dropped_DecreasesOncePerEpoch() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, Duration.ZERO);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 3);
+
+        // when
+        now.addAndGet(FAST);
+        permits.get(0).success(SLOW);
+        permits.get(1).dropped();
+        permits.get(2).dropped();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        now.addAndGet(FAST);
+        acquire(limiter, 1).getFirst().dropped();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도를 최소값 아래로 줄이지 않음")
+    void dropped_KeepsMinLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, Duration.ZERO);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            now.addAndGet(FAST);
+            acquire(limiter, 1).getFirst().dropped();
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도가 차고 대기열도 가득 차면 바로 거절")
+    void acquire_QueueFull_Rejects() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 0, Duration.ofSeconds(1));
+        acquire(limiter, 1);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(new RequestCancellation()))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("대기열")
+            .extracting(e -> ((CustomException) e).getErrorType())
+            .isEqualTo(ErrorType.CONCURRENCY_LIMITED);
+    }
+
+    @Test
+    @DisplayName("대기열에서 기다리다 자리가 나면 호출하고, 시간이 지나면 거절")
+    void acquire_WaitsInQueue() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test",
+            new ConcurrencyLimitSettings(1, 1, 10, 0.5, Duration.ofSeconds(1), 1,
+                Duration.ofMillis(300)));
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(new RequestCancellation());
+
+        // when
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiter = CompletableFuture.supplyAsync(
+            () -> limiter.acquire(new RequestCancellation()));
+        Thread.sleep(50);
+        first.ignore();
+
+        // then
+        AdaptiveConcurrencyLimiter.Permit second = waiter.get(1, TimeUnit.SECONDS);
+        assertThat(second).isNotNull();
+        assertThatThrownBy(() -> limiter.acquire(new RequestCancellation()))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("대기 시간")
+            .extracting(e -> ((CustomException) e).getErrorType())
+            .isEqualTo(ErrorType.CONCURRENCY_LIMITED);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue, Duration maxWait) {
+        return new AdaptiveConcurrencyLimiter("test", new ConcurrencyLimitSettings(
+            initialLimit, 1, 100, 0.5, Duration.ofSeconds(1), maxQueue, maxWait), now::get);
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(
+        AdaptiveConcurrencyLimiter limiter, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire(new RequestCancellation()));
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,202 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("회로 차단기 테스트")
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("test", new CircuitBreakerSettings(
+            10, 4, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(30), 2), now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 모두 실패해도 회로를 열지 않음")
+    void failures_BelowMinimumCalls_StayClosed() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 회로를 열고 호출을 거절")
+    void failureRate_OpensCircuit() {
+        // when - 4건 중 2건 실패
+        succeed(FAST);
+        fail();
+        succeed(FAST);
+        fail();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 기준 이상이면 성공해도 회로를 엶")
+    void slowCallRate_OpensCircuit() {
+        // when
+        succeed(FAST);
+        succeed(SLOW);
+        succeed(FAST);
+        succeed(SLOW);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 윈도우에서 밀려나 실패율에 포함되지 않음")
+    void oldFailures_SlideOutOfWindow() {
+        // given - 10건 중 4건 실패
+        for (int i = 0; i < 6; i++) {
+            succeed(FAST);
+        }
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        for (int i = 0; i < 10; i++) {
+            succeed(FAST);
+        }
+
+        // when - 앞의 실패가 남아 있다면 10건 중 6건 실패가 된다
+        fail();
+        fail();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 반열림 상태에서 정해진 수만큼만 시험 호출을 허용")
+    void openDuration_AllowsLimitedProbes() {
+        // given
+        open();
+
+        // when
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // then
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 모두 성공하면 회로를 닫음")
+    void probesSucceed_ClosesCircuit() {
+        // given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        succeed(FAST);
+        succeed(FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 하나라도 실패하면 다시 회로를 엶")
+    void probeFails_ReopensCircuit() {
+        // given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        succeed(FAST);
+        fail();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 없이 반환한 시험 호출 허가는 다시 사용할 수 있음")
+    void releasePermission_ReturnsProbe() {
+        // given
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        CircuitBreaker.Permission probe = circuitBreaker.tryAcquirePermission().orElseThrow();
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+
+        // when
+        probe.release();
+
+        // then
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("닫혀 있을 때 시작한 호출이 반열림 상태에서 끝나면 시험 호출 결과로 세지 않음")
+    void lateClosedResults_DoNotCloseHalfOpenCircuit() {
+        // given - 닫힌 상태에서 시작한 호출 두 건이 진행 중일 때 회로가 열린다
+        CircuitBreaker.Permission first = circuitBreaker.tryAcquirePermission().orElseThrow();
+        CircuitBreaker.Permission second = circuitBreaker.tryAcquirePermission().orElseThrow();
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+
+        // when
+        first.onSuccess(FAST);
+        second.onSuccess(FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("이전 상태에서 받은 허가를 반환해도 시험 호출 자리가 늘지 않음")
+    void staleRelease_DoesNotFreeProbe() {
+        // given
+        CircuitBreaker.Permission closedPermission =
+            circuitBreaker.tryAcquirePermission().orElseThrow();
+        open();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+
+        // when
+        closedPermission.release();
+
+        // then
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void succeed(long durationNanos) {
+        circuitBreaker.tryAcquirePermission().orElseThrow().onSuccess(durationNanos);
+    }
+
+    private void fail() {
+        circuitBreaker.tryAcquirePermission().orElseThrow().onFailure(FAST);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("요청 헤징 테스트")
+class RequestHedgerTest {
+
+    private static final int MIN_SAMPLES = 5;
+    private static final long SLOW_MILLIS = 300;
+
+    private final AtomicBoolean hedgeAllowed = new AtomicBoolean(true);
+    private final RequestHedger requestHedger = new RequestHedger("test",
+        new HedgeSettings(true, 0.95, Duration.ofMillis(20), 100, MIN_SAMPLES, 10),
+        hedgeAllowed::get);
+
+    @AfterEach
+    void tearDown() {
+        requestHedger.close();
+    }
+
+    @Test
+    @DisplayName("추가 요청 대기 시간은 minSamples 만큼 기록된 뒤에 계산됨")
+    void hedgeDelayNanos_ComputedOnceMinSamplesRecorded() {
+        assertThat(requestHedger.hedgeDelayNanos()).isEqualTo(-1);
+
+        recordFastCalls();
+
+        assertThat(requestHedger.hedgeDelayNanos()).isEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 분위수보다 오래 걸리면 추가 요청을 보내고 먼저 끝난 응답을 사용")
+    void call_HedgesSlowRequest() {
+        // given
+        recordFastCalls();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = requestHedger.call(new RequestCancellation(),
+            cancellation -> attempts.incrementAndGet() == 1 ? slow("primary") : "hedge");
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("추가 요청이 허용되지 않는 동안에는 첫 요청만 기다림")
+    void call_DoesNotHedgeWhileDisallowed() {
+        // given
+        recordFastCalls();
+        hedgeAllowed.set(false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = requestHedger.call(new RequestCancellation(),
+            cancellation -> attempts.incrementAndGet() == 1 ? slow("primary") : "hedge");
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+    }
+
+    private void recordFastCalls() {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            requestHedger.call(new RequestCancellation(), cancellation -> "fast");
+        }
+    }
+
+    private static String slow(String value) {
+        try {
+            Thread.sleep(SLOW_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,81 @@
+package com.vitaltrip.vitaltrip.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("재시도 테스트")
+class RetryTest {
+
+    private final Retry retry = new Retry("test",
+        new RetrySettings(3, Duration.ofMillis(1), Duration.ofMillis(4)));
+
+    @Test
+    @DisplayName("백오프 상한은 재시도마다 두 배로 늘고 maxBackoff 를 넘지 않음")
+    void backoff_GrowsExponentiallyUpToMax() {
+        assertThat(retry.backoff(1, 0.999)).isLessThan(Duration.ofMillis(1));
+        assertThat(retry.backoff(2, 0.999)).isBetween(Duration.ofMillis(1), Duration.ofMillis(2));
+        assertThat(retry.backoff(3, 0.999)).isBetween(Duration.ofMillis(3), Duration.ofMillis(4));
+        assertThat(retry.backoff(10, 0.999)).isBetween(Duration.ofMillis(3), Duration.ofMillis(4));
+        assertThat(retry.backoff(3, 0.0)).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도할 수 있는 실패는 성공할 때까지 다시 시도")
+    void execute_RetriesUntilSuccess() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = retry.execute(new RequestCancellation(), () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("temporary");
+            }
+            return "ok";
+        }, e -> true);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 마지막 실패를 던짐")
+    void execute_GivesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.execute(new RequestCancellation(), () -> {
+            throw new IllegalStateException("failure-" + calls.incrementAndGet());
+        }, e -> true))
+            .hasMessage("failure-3");
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 실패와 취소된 호출은 다시 시도하지 않음")
+    void execute_StopsOnNonRetryableOrCancelled() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        RequestCancellation cancelled = new RequestCancellation();
+        cancelled.cancel();
+
+        // when
+        assertThatThrownBy(() -> retry.execute(new RequestCancellation(), () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad request");
+        }, e -> e instanceof IllegalStateException))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> retry.execute(cancelled, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("cancelled");
+        }, e -> true))
+            .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,221 @@
+package com.vitaltrip.vitaltrip.common.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.VitaltripApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 같은 H2 데이터베이스를 공유하는 애플리케이션 컨텍스트 여러 개를 띄워 노드 여러 대를 흉내 낸다.
+ */
+@DisplayName("클러스터 주기 작업 임대 테스트")
+class ClusterJobRunnerTest {
+
+    private static final int NODE_COUNT = 3;
+    private static final Duration LEASE = Duration.ofSeconds(10);
+
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startNodes() {
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(new SpringApplicationBuilder(VitaltripApplication.class)
+                .profiles("test")
+                .properties(
+                    "spring.datasource.url=jdbc:h2:mem:cluster-job-test;DB_CLOSE_DELAY=-1",
+                    "server.port=0",
+                    "app.scheduling.node-id=node-" + i,
+                    "app.user.purge.initial-delay=PT1H",
+                    "app.statistics.user.checkpoint-interval=PT1H")
+                .run());
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        nodes.clear();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM scheduled_job_lease");
+        jdbcTemplate.update("DELETE FROM scheduled_job_run");
+    }
+
+    @Test
+    @DisplayName("모든 노드가 동시에 실행해도 한 노드만 가상 스레드에서 실행")
+    void concurrentRun_OnlyOneNodeExecutes() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        AtomicBoolean virtualThread = new AtomicBoolean();
+        CountDownLatch ready = new CountDownLatch(NODE_COUNT);
+        ExecutorService callers = Executors.newFixedThreadPool(NODE_COUNT);
+
+        // when
+        List<Future<JobRunStatus>> futures = new ArrayList<>();
+        for (ConfigurableApplicationContext node : nodes) {
+            futures.add(callers.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return runner(node).run("concurrent-job", LEASE, Duration.ZERO, () -> {
+                    executions.incrementAndGet();
+                    virtualThread.set(Thread.currentThread().isVirtual());
+                    sleep(Duration.ofMillis(300));
+                });
+            }));
+        }
+
+        List<JobRunStatus> statuses = new ArrayList<>();
+        for (Future<JobRunStatus> future : futures) {
+            statuses.add(future.get(30, TimeUnit.SECONDS));
+        }
+        callers.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(virtualThread).isTrue();
+        assertThat(statuses)
+            .containsOnlyOnce(JobRunStatus.SUCCEEDED)
+            .filteredOn(status -> status == JobRunStatus.SKIPPED)
+            .hasSize(NODE_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("임대가 해제되면 다른 노드가 실행하고 이력과 실행 시간이 남음")
+    void releasedLease_NextNodeRuns() {
+        // when
+        JobRunStatus first = runner(nodes.get(0)).run("history-job", LEASE, Duration.ZERO,
+            () -> { });
+        JobRunStatus second = runner(nodes.get(1)).run("history-job", LEASE, Duration.ZERO,
+            () -> { });
+
+        // then
+        assertThat(first).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(second).isEqualTo(JobRunStatus.SUCCEEDED);
+
+        List<JobRun> runs = runner(nodes.get(2)).findRecentRuns("history-job", 10);
+        assertThat(runs).extracting(JobRun::nodeId).containsExactly("node-1", "node-0");
+        assertThat(runs).allSatisfy(run -> {
+            assertThat(run.status()).isEqualTo(JobRunStatus.SUCCEEDED);
+            assertThat(run.durationMs()).isNotNull();
+        });
+
+        assertThat(nodes.get(0).getBean(MeterRegistry.class)
+            .get("scheduled.job.duration")
+            .tag("job", "history-job")
+            .tag("status", "SUCCEEDED")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최소 임대 시간 안에는 다른 노드가 다시 실행하지 않음")
+    void minLease_BlocksImmediateRerun() {
+        // when
+        JobRunStatus first = runner(nodes.get(0)).run("min-lease-job", LEASE,
+            Duration.ofMinutes(1), () -> { });
+        JobRunStatus second = runner(nodes.get(1)).run("min-lease-job", LEASE,
+            Duration.ofMinutes(1), () -> { });
+
+        // then
+        assertThat(first).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(second).isEqualTo(JobRunStatus.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("임대 시간을 넘긴 작업은 중단되고, 멈춘 뒤에는 다른 노드가 실행")
+    void timedOutTask_InterruptedAndReleased() {
+        // given
+        Duration shortLease = Duration.ofMillis(300);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // when
+        JobRunStatus timedOut = runner(nodes.get(0)).run("slow-job", shortLease, Duration.ZERO,
+            () -> interrupted.set(!sleep(Duration.ofSeconds(10))));
+        JobRunStatus next = runner(nodes.get(1)).run("slow-job", shortLease, Duration.ZERO,
+            () -> { });
+
+        // then
+        assertThat(timedOut).isEqualTo(JobRunStatus.TIMED_OUT);
+        assertThat(next).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(runner(nodes.get(0)).findRecentRuns("slow-job", 10))
+            .extracting(JobRun::status)
+            .containsExactly(JobRunStatus.SUCCEEDED, JobRunStatus.TIMED_OUT);
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("인터럽트를 무시하는 작업이 멈출 때까지 임대를 늘려 다른 노드가 실행하지 않음")
+    void uninterruptibleTask_HoldsLeaseUntilStopped() throws Exception {
+        // given
+        Duration shortLease = Duration.ofMillis(300);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<JobRunStatus> timedOut = caller.submit(() -> runner(nodes.get(0)).run(
+            "stuck-job", shortLease, Duration.ZERO, () -> awaitUninterruptibly(finish)));
+        sleep(shortLease.multipliedBy(3));
+        JobRunStatus whileRunning = runner(nodes.get(1)).run("stuck-job", shortLease,
+            Duration.ZERO, () -> { });
+        finish.countDown();
+        JobRunStatus first = timedOut.get(10, TimeUnit.SECONDS);
+        caller.shutdown();
+        JobRunStatus afterStop = runner(nodes.get(1)).run("stuck-job", shortLease,
+            Duration.ZERO, () -> { });
+
+        // then
+        assertThat(whileRunning).isEqualTo(JobRunStatus.SKIPPED);
+        assertThat(first).isEqualTo(JobRunStatus.TIMED_OUT);
+        assertThat(afterStop).isEqualTo(JobRunStatus.SUCCEEDED);
+    }
+
+    private static ClusterJobRunner runner(ConfigurableApplicationContext node) {
+        return node.getBean(ClusterJobRunner.class);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 인터럽트 없이 끝나면 true
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.vitaltrip.vitaltrip.domain.admin.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * 스트리밍 응답은 별도 스레드에서 기록되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("관리자 사용자 API 통합 테스트")
+class AdminUserIntegrationTest {
+
+    private static final int USER_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        User admin = userRepository.save(createUser("admin@example.com", User.Role.ADMIN));
+        adminToken = jwtUtil.generateAccessToken(admin);
+
+        User user = userRepository.save(createUser("user0@example.com", User.Role.USER));
+        userToken = jwtUtil.generateAccessToken(user);
+
+        for (int i = 1; i < USER_COUNT; i++) {
+            userRepository.save(createUser("user" + i + "@example.com", User.Role.USER));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private void markDeleted(String email) {
+        User user = userRepository.findByEmail(email).orElseThrow();
+        user.markDeleted(LocalDateTime.now());
+        userRepository.save(user);
+    }
+
+    private User createUser(String email, User.Role role) {
+        return User.builder()
+            .email(email)
+            .name("홍길동")
+            .passwordHash("encodedPassword")
+            .birthDate(LocalDate.of(1990, 1, 1))
+            .countryCode("KR")
+            .phoneNumber("+821012345678")
+            .provider(User.AuthProvider.LOCAL)
+            .role(role)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("사용자 검색")
+    class SearchTest {
+
+        @Test
+        @DisplayName("커서로 전체 페이지 순회 - 누락/중복 없이 최신 가입 순")
+        void search_PaginatesWithCursor() throws Exception {
+            // given
+            List<Long> expectedIds = userRepository.findAll().stream()
+                .sorted(Comparator.comparing(User::getCreatedAt).thenComparing(User::getId)
+                    .reversed())
+                .map(User::getId)
+                .toList();
+
+            // when
+            List<Long> collectedIds = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                JsonNode data = search(cursor, "size", "2");
+                data.get("users").forEach(user -> collectedIds.add(user.get("id").asLong()));
+                cursor = data.get("hasNext").asBoolean() ? data.get("nextCursor").asText() : null;
+                pages++;
+            } while (cursor != null);
+
+            // then
+            assertThat(collectedIds).containsExactlyElementsOf(expectedIds);
+            assertThat(pages).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("국가 코드와 가입 경로 필터")
+        void search_FilterByCountryAndProvider() throws Exception {
+            // given
+            userRepository.save(User.builder()
+                .email("google@example.com")
+                .name("구글사용자")
+                .countryCode("US")
+                .provider(User.AuthProvider.GOOGLE)
+                .providerId("google-sub")
+                .role(User.Role.USER)
+                .build());
+
+            // when
+            JsonNode data = search(null, "countryCode", "US", "provider", "google");
+
+            // then
+            assertThat(data.get("users")).hasSize(1);
+            assertThat(data.get("users").get(0).get("email").asText())
+                .isEqualTo("google@example.com");
+            assertThat(data.get("hasNext").asBoolean()).isFalse();
+            assertThat(data.path("nextCursor").asText(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("탈퇴 처리된 사용자는 검색에서 제외")
+        void search_ExcludesDeletedUsers() throws Exception {
+            // given
+            markDeleted("user1@example.com");
+
+            // when
+            JsonNode data = search(null, "size", "10");
+
+            // then
+            assertThat(data.get("users")).hasSize(USER_COUNT - 1);
+            assertThat(data.get("users").toString()).doesNotContain("user1@example.com");
+        }
+
+        @Test
+        @DisplayName("검색 실패 - 유효하지 않은 커서")
+        void search_Fail_InvalidCursor() throws Exception {
+            mockMvc.perform(get("/api/admin/users")
+                    .param("cursor", "not-a-cursor")
+                    .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+        }
+
+        @Test
+        @DisplayName("검색 실패 - 일반 사용자")
+        void search_Fail_NotAdmin() throws Exception {
+            mockMvc.perform(get("/api/admin/users")
+                    .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        }
+
+        private JsonNode search(String cursor, String... params) throws Exception {
+            MockHttpServletRequestBuilder request = get("/api/admin/users")
+                .header("Authorization", "Bearer " + adminToken);
+            for (int i = 0; i < params.length; i += 2) {
+                request.param(params[i], params[i + 1]);
+            }
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+            return objectMapper.readTree(body).get("data");
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 내보내기")
+    class ExportTest {
+
+        @Test
+        @DisplayName("NDJSON 내보내기 성공 - 한 줄에 한 사용자")
+        void export_Ndjson() throws Exception {
+            // when
+            String body = export("ndjson", MediaType.APPLICATION_NDJSON);
+
+            // then
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(USER_COUNT + 1);
+
+            JsonNode first = objectMapper.readTree(lines[0]);
+            assertThat(first.get("email").asText()).isEqualTo("admin@example.com");
+            assertThat(first.get("role").asText()).isEqualTo("ADMIN");
+            assertThat(first.has("passwordHash")).isFalse();
+            assertThat(body).doesNotContain("encodedPassword");
+        }
+
+        @Test
+        @DisplayName("CSV 내보내기 성공 - 헤더 포함")
+        void export_Csv() throws Exception {
+            // when
+            String body = export("csv", new MediaType("text", "csv"));
+
+            // then
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(USER_COUNT + 2);
+            assertThat(lines[0]).startsWith("id,email,name");
+            assertThat(lines[1]).contains("admin@example.com", "ADMIN");
+        }
+
+        @Test
+        @DisplayName("탈퇴 처리된 사용자는 내보내지 않음")
+        void export_ExcludesDeletedUsers() throws Exception {
+            // given
+            markDeleted("user1@example.com");
+
+            // when
+            String body = export("ndjson", MediaType.APPLICATION_NDJSON);
+
+            // then
+            assertThat(body.split("\n")).hasSize(USER_COUNT);
+            assertThat(body).doesNotContain("user1@example.com");
+        }
+
+        @Test
+        @DisplayName("내보내기 실패 - 일반 사용자")
+        void export_Fail_NotAdmin() throws Exception {
+            mockMvc.perform(get("/api/admin/users/export")
+                    .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("내보내기 실패 - 지원하지 않는 형식")
+        void export_Fail_UnsupportedFormat() throws Exception {
+            mockMvc.perform(get("/api/admin/users/export")
+                    .param("format", "xml")
+                    .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+        }
+
+        private String export(String format, MediaType mediaType) throws Exception {
+            MvcResult asyncResult = mockMvc.perform(get("/api/admin/users/export")
+                    .param("format", format)
+                    .header("Authorization", "Bearer " + adminToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string("Content-Disposition",
+                    "attachment; filename=\"users." + format + "\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vitaltrip.vitaltrip.domain.admin.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.admin.dto.AdminUserDto;
+import com.vitaltrip.vitaltrip.domain.admin.service.AdminUserSearchService;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.support.benchmark.Benchmarks;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 사용자 100만 건에서 첫 페이지와 깊은 페이지의 키셋 조회 비용을 비교한다.
+ * 같은 깊이의 OFFSET 조회를 함께 측정해 차이를 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("관리자 사용자 검색 벤치마크")
+class AdminUserSearchBenchmark {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = 800_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private AdminUserSearchService adminUserSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void generateUsers() {
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("""
+            INSERT INTO users (created_at, email, normalized_email, name, country_code, provider, role)
+            SELECT DATEADD('SECOND', -X, TIMESTAMP '2025-06-01 00:00:00'),
+                   'bench' || X || '@example.com',
+                   'bench' || X || '@example.com',
+                   'user' || X,
+                   CASE MOD(X, 4) WHEN 0 THEN 'KR' WHEN 1 THEN 'US' WHEN 2 THEN 'JP' ELSE 'FR' END,
+                   CASE MOD(X, 3) WHEN 0 THEN 'GOOGLE' ELSE 'LOCAL' END,
+                   'USER'
+            FROM SYSTEM_RANGE(1, ?)
+            """, USER_COUNT);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void deleteUsers() {
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 vs 깊은 페이지 (필터 없음)")
+    void firstPageVersusDeepPage() {
+        String deepCursor = cursorAt("", DEEP_OFFSET);
+
+        Benchmarks.run("keyset page 1", WARMUP, ITERATIONS,
+            () -> search(UserSearchCondition.empty(), null));
+        Benchmarks.run("keyset page " + DEEP_OFFSET / PAGE_SIZE, WARMUP, ITERATIONS,
+            () -> search(UserSearchCondition.empty(), deepCursor));
+        Benchmarks.run("offset page " + DEEP_OFFSET / PAGE_SIZE + " (reference)", 5, 20,
+            () -> jdbcTemplate.queryForList("SELECT " + UserSearchQuery.COLUMNS
+                + " FROM users ORDER BY created_at DESC, id DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+                DEEP_OFFSET, PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 vs 깊은 페이지 (국가 + 가입 경로 필터)")
+    void filteredFirstPageVersusDeepPage() {
+        UserSearchCondition condition = new UserSearchCondition("KR", null, null, null);
+        String deepCursor = cursorAt("WHERE country_code = 'KR'", DEEP_OFFSET / 4);
+
+        Benchmarks.run("keyset KR page 1", WARMUP, ITERATIONS,
+            () -> search(condition, null));
+        Benchmarks.run("keyset KR page " + DEEP_OFFSET / 4 / PAGE_SIZE, WARMUP, ITERATIONS,
+            () -> search(condition, deepCursor));
+
+        UserSearchCondition combined =
+            new UserSearchCondition("US", User.AuthProvider.GOOGLE, null, null);
+        Benchmarks.run("keyset US+GOOGLE page 1", WARMUP, ITERATIONS,
+            () -> search(combined, null));
+    }
+
+    private AdminUserDto.UserSearchResponse search(UserSearchCondition condition, String cursor) {
+        AdminUserDto.UserSearchResponse response =
+            adminUserSearchService.search(condition, cursor, PAGE_SIZE);
+        assertThat(response.users()).hasSize(PAGE_SIZE);
+        return response;
+    }
+
+    private String cursorAt(String where, int offset) {
+        return jdbcTemplate.queryForObject(
+            "SELECT created_at, id FROM users " + where
+                + " ORDER BY created_at DESC, id DESC OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+            (resultSet, rowNum) -> new UserSearchCursor(
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getLong("id")).encode(),
+            offset);
+    }
+}
@@ -0,0 +1,70 @@
+package com.vitaltrip.vitaltrip.domain.admin.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 필터 조합마다 V3 인덱스를 사용하고 별도 정렬 없이 인덱스 순서로 읽는지 H2 EXPLAIN 으로 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("관리자 사용자 검색 실행 계획 테스트")
+class UserSearchQueryPlanTest {
+
+    private static final UserSearchCursor CURSOR =
+        new UserSearchCursor(LocalDateTime.of(2025, 6, 1, 12, 0), 1_000L);
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    static Stream<Arguments> conditions() {
+        return Stream.of(
+            Arguments.of(UserSearchCondition.empty(), "IDX_USERS_CREATED_AT_ID"),
+            Arguments.of(new UserSearchCondition(null, null,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), "IDX_USERS_CREATED_AT_ID"),
+            Arguments.of(new UserSearchCondition("KR", null, null, null),
+                "IDX_USERS_COUNTRY_CREATED_AT_ID"),
+            Arguments.of(new UserSearchCondition(null, User.AuthProvider.GOOGLE, null, null),
+                "IDX_USERS_PROVIDER_CREATED_AT_ID"),
+            Arguments.of(new UserSearchCondition("KR", User.AuthProvider.GOOGLE,
+                    LocalDate.of(2025, 1, 1), null),
+                "IDX_USERS_COUNTRY_PROVIDER_CREATED_AT_ID")
+        );
+    }
+
+    @ParameterizedTest(name = "{1} - 첫 페이지")
+    @MethodSource("conditions")
+    void firstPage_UsesSortedIndex(UserSearchCondition condition, String expectedIndex) {
+        assertSortedIndexScan(UserSearchQuery.of(condition, null, 21), expectedIndex);
+    }
+
+    @ParameterizedTest(name = "{1} - 커서 이후 페이지")
+    @MethodSource("conditions")
+    void nextPage_UsesSortedIndex(UserSearchCondition condition, String expectedIndex) {
+        assertSortedIndexScan(UserSearchQuery.of(condition, CURSOR, 21), expectedIndex);
+    }
+
+    private void assertSortedIndexScan(UserSearchQuery query, String expectedIndex) {
+        String plan = namedParameterJdbcTemplate.queryForObject(
+            "EXPLAIN " + query.sql(), query.parameters(), String.class);
+
+        assertThat(plan.toUpperCase(Locale.ROOT))
+            .as(plan)
+            .contains(expectedIndex)
+            .contains("INDEX SORTED")
+            .doesNotContain("TABLESCAN");
+    }
+}
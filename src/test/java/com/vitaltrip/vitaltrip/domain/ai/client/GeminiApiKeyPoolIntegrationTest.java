@@ -0,0 +1,72 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyPool;
+import com.vitaltrip.vitaltrip.common.ratelimit.ApiKeyUsage;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResult;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.gemini.retry.initial-backoff=PT0.01S",
+    "app.gemini.retry.max-backoff=PT0.05S"
+})
+@DisplayName("Gemini API 키 풀 통합 테스트")
+class GeminiApiKeyPoolIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.keys", () -> "key-a,key-b");
+    }
+
+    @Autowired
+    private GeminiClient geminiClient;
+
+    @Autowired
+    private ApiKeyPool geminiApiKeyPool;
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("429 를 받은 키 대신 다른 키로 재시도하고 Retry-After 동안 그 키를 쓰지 않음")
+    void generate_RateLimitedKey_RetriesWithOtherKey() {
+        // given
+        GEMINI.reset();
+        GEMINI.rateLimitKey("key-a", 30);
+
+        // when
+        GeminiResult first = geminiClient.generate("prompt", new RequestCancellation());
+        GeminiResult second = geminiClient.generate("prompt", new RequestCancellation());
+
+        // then
+        assertThat(first.text()).isEqualTo("Call emergency services immediately.");
+        assertThat(second.text()).isEqualTo("Call emergency services immediately.");
+        assertThat(GEMINI.requestKeys()).containsExactly("key-a", "key-b", "key-b");
+
+        List<ApiKeyUsage> usage = geminiApiKeyPool.usage();
+        assertThat(usage).hasSize(2);
+        assertThat(usage.get(0).rateLimited()).isEqualTo(1);
+        assertThat(usage.get(0).quarantineRemainingSeconds()).isBetween(1L, 30L);
+        assertThat(usage.get(1).totalRequests()).isEqualTo(2);
+        assertThat(usage.get(1).totalTokens()).isPositive();
+    }
+}
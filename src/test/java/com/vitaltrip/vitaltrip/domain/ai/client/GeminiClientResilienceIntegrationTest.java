@@ -0,0 +1,202 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.common.resilience.AdaptiveConcurrencyLimiter;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResult;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiStreamResult;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.gemini.retry.initial-backoff=PT0.01S",
+    "app.gemini.retry.max-backoff=PT0.05S",
+    "app.gemini.hedge.enabled=true",
+    "app.gemini.hedge.percentile=0.5",
+    "app.gemini.hedge.min-delay=PT0.2S",
+    "app.gemini.hedge.min-samples=5"
+})
+@DisplayName("Gemini 호출 재시도/헤징 통합 테스트")
+class GeminiClientResilienceIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @Autowired
+    private GeminiClient geminiClient;
+
+    @Autowired
+    private CircuitBreaker geminiCircuitBreaker;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter geminiConcurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+        geminiCircuitBreaker.reset();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("재시도할 수 있는 상태 코드는 다시 시도해 성공")
+    void generate_RetriesRetryableStatus() {
+        // given
+        GEMINI.failWith(503, 2);
+        double retriedBefore = retryCalls("retried");
+
+        // when
+        GeminiResult result = geminiClient.generate("prompt", new RequestCancellation());
+
+        // then
+        assertThat(result.text()).isEqualTo("Call emergency services immediately.");
+        assertThat(GEMINI.requestCount()).isEqualTo(3);
+        assertThat(retryCalls("retried") - retriedBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 마지막 실패를 던짐")
+    void generate_GivesUpAfterMaxAttempts() {
+        // given
+        GEMINI.failWith(429);
+        double exhaustedBefore = retryCalls("exhausted");
+
+        // when & then
+        assertThatThrownBy(() -> geminiClient.generate("prompt", new RequestCancellation()))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("429");
+        assertThat(GEMINI.requestCount()).isEqualTo(3);
+        assertThat(retryCalls("exhausted") - exhaustedBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업스트림 과부하 응답은 동시 호출 한도를 줄임")
+    void generate_OverloadedUpstream_DecreasesConcurrencyLimit() {
+        // given
+        GEMINI.failWith(429);
+        int limitBefore = geminiConcurrencyLimiter.getLimit();
+
+        // when
+        assertThatThrownBy(() -> geminiClient.generate("prompt", new RequestCancellation()))
+            .isInstanceOf(CustomException.class);
+
+        // then
+        assertThat(geminiConcurrencyLimiter.getLimit()).isLessThan(limitBefore);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 상태 코드는 바로 실패")
+    void generate_DoesNotRetryClientError() {
+        // given
+        GEMINI.failWith(400);
+
+        // when & then
+        assertThatThrownBy(() -> geminiClient.generate("prompt", new RequestCancellation()))
+            .isInstanceOf(CustomException.class);
+        assertThat(GEMINI.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 느리면 추가 요청을 보내 먼저 온 응답을 사용")
+    void generate_HedgesSlowRequest() {
+        // given - 분위수 계산에 필요한 지연 표본을 쌓는다
+        for (int i = 0; i < 5; i++) {
+            geminiClient.generate("warmup", new RequestCancellation());
+        }
+        GEMINI.reset();
+        AtomicInteger requests = new AtomicInteger();
+        GEMINI.delays(() -> requests.getAndIncrement() == 0 ? Duration.ofSeconds(5) : Duration.ZERO);
+        double wonBefore = hedgeRequests("won");
+
+        // when
+        long startedAt = System.nanoTime();
+        GeminiResult result = geminiClient.generate("prompt", new RequestCancellation());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(result.text()).isEqualTo("Call emergency services immediately.");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(GEMINI.requestCount()).isEqualTo(2);
+        assertThat(hedgeRequests("won") - wonBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍은 첫 조각을 받으면 동시 호출 한도를 반납함")
+    void streamContent_ReleasesConcurrencyPermitAtFirstChunk() throws Exception {
+        // given - 첫 조각을 받은 뒤 스트림을 붙잡아 둔다
+        GEMINI.streamChunks(List.of("Call ", "emergency ", "services."), Duration.ZERO);
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        CompletableFuture<GeminiStreamResult> stream = CompletableFuture.supplyAsync(
+            () -> geminiClient.streamContent("prompt", new RequestCancellation(), text -> {
+                firstChunk.countDown();
+                awaitQuietly(resume);
+            }));
+        assertThat(firstChunk.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 스트림이 진행 중인 동안 한도만큼 허가를 받는다
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        try {
+            for (int i = 0; i < geminiConcurrencyLimiter.getLimit(); i++) {
+                permits.add(geminiConcurrencyLimiter.acquire(new RequestCancellation()));
+            }
+        } finally {
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::ignore);
+            resume.countDown();
+        }
+
+        // then
+        assertThat(stream.get(5, TimeUnit.SECONDS).isComplete()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double retryCalls(String result) {
+        return meterRegistry.counter("retry.calls", "name", "gemini", "result", result).count();
+    }
+
+    private double hedgeRequests(String result) {
+        return meterRegistry.counter("hedge.requests", "name", "gemini", "result", result).count();
+    }
+}
@@ -0,0 +1,191 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResult;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 캐시 항목은 시스템 지시문별로 따로 관리되므로 테스트마다 다른 지시문을 쓴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.gemini.context-cache.ttl=PT1H",
+    "app.gemini.context-cache.refresh-before=PT2H",
+    "app.gemini.context-cache.refresh-interval=PT1H"
+})
+@DisplayName("Gemini 컨텍스트 캐시 통합 테스트")
+class GeminiContextCacheIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @Autowired
+    private GeminiClient geminiClient;
+
+    @Autowired
+    private GeminiContextCache geminiContextCache;
+
+    @Autowired
+    private CircuitBreaker geminiCircuitBreaker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+        geminiCircuitBreaker.reset();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("시스템 지시문은 한 번만 캐시에 올리고 이후 요청은 캐시 이름만 보냄")
+    void generate_ReusesCachedInstruction() {
+        // when
+        GeminiResult first = generate("reuse instruction", "prompt 1");
+        generate("reuse instruction", "prompt 2");
+
+        // then
+        assertThat(first.text()).isEqualTo("Call emergency services immediately.");
+        assertThat(GEMINI.cachedContentRequests()).singleElement()
+            .satisfies(request -> assertThat(request)
+                .startsWith("POST /v1beta/cachedContents?key=test-key")
+                .contains("\"model\":\"models/gemini-2.0-flash\"", "reuse instruction",
+                    "\"ttl\":\"3600s\""));
+        assertThat(GEMINI.requestBodies()).hasSize(2).allSatisfy(body -> assertThat(body)
+            .contains("\"cachedContent\":\"cachedContents/")
+            .doesNotContain("systemInstruction", "reuse instruction"));
+    }
+
+    @Test
+    @DisplayName("캐시를 만들 수 없으면 지시문을 요청에 직접 넣고 한동안 다시 만들지 않음")
+    void generate_CacheUnavailable_SendsInstructionInline() {
+        // given
+        GEMINI.failCachedContents(400);
+
+        // when
+        generate("inline instruction", "prompt 1");
+        generate("inline instruction", "prompt 2");
+
+        // then
+        assertThat(GEMINI.cachedContentRequests()).hasSize(1);
+        assertThat(GEMINI.requestBodies()).hasSize(2).allSatisfy(body -> assertThat(body)
+            .contains("\"systemInstruction\":{\"parts\":[{\"text\":\"inline instruction\"}]}")
+            .doesNotContain("cachedContent"));
+    }
+
+    @Test
+    @DisplayName("만료된 캐시를 가리킨 요청은 지시문을 직접 넣어 다시 보내고 다음 요청에서 캐시를 새로 만듦")
+    void generate_ExpiredCache_FallsBackAndRecreates() {
+        // given
+        generate("expiring instruction", "warmup");
+        GEMINI.reset();
+        GEMINI.expireCachedContents();
+        double staleBefore = cacheRequests("stale");
+
+        // when
+        GeminiResult result = generate("expiring instruction", "prompt");
+        generate("expiring instruction", "prompt");
+
+        // then
+        assertThat(result.text()).isEqualTo("Call emergency services immediately.");
+        List<String> bodies = GEMINI.requestBodies();
+        assertThat(bodies).hasSize(3);
+        assertThat(bodies.get(0)).contains("cachedContent");
+        assertThat(bodies.get(1)).contains("systemInstruction").doesNotContain("cachedContent");
+        assertThat(bodies.get(2)).contains("cachedContent");
+        assertThat(GEMINI.cachedContentRequests()).singleElement()
+            .satisfies(request -> assertThat(request).startsWith("POST "));
+        assertThat(cacheRequests("stale") - staleBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시와 관계없는 403 은 지시문을 직접 넣어 다시 보내지 않고 캐시만 무효화")
+    void generate_PlainForbidden_InvalidatesWithoutInlineRetry() {
+        // given
+        generate("forbidden instruction", "warmup");
+        GEMINI.reset();
+        GEMINI.failWith(403, 1);
+
+        // when
+        assertThatThrownBy(() -> generate("forbidden instruction", "prompt"))
+            .isInstanceOf(CustomException.class);
+        generate("forbidden instruction", "prompt");
+
+        // then
+        List<String> bodies = GEMINI.requestBodies();
+        assertThat(bodies).hasSize(2).allSatisfy(body -> assertThat(body)
+            .contains("cachedContent")
+            .doesNotContain("systemInstruction"));
+        assertThat(GEMINI.cachedContentRequests()).singleElement()
+            .satisfies(request -> assertThat(request).startsWith("POST "));
+    }
+
+    @Test
+    @DisplayName("곧 만료될 캐시는 ttl 을 연장")
+    void refresh_ExtendsExpiringCache() {
+        // given
+        generate("refreshed instruction", "prompt");
+        GEMINI.reset();
+
+        // when
+        geminiContextCache.refresh();
+
+        // then
+        assertThat(GEMINI.cachedContentRequests())
+            .anySatisfy(request -> assertThat(request)
+                .startsWith("PATCH /v1beta/cachedContents/")
+                .contains("updateMask=ttl", "\"ttl\":\"3600s\""))
+            .noneSatisfy(request -> assertThat(request).startsWith("POST "));
+    }
+
+    @Test
+    @DisplayName("스트리밍도 캐시된 지시문을 사용")
+    void streamContent_UsesCachedInstruction() {
+        // when
+        StringBuilder text = new StringBuilder();
+        geminiClient.streamContent(GeminiClient.DEFAULT_ROUTE, "streaming instruction", "prompt",
+            new RequestCancellation(), text::append);
+
+        // then
+        assertThat(text.toString()).isEqualTo("Call emergency services immediately.");
+        assertThat(GEMINI.requestBodies()).singleElement()
+            .satisfies(body -> assertThat(body).contains("\"cachedContent\":\"cachedContents/"));
+    }
+
+    private GeminiResult generate(String systemInstruction, String prompt) {
+        return geminiClient.generate(GeminiClient.DEFAULT_ROUTE, systemInstruction, prompt,
+            new RequestCancellation());
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.counter("gemini.context_cache.requests", "result", result).count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import com.vitaltrip.vitaltrip.support.benchmark.Benchmarks;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Gemini 요청 직렬화와 큰 응답(후보 4개, 후보마다 약 16KB 텍스트와 safetyRatings) 파싱 비용을 비교한다.
+ * 비교 대상은 Map 으로 요청을 만들어 매번 직렬화하는 방식과 응답 전체를 트리로 읽는 방식이다.
+ */
+@Tag("benchmark")
+@DisplayName("Gemini JSON 변환 벤치마크")
+class GeminiJsonCodecBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeminiJsonCodec codec = new GeminiJsonCodec(objectMapper);
+
+    @Test
+    @DisplayName("요청 직렬화")
+    void serializeRequest() {
+        String prompt = "You are an emergency medical expert. ".repeat(40);
+
+        Benchmarks.Result map = Benchmarks.run("gemini request (Map.of)", WARMUP, ITERATIONS,
+            () -> writeMapRequest(prompt));
+        Benchmarks.Result typed = Benchmarks.run("gemini request (typed writer)", WARMUP,
+            ITERATIONS, () -> codec.writeRequest(GeminiRequest.ofPrompt(prompt)));
+
+        assertThat(typed.iterations()).isEqualTo(map.iterations());
+    }
+
+    @Test
+    @DisplayName("큰 응답 파싱")
+    void parseLargeResponse() throws IOException {
+        byte[] response = largeResponse();
+        String expected = codec.readResponse(new ByteArrayInputStream(response)).text();
+        assertThat(readTreeText(response)).isEqualTo(expected);
+
+        Benchmarks.Result tree = Benchmarks.run("gemini response (tree)", WARMUP, ITERATIONS,
+            () -> readTreeText(response));
+        Benchmarks.Result streaming = Benchmarks.run("gemini response (streaming)", WARMUP,
+            ITERATIONS, () -> readStreaming(response));
+
+        // 트리는 모든 후보의 텍스트를 문자열로 만들지만 스트리밍 파서는 첫 텍스트만 만든다
+        assertThat(streaming.bytesPerOp()).isLessThan(tree.bytesPerOp());
+    }
+
+    private byte[] writeMapRequest(String prompt) {
+        try {
+            return objectMapper.writeValueAsBytes(Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt))))));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readTreeText(byte[] response) {
+        try {
+            JsonNode root = objectMapper.readTree(response);
+            return root.path("candidates").path(0).path("content").path("parts").path(0)
+                .path("text").asText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readStreaming(byte[] response) {
+        try {
+            return codec.readResponse(new ByteArrayInputStream(response)).text();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] largeResponse() throws JsonProcessingException {
+        String paragraph = "Apply firm pressure to the wound with a clean cloth and keep the "
+            + "injured limb raised above the heart while waiting for help. ";
+        List<Map<String, Object>> candidates = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, Object> candidate = new LinkedHashMap<>();
+            candidate.put("content", Map.of("role", "model",
+                "parts", List.of(Map.of("text", i + ": " + paragraph.repeat(120)))));
+            candidate.put("finishReason", "STOP");
+            candidate.put("index", i);
+            candidate.put("safetyRatings", List.of(
+                Map.of("category", "HARM_CATEGORY_HARASSMENT", "probability", "NEGLIGIBLE"),
+                Map.of("category", "HARM_CATEGORY_HATE_SPEECH", "probability", "NEGLIGIBLE"),
+                Map.of("category", "HARM_CATEGORY_SEXUALLY_EXPLICIT", "probability", "NEGLIGIBLE"),
+                Map.of("category", "HARM_CATEGORY_DANGEROUS_CONTENT", "probability", "LOW")));
+            candidates.add(candidate);
+        }
+
+        return objectMapper.writeValueAsString(Map.of(
+            "candidates", candidates,
+            "usageMetadata", Map.of("promptTokenCount", 120, "candidatesTokenCount", 16000,
+                "totalTokenCount", 16120),
+            "modelVersion", "gemini-2.0-flash")).getBytes(StandardCharsets.UTF_8);
+    }
+}
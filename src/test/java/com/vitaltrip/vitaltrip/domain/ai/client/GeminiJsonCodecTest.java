@@ -0,0 +1,106 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiResponse;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Gemini 요청/응답 JSON 변환 테스트")
+class GeminiJsonCodecTest {
+
+    private final GeminiJsonCodec codec = new GeminiJsonCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("요청은 비어 있는 필드 없이 contents/parts/text 로 직렬화")
+    void writeRequest_OmitsNullFields() {
+        // when
+        byte[] body = codec.writeRequest(GeminiRequest.ofPrompt("help \"me\""));
+
+        // then
+        assertThat(new String(body, StandardCharsets.UTF_8))
+            .isEqualTo("{\"contents\":[{\"parts\":[{\"text\":\"help \\\"me\\\"\"}]}]}");
+    }
+
+    @Test
+    @DisplayName("경로의 생성 설정과 캐시 이름은 요청 본문에 함께 직렬화")
+    void writeRequest_IncludesGenerationConfig() {
+        // when
+        byte[] body = codec.writeRequest(GeminiRequest.ofPrompt("help")
+            .withGenerationConfig(new GeminiRequest.GenerationConfig(512, 0.2))
+            .withCachedContent("cachedContents/abc"));
+
+        // then
+        assertThat(new String(body, StandardCharsets.UTF_8))
+            .isEqualTo("{\"contents\":[{\"parts\":[{\"text\":\"help\"}]}],"
+                + "\"cachedContent\":\"cachedContents/abc\","
+                + "\"generationConfig\":{\"maxOutputTokens\":512,\"temperature\":0.2}}");
+    }
+
+    @Test
+    @DisplayName("생각 예산은 generationConfig.thinkingConfig 로 직렬화")
+    void writeRequest_IncludesThinkingConfig() {
+        // when
+        byte[] body = codec.writeRequest(GeminiRequest.ofPrompt("help")
+            .withGenerationConfig(new GeminiRequest.GenerationConfig(1024, 0.3,
+                new GeminiRequest.ThinkingConfig(0))));
+
+        // then
+        assertThat(new String(body, StandardCharsets.UTF_8))
+            .isEqualTo("{\"contents\":[{\"parts\":[{\"text\":\"help\"}]}],"
+                + "\"generationConfig\":{\"maxOutputTokens\":1024,\"temperature\":0.3,"
+                + "\"thinkingConfig\":{\"thinkingBudget\":0}}}");
+    }
+
+    @Test
+    @DisplayName("첫 후보의 첫 텍스트, finishReason, usageMetadata 만 읽고 나머지는 건너뜀")
+    void readResponse_ExtractsFirstCandidate() throws Exception {
+        // given
+        String json = """
+            {
+              "candidates": [
+                {
+                  "content": {
+                    "role": "model",
+                    "parts": [{"inlineData": {"mimeType": "image/png", "data": "AAAA"}},
+                              {"text": "Call 911."}, {"text": "ignored"}]
+                  },
+                  "safetyRatings": [{"category": "HARM_CATEGORY_HARASSMENT", "probability": "NEGLIGIBLE"}],
+                  "finishReason": "STOP",
+                  "index": 0
+                },
+                {"content": {"parts": [{"text": "second candidate"}]}, "finishReason": "MAX_TOKENS"}
+              ],
+              "promptFeedback": {"safetyRatings": []},
+              "usageMetadata": {"promptTokenCount": 12, "candidatesTokenCount": 3, "totalTokenCount": 15},
+              "modelVersion": "gemini-2.0-flash"
+            }
+            """;
+
+        // when
+        GeminiResponse response = codec.readResponse(json);
+
+        // then
+        assertThat(response.text()).isEqualTo("Call 911.");
+        assertThat(response.finishReason()).isEqualTo("STOP");
+        assertThat(response.usage()).isEqualTo(new GeminiUsage(12, 3, 15));
+    }
+
+    @Test
+    @DisplayName("후보나 usageMetadata 가 없는 조각은 null 로 읽음")
+    void readResponse_MissingFields() throws Exception {
+        // when
+        GeminiResponse usageOnly = codec.readResponse(
+            "{\"usageMetadata\":{\"totalTokenCount\":7}}");
+        GeminiResponse emptyCandidates = codec.readResponse("{\"candidates\":[]}");
+
+        // then
+        assertThat(usageOnly.text()).isNull();
+        assertThat(usageOnly.usage()).isEqualTo(new GeminiUsage(0, 0, 7));
+        assertThat(emptyCandidates).isEqualTo(new GeminiResponse(null, null, null));
+    }
+}
@@ -0,0 +1,102 @@
+package com.vitaltrip.vitaltrip.domain.ai.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.support.benchmark.Benchmarks;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 대부분 빠르고 가끔 매우 느린(long-tail) Gemini 응답에서 헤징 여부에 따른 지연 분포를 비교한다.
+ * 요청의 95% 는 40ms, 4% 는 400ms, 1% 는 2s 걸린다. 워밍업 호출로 헤징에 필요한 지연 표본을 쌓는다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Gemini 꼬리 지연 벤치마크")
+class GeminiTailLatencyBenchmark {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+    private static final int WARMUP = 60;
+    private static final int ITERATIONS = 300;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+        GEMINI.delays(() -> {
+            double sample = ThreadLocalRandom.current().nextDouble();
+            if (sample < 0.01) {
+                return Duration.ofSeconds(2);
+            }
+            return sample < 0.05 ? Duration.ofMillis(400) : Duration.ofMillis(40);
+        });
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    // 중첩 클래스마다 설정이 달라 애플리케이션 컨텍스트도 다르므로 클라이언트를 각 클래스에서 주입받는다
+    static Benchmarks.Result measure(String name, GeminiClient geminiClient) {
+        Benchmarks.Result result = Benchmarks.run(name, WARMUP, ITERATIONS,
+            () -> geminiClient.generate("prompt", new RequestCancellation()));
+        assertThat(result.iterations()).isEqualTo(ITERATIONS);
+        return result;
+    }
+
+    @Nested
+    @TestPropertySource(properties = "app.gemini.hedge.enabled=false")
+    @DisplayName("헤징 없음")
+    class WithoutHedging {
+
+        @Autowired
+        private GeminiClient geminiClient;
+
+        @Test
+        @DisplayName("단일 요청")
+        void singleRequest() {
+            measure("gemini generate (no hedging)", geminiClient);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+        "app.gemini.hedge.enabled=true",
+        "app.gemini.hedge.percentile=0.95",
+        "app.gemini.hedge.min-delay=PT0.05S",
+        "app.gemini.hedge.min-samples=50"
+    })
+    @DisplayName("p95 헤징")
+    class WithHedging {
+
+        @Autowired
+        private GeminiClient geminiClient;
+
+        @Test
+        @DisplayName("p95 를 넘으면 추가 요청")
+        void hedgedRequest() {
+            measure("gemini generate (hedge at p95)", geminiClient);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.vitaltrip.vitaltrip.domain.ai.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiRequest;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("모델 경로 선택 테스트")
+class ModelRouterTest {
+
+    private static final ModelRoute FAST = new ModelRoute("fast", "fast-model",
+        new GeminiRequest.GenerationConfig(256, 0.2));
+    private static final ModelRoute QUALITY = new ModelRoute("quality", "quality-model",
+        new GeminiRequest.GenerationConfig(1024, 0.3));
+
+    private final AtomicLong now = new AtomicLong();
+    private final ModelRouter router = new ModelRouter(new ModelRoutingSettings(
+        FAST,
+        QUALITY,
+        Set.of("Cardiac arrest"),
+        Set.of("Poisoning"),
+        100,
+        Duration.ofSeconds(5),
+        0.9,
+        Duration.ofMinutes(1),
+        50,
+        10
+    ), now::get);
+
+    @Test
+    @DisplayName("응급상황 분류와 프롬프트 길이로 경로를 고름")
+    void route_ByEmergencyTypeAndPromptLength() {
+        assertThat(router.route("Cardiac arrest", 500)).isEqualTo(FAST);
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+        assertThat(router.route("Burns", 100)).isEqualTo(QUALITY);
+        assertThat(router.route("Burns", 99)).isEqualTo(FAST);
+    }
+
+    @Test
+    @DisplayName("quality 경로 지연이 SLO 를 넘으면 fast 경로로 낮춤")
+    void route_SloBreached_DowngradesToFast() {
+        // given - 10건 중 1건만 느리면 p90 은 SLO 안이다
+        record(9, Duration.ofSeconds(2));
+        record(1, Duration.ofSeconds(9));
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+
+        // when
+        record(5, Duration.ofSeconds(9));
+
+        // then
+        assertThat(router.isSloBreached()).isTrue();
+        assertThat(router.route("Poisoning", 10)).isEqualTo(FAST);
+        assertThat(router.route("Burns", 500)).isEqualTo(FAST);
+    }
+
+    @Test
+    @DisplayName("fast 경로 지연은 SLO 판단에 쓰지 않음")
+    void recordLatency_IgnoresFastRoute() {
+        // when
+        for (int i = 0; i < 20; i++) {
+            router.recordLatency(FAST, Duration.ofSeconds(30).toNanos());
+        }
+
+        // then
+        assertThat(router.qualityLatencyNanos()).isEqualTo(-1);
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+    }
+
+    @Test
+    @DisplayName("window 가 지나 느린 기록이 빠지면 다시 quality 경로로 보냄")
+    void route_AfterWindow_RecoversToQuality() {
+        // given
+        record(10, Duration.ofSeconds(9));
+        assertThat(router.route("Poisoning", 10)).isEqualTo(FAST);
+
+        // when
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // then
+        assertThat(router.isSloBreached()).isFalse();
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+    }
+
+    @Test
+    @DisplayName("분위수는 새 기록이 windowSize 의 1/20 만큼 쌓여야 다시 계산함")
+    void route_RecomputesPercentileOnlyAfterEnoughNewSamples() {
+        // given - minSamples 에 못 미쳐 SLO 위반이 아니라고 계산해 둔다
+        record(9, Duration.ofSeconds(9));
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+
+        // when - 한 건이 더 쌓여도 다시 계산하지 않는다
+        record(1, Duration.ofSeconds(9));
+
+        // then
+        assertThat(router.route("Poisoning", 10)).isEqualTo(QUALITY);
+        record(1, Duration.ofSeconds(9));
+        assertThat(router.route("Poisoning", 10)).isEqualTo(FAST);
+    }
+
+    private void record(int count, Duration latency) {
+        for (int i = 0; i < count; i++) {
+            now.addAndGet(1);
+            router.recordLatency(QUALITY, latency.toNanos());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.vitaltrip.vitaltrip.domain.auth.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -12,7 +13,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
 import com.vitaltrip.vitaltrip.domain.user.User;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import com.vitaltrip.vitaltrip.support.sql.SqlStatementBudgetConfig;
 import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,17 +23,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 테스트 트랜잭션으로 감싸면 요청의 변경 감지 UPDATE 가 flush 되지 않아 SQL 상한 검사에서 빠진다.
+ * 그래서 요청마다 실제로 커밋하고, 테스트가 끝나면 만든 사용자를 직접 지운다.
+ */
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@Transactional
+@Import(SqlStatementBudgetConfig.class)
 @DisplayName("인증 통합 테스트")
 class AuthIntegrationTest {
 
@@ -49,6 +56,11 @@ class AuthIntegrationTest {
     private AuthDto.SignUpRequest validSignUpRequest;
     private AuthDto.LoginRequest validLoginRequest;
 
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -89,7 +101,7 @@ class AuthIntegrationTest {
                 .andExpect(jsonPath("$.errorCode").doesNotExist());
 
             // 데이터베이스 검증
-            assertThat(userRepository.existsByEmail("test@example.com")).isTrue();
+            assertThat(userRepository.findEmailStatus("test@example.com")).isPresent();
             User savedUser = userRepository.findByEmail("test@example.com").orElseThrow();
             assertThat(savedUser.getName()).isEqualTo("홍길동");
             assertThat(savedUser.getProvider()).isEqualTo(User.AuthProvider.LOCAL);
@@ -528,6 +540,34 @@ class AuthIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("로그아웃되었습니다. 클라이언트에서 토큰을 삭제해주세요."));
         }
+
+        @Test
+        @DisplayName("회원 탈퇴 성공 - 이후 토큰 인증과 로그인 거부")
+        void deleteAccount_Success() throws Exception {
+            // when
+            ResultActions result = mockMvc.perform(delete("/api/auth/me")
+                .header("Authorization", "Bearer " + accessToken));
+
+            // then
+            result.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("회원 탈퇴가 완료되었습니다"));
+
+            // 데이터베이스 검증 - 행은 남아 있고 탈퇴 시각만 기록된다
+            User deletedUser = userRepository.findByEmail("test@example.com").orElseThrow();
+            assertThat(deletedUser.isDeleted()).isTrue();
+
+            // 기존 토큰으로 인증 불가
+            mockMvc.perform(get("/api/auth/me")
+                    .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+
+            // 로그인 불가
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isNotFound());
+        }
     }
 
     @Test
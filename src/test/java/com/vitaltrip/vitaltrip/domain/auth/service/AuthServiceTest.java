@@ -16,9 +16,12 @@ import com.vitaltrip.vitaltrip.common.exception.CustomException;
 import com.vitaltrip.vitaltrip.common.exception.ErrorType;
 import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
 import com.vitaltrip.vitaltrip.domain.auth.util.JwtUtil;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
 import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserEmailStatusView;
 import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +46,9 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -87,7 +94,7 @@ class AuthServiceTest {
         @DisplayName("정상적인 회원가입 요청시 성공한다")
         void signUp_Success() {
             // given
-            given(userRepository.existsByEmail(validSignUpRequest.email())).willReturn(false);
+            given(userRepository.findEmailStatus(validSignUpRequest.email())).willReturn(Optional.empty());
             given(passwordEncoder.encode(validSignUpRequest.password())).willReturn(
                 "encodedPassword");
             given(userRepository.save(any(User.class))).willReturn(testUser);
@@ -96,8 +103,10 @@ class AuthServiceTest {
             assertThatNoException().isThrownBy(() -> authService.signUp(validSignUpRequest));
 
             // verify
-            then(userRepository).should().existsByEmail(validSignUpRequest.email());
+            then(userRepository).should().findEmailStatus(validSignUpRequest.email());
             then(passwordEncoder).should().encode(validSignUpRequest.password());
+            then(eventPublisher).should()
+                .publishEvent(UserCountChangedEvent.joined("KR", User.AuthProvider.LOCAL));
             then(userRepository).should().save(any(User.class));
         }
 
@@ -105,7 +114,8 @@ class AuthServiceTest {
         @DisplayName("이미 존재하는 이메일로 회원가입시 예외가 발생한다")
         void signUp_DuplicateEmail_ThrowsException() {
             // given
-            given(userRepository.existsByEmail(validSignUpRequest.email())).willReturn(true);
+            given(userRepository.findEmailStatus(validSignUpRequest.email()))
+                .willReturn(Optional.of(emailStatus(null)));
 
             // when & then
             assertThatThrownBy(() -> authService.signUp(validSignUpRequest))
@@ -113,11 +123,27 @@ class AuthServiceTest {
                 .hasFieldOrPropertyWithValue("errorType", ErrorType.DUPLICATE_EMAIL);
 
             // verify
-            then(userRepository).should().existsByEmail(validSignUpRequest.email());
+            then(userRepository).should().findEmailStatus(validSignUpRequest.email());
             then(passwordEncoder).should(never()).encode(any());
             then(userRepository).should(never()).save(any(User.class));
         }
 
+        @Test
+        @DisplayName("탈퇴 처리 중인 계정의 이메일로 회원가입시 예외가 발생한다")
+        void signUp_PendingDeletionEmail_ThrowsException() {
+            // given
+            given(userRepository.findEmailStatus(validSignUpRequest.email()))
+                .willReturn(Optional.of(emailStatus(LocalDateTime.now())));
+
+            // when & then
+            assertThatThrownBy(() -> authService.signUp(validSignUpRequest))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.ACCOUNT_PENDING_DELETION);
+
+            // verify
+            then(userRepository).should(never()).save(any(User.class));
+        }
+
         @Test
         @DisplayName("비밀번호가 일치하지 않으면 예외가 발생한다")
         void signUp_PasswordMismatch_ThrowsException() {
@@ -131,7 +157,7 @@ class AuthServiceTest {
                 "KR",
                 "+821012345678"
             );
-            given(userRepository.existsByEmail(mismatchRequest.email())).willReturn(false);
+            given(userRepository.findEmailStatus(mismatchRequest.email())).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> authService.signUp(mismatchRequest))
@@ -140,7 +166,7 @@ class AuthServiceTest {
                 .hasMessageContaining("비밀번호와 비밀번호 확인이 일치하지 않습니다");
 
             // verify
-            then(userRepository).should().existsByEmail(mismatchRequest.email());
+            then(userRepository).should().findEmailStatus(mismatchRequest.email());
             then(passwordEncoder).should(never()).encode(any());
             then(userRepository).should(never()).save(any(User.class));
         }
@@ -149,7 +175,7 @@ class AuthServiceTest {
         @DisplayName("사용자 정보가 올바르게 저장된다")
         void signUp_UserDataSavedCorrectly() {
             // given
-            given(userRepository.existsByEmail(validSignUpRequest.email())).willReturn(false);
+            given(userRepository.findEmailStatus(validSignUpRequest.email())).willReturn(Optional.empty());
             given(passwordEncoder.encode(validSignUpRequest.password())).willReturn(
                 "encodedPassword");
 
@@ -389,4 +415,7 @@ class AuthServiceTest {
         }
     }
 
+    private static UserEmailStatusView emailStatus(LocalDateTime deletedAt) {
+        return () -> deletedAt;
+    }
 }
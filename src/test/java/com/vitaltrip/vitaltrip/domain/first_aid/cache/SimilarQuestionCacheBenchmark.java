@@ -0,0 +1,75 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import com.vitaltrip.vitaltrip.support.benchmark.Benchmarks;
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 30만 건이 저장된 유사 질문 캐시에서 적중/미적중 조회 비용을 측정한다.
+ * 조회 비용에는 서명 계산과 LSH 후보 검증이 모두 포함된다.
+ */
+@Tag("benchmark")
+@DisplayName("유사 질문 캐시 벤치마크")
+class SimilarQuestionCacheBenchmark {
+
+    private static final int ENTRY_COUNT = 300_000;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final String[] EMERGENCY_TYPES = {"Burns", "Choking", "Bleeding", "Fracture",
+        "Cardiac Arrest", "Poisoning", "Allergy", "Heatstroke"};
+    private static final String[] WORDS = ("friend child mother father baby stranger tourist "
+        + "hand arm leg head face eye neck back chest stomach finger knee ankle wrist "
+        + "burned cut fell collapsed swallowed bitten stung twisted hit scratched bleeding "
+        + "swollen dizzy vomiting fever rash numb pale shaking sweating unconscious "
+        + "water oil knife glass stairs bike car dog snake bee jellyfish peanut medicine "
+        + "beach hotel street mountain restaurant bus train airport pool market").split(" ");
+
+    @Test
+    @DisplayName("30만 건에서 유사 질문 조회")
+    void lookupAtScale() {
+        SimilarQuestionCache<String> cache = new SimilarQuestionCache<>("benchmark", ENTRY_COUNT,
+            Duration.ofHours(1), 0.45, 20, 3, 3);
+
+        Random random = new Random(42);
+        AdviceCacheKey[] stored = new AdviceCacheKey[ENTRY_COUNT];
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            stored[i] = randomQuestion(random);
+            cache.put(stored[i], "advice");
+        }
+
+        AdviceCacheKey[] unseen = new AdviceCacheKey[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            unseen[i] = randomQuestion(random);
+        }
+
+        int[] cursor = new int[1];
+        Benchmarks.Result hit = Benchmarks.run("similar cache hit (300k entries)", WARMUP,
+            ITERATIONS, () -> cache.get(stored[cursor[0]++ % ENTRY_COUNT]));
+        cursor[0] = 0;
+        Benchmarks.Result miss = Benchmarks.run("similar cache miss (300k entries)", WARMUP,
+            ITERATIONS, () -> cache.get(unseen[cursor[0]++ % ITERATIONS]));
+        System.out.println("[benchmark] " + cache.statistics());
+
+        assertThat(hit.p99Micros()).isLessThan(1_000);
+        assertThat(miss.p99Micros()).isLessThan(1_000);
+    }
+
+    private static AdviceCacheKey randomQuestion(Random random) {
+        StringBuilder message = new StringBuilder("my");
+        int words = 5 + random.nextInt(6);
+        for (int i = 0; i < words; i++) {
+            message.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        message.append(", what should I do?");
+
+        String emergencyType = EMERGENCY_TYPES[random.nextInt(EMERGENCY_TYPES.length)];
+        return AdviceCacheKey.of(new EmergencyChatAdviceRequest(emergencyType, message.toString()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("유사 질문 캐시 테스트")
+class SimilarQuestionCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimilarQuestionCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SimilarQuestionCache<>("test", 3, Duration.ofMinutes(1), 0.45, 20, 3, 3,
+            now::get);
+    }
+
+    @Test
+    @DisplayName("표현이 다른 같은 질문은 저장된 조언을 반환")
+    void get_ParaphrasedQuestionHits() {
+        // given
+        cache.put(key("Choking", "My friend is choking what do I do"), "advice");
+
+        // when & then
+        assertThat(cache.get(key("Choking", "friend choking, what should I do?")))
+            .contains("advice");
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문자열이 비슷해도 핵심 단어가 다르면 다른 질문")
+    void get_DifferentKeyTermsMiss() {
+        // given
+        cache.put(key("Poisoning", "My child swallowed a coin, what should I do?"), "coin");
+        cache.put(key("Cardiac Arrest", "Someone collapsed and is not breathing"), "cpr");
+
+        // when & then
+        assertThat(cache.get(key("Poisoning", "my child swallowed a battery what should i do")))
+            .isEmpty();
+        assertThat(cache.get(key("Cardiac Arrest", "someone collapsed and is breathing")))
+            .isEmpty();
+        assertThat(cache.statistics().misses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응급상황 유형이 다르면 같은 메시지도 다른 질문")
+    void get_DifferentEmergencyTypeMiss() {
+        // given
+        cache.put(key("Burns", "What should I do now"), "burns");
+
+        // when & then
+        assertThat(cache.get(key("Choking", "What should I do now"))).isEmpty();
+        assertThat(cache.get(key("Burns", "what should i do now?"))).contains("burns");
+    }
+
+    @Test
+    @DisplayName("유사도가 기준보다 낮으면 미적중")
+    void get_BelowThresholdMiss() {
+        // given
+        SimilarQuestionCache<String> strictCache = new SimilarQuestionCache<>("strict", 3,
+            Duration.ofMinutes(1), 0.9, 20, 3, 3, now::get);
+        strictCache.put(key("Choking", "My friend is choking what do I do"), "advice");
+
+        // when & then
+        assertThat(strictCache.get(key("Choking", "friend choking, what should I do?"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 반환하지 않음")
+    void get_ExpiredEntryMiss() {
+        // given
+        cache.put(key("Burns", "I burned my hand with boiling water"), "advice");
+
+        // when
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // then
+        assertThat(cache.get(key("Burns", "I burned my hand with boiling water"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래된 항목을 덮어씀")
+    void put_OverwritesOldestWhenFull() {
+        // given
+        cache.put(key("Burns", "I burned my hand with boiling water"), "burns");
+        cache.put(key("Choking", "My friend is choking"), "choking");
+        cache.put(key("Bleeding", "I cut my finger with a knife"), "bleeding");
+
+        // when
+        cache.put(key("Fracture", "I think my arm is broken"), "fracture");
+
+        // then
+        assertThat(cache.get(key("Burns", "I burned my hand with boiling water"))).isEmpty();
+        assertThat(cache.get(key("Fracture", "I think my arm is broken"))).contains("fracture");
+        assertThat(cache.statistics().size()).isEqualTo(3);
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+    }
+
+    private static AdviceCacheKey key(String emergencyType, String userMessage) {
+        return AdviceCacheKey.of(new EmergencyChatAdviceRequest(emergencyType, userMessage));
+    }
+}
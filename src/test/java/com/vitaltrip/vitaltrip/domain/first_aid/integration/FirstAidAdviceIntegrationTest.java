@@ -0,0 +1,357 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.common.cache.WeightedTtlCache;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.AdviceCacheKey;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.SimilarQuestionCache;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceResponse;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.first-aid.max-in-flight=2",
+    "app.first-aid.advice-timeout=PT2S",
+    "app.first-aid.rate-limit.enabled=false"
+})
+@DisplayName("응급처치 조언 비동기 처리/캐시/호출 병합/기본 안내 통합 테스트")
+class FirstAidAdviceIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> adviceCache;
+
+    @Autowired
+    private SimilarQuestionCache<EmergencyChatAdviceResponse> similarAdviceCache;
+
+    @Autowired
+    private CircuitBreaker geminiCircuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+        adviceCache.invalidateAll();
+        similarAdviceCache.invalidateAll();
+        geminiCircuitBreaker.reset();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("요청 스레드를 반환하고 비동기로 조언을 응답")
+    void advice_RespondsAsynchronously() throws Exception {
+        // given
+        GEMINI.respondWith("Apply cool running water for 20 minutes.", "STOP");
+
+        // when
+        MvcResult mvcResult = advice().andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").value("Apply cool running water for 20 minutes."))
+            .andExpect(jsonPath("$.data.fallback").value(false));
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 상한에 이르면 503")
+    void advice_RejectedWhenMaxInFlightReached() throws Exception {
+        // given - 서로 다른 질문 2개로 상한을 모두 사용 중
+        GEMINI.delay(Duration.ofMillis(500));
+        MvcResult first = advice(new EmergencyChatAdviceRequest("Burns", "Boiling water"))
+            .andExpect(request().asyncStarted()).andReturn();
+        MvcResult second = advice(new EmergencyChatAdviceRequest("Burns", "Hot oil"))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        // when & then
+        advice(new EmergencyChatAdviceRequest("Burns", "Steam from a kettle"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.errorCode").value("SERVICE_UNAVAILABLE"));
+
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+        mockMvc.perform(asyncDispatch(second)).andExpect(status().isOk());
+        assertThat(meterRegistry.get("first_aid.advice.rejected").counter().count())
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 질문은 Gemini 호출 하나를 함께 사용")
+    void advice_CoalescesIdenticalConcurrentRequests() throws Exception {
+        // given
+        GEMINI.delay(Duration.ofMillis(500));
+        double coalescedBefore = coalesced();
+
+        // when - 상한(2)보다 많아도 호출은 하나이므로 거절되지 않는다
+        List<MvcResult> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(advice().andExpect(request().asyncStarted()).andReturn());
+        }
+
+        // then
+        for (MvcResult result : results) {
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").value("Call emergency services immediately."));
+        }
+        assertThat(GEMINI.requestCount()).isEqualTo(1);
+        assertThat(coalesced() - coalescedBefore).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("함께 기다리던 요청은 호출 실패 시 기본 안내를 함께 받음")
+    void advice_CoalescedRequestsShareFallback() throws Exception {
+        // given
+        GEMINI.delay(Duration.ofMillis(200));
+        GEMINI.failWith(500);
+
+        // when
+        MvcResult first = advice().andExpect(request().asyncStarted()).andReturn();
+        MvcResult second = advice().andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        for (MvcResult result : List.of(first, second)) {
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fallback").value(true))
+                .andExpect(jsonPath("$.data.summery").value("Burns"));
+        }
+        // 호출 하나를 함께 쓰며, 그 호출이 max-attempts(3) 만큼 재시도한다
+        assertThat(GEMINI.requestCount()).isEqualTo(3);
+        assertThat(fallbacks("error")).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기본 안내는 캐시하지 않음")
+    void advice_FallbackNotCached() throws Exception {
+        // given
+        GEMINI.failWith(500);
+        mockMvc.perform(asyncDispatch(advice().andReturn()))
+            .andExpect(jsonPath("$.data.fallback").value(true));
+
+        // when
+        GEMINI.reset();
+        MvcResult retried = advice().andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(retried))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.fallback").value(false));
+        assertThat(adviceCache.statistics().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 Gemini 를 호출하지 않고 기본 안내로 응답")
+    void advice_CircuitOpenServesFallback() throws Exception {
+        // given - 최소 호출 수(10)만큼 실패를 기록해 회로를 연다
+        for (int i = 0; i < 10; i++) {
+            geminiCircuitBreaker.tryAcquirePermission().orElseThrow().onFailure(0);
+        }
+        assertThat(geminiCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        double circuitOpenBefore = fallbacks("circuit_open");
+
+        // when
+        MvcResult mvcResult = advice(new EmergencyChatAdviceRequest("Choking",
+            "Food is stuck in the throat")).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.fallback").value(true))
+            .andExpect(jsonPath("$.data.summery").value("Choking"))
+            .andExpect(jsonPath("$.data.recommendedAction").value("call-emergency-services"));
+        assertThat(GEMINI.requestCount()).isZero();
+        assertThat(fallbacks("circuit_open") - circuitOpenBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 시 기본 안내로 응답하고 슬롯을 반환")
+    void advice_TimesOut() throws Exception {
+        // given
+        GEMINI.delay(Duration.ofSeconds(10));
+
+        // when
+        long startedAt = System.nanoTime();
+        MvcResult mvcResult = advice().andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.fallback").value(true));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+            .isLessThan(Duration.ofSeconds(5));
+
+        // 업스트림 호출이 중단되어 슬롯이 곧 반환된다
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+        while (inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("표기만 다른 같은 질문은 캐시에서 응답")
+    void advice_NormalizedQuestionServedFromCache() throws Exception {
+        // given
+        MvcResult first = advice(new EmergencyChatAdviceRequest("Burns",
+            "I burned my hand with boiling water.")).andReturn();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+
+        // when
+        MvcResult second = advice(new EmergencyChatAdviceRequest("  BURNS ",
+            "i burned my   hand with boiling water")).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(second))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").value("Call emergency services immediately."));
+        assertThat(GEMINI.requestCount()).isEqualTo(1);
+        assertThat(adviceCache.statistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("핵심 단어가 같은 유사한 질문은 유사 질문 캐시에서 응답")
+    void advice_SimilarQuestionServedFromCache() throws Exception {
+        // given
+        MvcResult first = advice(new EmergencyChatAdviceRequest("Choking",
+            "My friend is choking what do I do")).andReturn();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+
+        // when
+        MvcResult second = advice(new EmergencyChatAdviceRequest("Choking",
+            "friend choking, what should I do?")).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(second)).andExpect(status().isOk());
+        assertThat(GEMINI.requestCount()).isEqualTo(1);
+        assertThat(similarAdviceCache.statistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("finishReason 이 STOP 이 아닌 응답은 캐시하지 않음")
+    void advice_IncompleteAnswerNotCached() throws Exception {
+        // given
+        GEMINI.respondWith("Apply cool running water for", "MAX_TOKENS");
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(asyncDispatch(advice().andReturn())).andExpect(status().isOk());
+        }
+
+        // then
+        assertThat(GEMINI.requestCount()).isEqualTo(2);
+        assertThat(adviceCache.statistics().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("텍스트 없이 끝난 응답은 회로 차단기 실패로 세지 않고 기본 안내로 응답")
+    void advice_EmptyAnswerServesFallbackWithoutOpeningCircuit() throws Exception {
+        // given
+        GEMINI.respondWith("", "SAFETY");
+        double noTextBefore = fallbacks("no_text");
+
+        // when - 최소 호출 수(10)만큼 보낸다
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(asyncDispatch(advice().andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fallback").value(true));
+        }
+
+        // then - 재시도하지 않고, 회로도 열리지 않는다
+        assertThat(GEMINI.requestCount()).isEqualTo(10);
+        assertThat(geminiCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(fallbacks("no_text") - noTextBefore).isEqualTo(10);
+        assertThat(adviceCache.statistics().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("quality 경로는 생각 예산 0 을 보내고, 빈 MAX_TOKENS 응답은 기본 안내로 응답")
+    void advice_QualityRouteEmptyMaxTokensAnswer() throws Exception {
+        // given
+        GEMINI.respondWith("", "MAX_TOKENS");
+        double maxTokensBefore = fallbacks("max_tokens");
+
+        // when
+        MvcResult mvcResult = advice(new EmergencyChatAdviceRequest("Poisoning",
+            "My child swallowed bleach")).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.fallback").value(true))
+            .andExpect(jsonPath("$.data.summery").value("Poisoning"));
+        assertThat(GEMINI.requestBodies()).singleElement().asString()
+            .contains("\"thinkingConfig\":{\"thinkingBudget\":0}");
+        assertThat(fallbacks("max_tokens") - maxTokensBefore).isEqualTo(1);
+        assertThat(geminiCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private ResultActions advice() throws Exception {
+        return advice(new EmergencyChatAdviceRequest("Burns", "I burned my hand with boiling water."));
+    }
+
+    private ResultActions advice(EmergencyChatAdviceRequest adviceRequest) throws Exception {
+        return mockMvc.perform(post("/api/first-aid/advice")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(adviceRequest)));
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("first_aid.advice.coalesced").functionCounter().count();
+    }
+
+    private double fallbacks(String reason) {
+        return meterRegistry.counter("first_aid.advice.fallback", "reason", reason).count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("first_aid.advice.in_flight").gauge().value();
+    }
+}
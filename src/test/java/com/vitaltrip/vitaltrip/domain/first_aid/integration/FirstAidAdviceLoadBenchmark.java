@@ -0,0 +1,165 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Gemini 응답이 느린 상황에서 동시 조언 요청 수를 늘려가며 플랫폼 스레드 수의 최고치를 측정한다.
+ * 요청 스레드는 비동기 처리로 바로 반환되고 대기는 가상 스레드에서 일어나므로 스레드 수는 거의 늘지 않아야 한다.
+ * 요청 스레드 풀을 작게 두고, 각 단계의 스레드 증가량이 그 풀 크기 정도에 머무는지와
+ * 요청 스레드가 Gemini 응답을 기다렸다면 걸렸을 시간보다 훨씬 빨리 끝나는지를 검증한다.
+ * Gemini 호출 수 자체를 재기 위해 응답 캐시는 끈다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.first-aid.max-in-flight=2000",
+    "app.first-aid.cache.max-weight=0",
+    "app.first-aid.similar-cache.max-entries=0",
+    "app.gemini.http.max-total=2000",
+    "app.gemini.http.max-per-route=2000",
+    "app.first-aid.rate-limit.enabled=false",
+    "app.gemini.concurrency.initial-limit=2000",
+    "app.gemini.concurrency.max-limit=2000",
+    "server.tomcat.threads.max=" + FirstAidAdviceLoadBenchmark.REQUEST_THREADS
+})
+@DisplayName("응급처치 조언 부하 벤치마크")
+class FirstAidAdviceLoadBenchmark {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+    private static final Duration GEMINI_LATENCY = Duration.ofMillis(500);
+    private static final int[] CONCURRENCY_LEVELS = {50, 200, 800};
+
+    static final int REQUEST_THREADS = 50;
+    // 요청 스레드 풀 외에 HTTP 클라이언트 셀렉터, 커넥션 풀 관리 스레드 등이 생길 여유
+    private static final int MAX_THREAD_GROWTH = REQUEST_THREADS + 30;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("동시 요청 수 증가에 따른 플랫폼 스레드 수")
+    void platformThreadsStayFlat() throws Exception {
+        GEMINI.delay(GEMINI_LATENCY);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callers)
+                .build()) {
+
+            // 워밍업
+            runLevel(httpClient, callers, 20);
+
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                int baseline = THREAD_MX_BEAN.getThreadCount();
+                LevelResult result = runLevel(httpClient, callers, concurrency);
+                int growth = result.peakThreads() - baseline;
+
+                System.out.printf(
+                    "[benchmark] advice concurrency=%-4d ok=%-4d elapsed=%5dms platformThreads baseline=%d peak=%d%n",
+                    concurrency, result.succeeded(), result.elapsed().toMillis(), baseline,
+                    result.peakThreads());
+                assertThat(result.succeeded()).isEqualTo(concurrency);
+                // 동시 요청이 16배가 되어도 스레드는 요청 수가 아니라 요청 스레드 풀 크기만큼만 는다
+                assertThat(growth)
+                    .as("concurrency=%d 의 플랫폼 스레드 증가량", concurrency)
+                    .isLessThanOrEqualTo(MAX_THREAD_GROWTH);
+                // 요청 스레드가 응답을 기다렸다면 concurrency / REQUEST_THREADS 번의 Gemini 지연이 필요하다
+                assertThat(result.elapsed())
+                    .as("concurrency=%d 의 소요 시간", concurrency)
+                    .isLessThan(GEMINI_LATENCY.multipliedBy(4));
+            }
+        }
+    }
+
+    private LevelResult runLevel(HttpClient httpClient, ExecutorService callers, int concurrency)
+        throws Exception {
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        AtomicInteger peakThreads = new AtomicInteger(THREAD_MX_BEAN.getThreadCount());
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (sampling.get()) {
+                peakThreads.accumulateAndGet(THREAD_MX_BEAN.getThreadCount(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        List<Future<Integer>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = adviceRequest(concurrency + "-" + i);
+            responses.add(callers.submit(() ->
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+        }
+
+        int succeeded = 0;
+        for (Future<Integer> response : responses) {
+            if (response.get() == 200) {
+                succeeded++;
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        sampling.set(false);
+        sampler.join();
+        return new LevelResult(succeeded, elapsed, peakThreads.get());
+    }
+
+    // 같은 질문은 호출이 병합되므로 요청마다 메시지를 다르게 한다
+    private HttpRequest adviceRequest(String id) {
+        return HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/first-aid/advice"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"emergencyType\":\"Burns\",\"userMessage\":\"Boiling water on my hand " + id
+                    + "\"}"))
+            .build();
+    }
+
+    private record LevelResult(int succeeded, Duration elapsed, int peakThreads) {
+
+    }
+}
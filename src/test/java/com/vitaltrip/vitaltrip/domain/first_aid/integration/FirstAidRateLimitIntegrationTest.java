@@ -0,0 +1,106 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.first-aid.rate-limit.capacity=2",
+    "app.first-aid.rate-limit.refill-period=PT1M"
+})
+@DisplayName("응급처치 조언 요청 빈도 제한 통합 테스트")
+class FirstAidRateLimitIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("같은 IP 의 요청이 버킷 크기를 넘으면 Gemini 를 호출하지 않고 429 와 Retry-After 로 응답")
+    void advice_OverLimit_Returns429WithRetryAfter() throws Exception {
+        // given
+        allowed("10.0.0.1", "first");
+        allowed("10.0.0.1", "second");
+        int upstreamRequests = GEMINI.requestCount();
+
+        // when & then
+        advice("10.0.0.1", "third")
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "60"))
+            .andExpect(jsonPath("$.errorCode").value("RATE_LIMITED"));
+        assertThat(GEMINI.requestCount()).isEqualTo(upstreamRequests);
+    }
+
+    @Test
+    @DisplayName("다른 IP 의 요청은 따로 제한")
+    void advice_OtherClient_NotLimited() throws Exception {
+        // given
+        allowed("10.0.0.2", "first");
+        allowed("10.0.0.2", "second");
+
+        // when & then
+        advice("10.0.0.2", "third").andExpect(status().isTooManyRequests());
+        allowed("10.0.0.3", "third");
+    }
+
+    private void allowed(String remoteAddr, String message) throws Exception {
+        mockMvc.perform(asyncDispatch(advice(remoteAddr, message).andReturn()))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions advice(String remoteAddr, String message) throws Exception {
+        EmergencyChatAdviceRequest request = new EmergencyChatAdviceRequest("Burns",
+            "rate limit " + message);
+        return mockMvc.perform(post("/api/first-aid/advice")
+            .with(servletRequest -> {
+                servletRequest.setRemoteAddr(remoteAddr);
+                return servletRequest;
+            })
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+}
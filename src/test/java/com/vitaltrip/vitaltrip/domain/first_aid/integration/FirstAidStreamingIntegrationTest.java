@@ -0,0 +1,210 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.common.cache.WeightedTtlCache;
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.http.RequestCancellation;
+import com.vitaltrip.vitaltrip.common.resilience.CircuitBreaker;
+import com.vitaltrip.vitaltrip.domain.ai.client.GeminiClient;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.AdviceCacheKey;
+import com.vitaltrip.vitaltrip.domain.first_aid.cache.SimilarQuestionCache;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceRequest;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.EmergencyChatAdviceResponse;
+import com.vitaltrip.vitaltrip.support.gemini.FakeGeminiServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.first-aid.rate-limit.enabled=false")
+@DisplayName("응급처치 조언 스트리밍 통합 테스트")
+class FirstAidStreamingIntegrationTest {
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.start();
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.base-url", GEMINI::baseUrl);
+        registry.add("gemini.api.key", () -> "test-key");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GeminiClient geminiClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CircuitBreaker geminiCircuitBreaker;
+
+    @Autowired
+    private WeightedTtlCache<AdviceCacheKey, EmergencyChatAdviceResponse> adviceCache;
+
+    @Autowired
+    private SimilarQuestionCache<EmergencyChatAdviceResponse> similarAdviceCache;
+
+    @BeforeEach
+    void setUp() {
+        GEMINI.reset();
+        geminiCircuitBreaker.reset();
+        adviceCache.invalidateAll();
+        similarAdviceCache.invalidateAll();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        GEMINI.close();
+    }
+
+    @Test
+    @DisplayName("생성된 텍스트를 순서대로 chunk 이벤트로 전달하고 done 으로 끝냄")
+    void stream_ChunksInOrderThenDone() throws Exception {
+        // given
+        GEMINI.streamChunks(List.of("1. Call 911. ", "2. Start CPR. ", "3. Keep going."),
+            Duration.ofMillis(20));
+
+        // when
+        String body = stream(new EmergencyChatAdviceRequest("Cardiac Arrest",
+            "I found an unconscious person with no breathing."));
+
+        // then
+        assertThat(body)
+            .containsSubsequence(
+                "event:chunk", "\"text\":\"1. Call 911. \"",
+                "event:chunk", "\"text\":\"2. Start CPR. \"",
+                "event:chunk", "\"text\":\"3. Keep going.\"",
+                "event:done", "\"finishReason\":\"STOP\"")
+            .doesNotContain("event:error");
+        assertThat(GEMINI.requestBodies()).singleElement()
+            .satisfies(requestBody -> assertThat(requestBody).contains("Cardiac Arrest"));
+    }
+
+    @Test
+    @DisplayName("완결된 스트림은 캐시에 넣고, 같은 질문은 Gemini 호출 없이 하나의 chunk 로 보냄")
+    void stream_CompletedAdviceServedFromCache() throws Exception {
+        // given
+        GEMINI.streamChunks(List.of("1. Cool the burn. ", "2. Cover it."), Duration.ofMillis(20));
+        EmergencyChatAdviceRequest adviceRequest = new EmergencyChatAdviceRequest("Burns",
+            "I spilled boiling water on my hand.");
+        stream(adviceRequest);
+
+        // when
+        String body = stream(adviceRequest);
+
+        // then
+        assertThat(body)
+            .containsSubsequence(
+                "event:chunk", "\"text\":\"1. Cool the burn. 2. Cover it.\"",
+                "event:done", "\"finishReason\":\"STOP\"")
+            .doesNotContain("event:error");
+        assertThat(GEMINI.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 조각 전에 업스트림이 실패하면 기본 안내를 보내고 FALLBACK 으로 끝냄")
+    void stream_UpstreamFailure_SendsFallback() throws Exception {
+        // given
+        GEMINI.failWith(500);
+
+        // when
+        String body = stream(new EmergencyChatAdviceRequest("Burns", "Boiling water"));
+
+        // then
+        assertThat(body)
+            .containsSubsequence(
+                "event:chunk", "AI advice is temporarily unavailable.",
+                "event:done", "\"finishReason\":\"FALLBACK\"")
+            .doesNotContain("event:error");
+    }
+
+    @Test
+    @DisplayName("클라이언트가 취소한 스트림은 회로 차단기에 실패로 기록하지 않음")
+    void streamContent_Cancelled_NotRecordedAsFailure() {
+        // given
+        GEMINI.streamChunks(List.of("chunk-0 ", "chunk-1 "), Duration.ofMillis(100));
+        RequestCancellation cancellation = new RequestCancellation();
+        double failuresBefore = circuitBreakerCalls("failure");
+
+        // when
+        assertThatThrownBy(() -> geminiClient.streamContent("prompt", cancellation,
+            text -> cancellation.cancel()))
+            .isInstanceOf(CustomException.class);
+
+        // then
+        assertThat(circuitBreakerCalls("failure")).isEqualTo(failuresBefore);
+    }
+
+    @Test
+    @DisplayName("취소하면 남은 스트림을 읽지 않고 업스트림 연결을 끊음")
+    void streamContent_Cancelled_AbortsUpstream() throws Exception {
+        // given
+        GEMINI.streamChunks(IntStream.range(0, 50).mapToObj(i -> "chunk-" + i + " ").toList(),
+            Duration.ofMillis(100));
+        RequestCancellation cancellation = new RequestCancellation();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> geminiClient.streamContent("prompt", cancellation, text -> {
+            received.add(text);
+            cancellation.cancel();
+        }))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("취소");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then - 50 조각을 모두 받으려면 5초가 걸린다
+        assertThat(received).containsExactly("chunk-0 ");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(GEMINI.awaitStreamAborted(Duration.ofSeconds(5))).isTrue();
+    }
+
+    private double circuitBreakerCalls(String outcome) {
+        return meterRegistry.counter("circuit_breaker.calls", "name", "gemini", "outcome", outcome)
+            .count();
+    }
+
+    private String stream(EmergencyChatAdviceRequest adviceRequest) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(post("/api/first-aid/advice/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .content(objectMapper.writeValueAsString(adviceRequest)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // emitter 가 complete 될 때까지 대기
+        mvcResult.getAsyncResult(Duration.ofSeconds(10).toMillis());
+        return mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
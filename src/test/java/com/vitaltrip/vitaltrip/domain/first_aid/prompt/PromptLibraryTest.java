@@ -0,0 +1,90 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.prompt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vitaltrip.vitaltrip.domain.first_aid.fallback.FallbackAdviceCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("프롬프트 템플릿 테스트")
+class PromptLibraryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PromptLibrary promptLibrary = new PromptLibrary(objectMapper,
+        new FallbackAdviceCatalog(objectMapper), meterRegistry, 20);
+
+    @Test
+    @DisplayName("응급상황 분류에 맞는 템플릿에 정규화한 값을 채움")
+    void build_UsesCategoryTemplate() {
+        // when
+        AdvicePrompt prompt = promptLibrary.build("Heart attack",
+            "  He  collapsed\u200B\r\n\r\n\r\nand is not breathing ");
+
+        // then
+        assertThat(prompt.category()).isEqualTo("Cardiac arrest");
+        assertThat(prompt.text())
+            .contains("suspected cardiac arrest")
+            .contains(
+                "Emergency type: Heart attack\nUser message: He collapsed\nand is not breathing\n")
+            .doesNotContain("{{");
+        assertThat(prompt.truncated()).isFalse();
+        assertThat(prompt.estimatedTokens()).isEqualTo(ApproximateTokenizer.count(prompt.text()));
+        assertThat(meterRegistry.summary("first_aid.prompt.tokens", "emergency_type",
+            "Cardiac arrest").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("템플릿이 없는 분류는 기본 템플릿을 사용")
+    void build_FallsBackToDefaultTemplate() {
+        AdvicePrompt prompt = promptLibrary.build("Snake bite", "bitten on the ankle");
+
+        assertThat(prompt.category()).isEqualTo("General emergency");
+        assertThat(prompt.text())
+            .contains("Emergency type: Snake bite\nUser message: bitten on the ankle\n");
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘는 사용자 메시지는 단어 경계에서 자름")
+    void build_TruncatesLongMessage() {
+        // given
+        String message = "please help ".repeat(50);
+
+        // when
+        AdvicePrompt prompt = promptLibrary.build("Burns", message);
+
+        // then
+        assertThat(prompt.truncated()).isTrue();
+        assertThat(prompt.text()).contains("User message: please help please help");
+        String userMessage = prompt.text().split("User message: ")[1].split("\n")[0];
+        assertThat(ApproximateTokenizer.count(userMessage)).isLessThanOrEqualTo(20);
+        assertThat(userMessage).endsWith("please").doesNotEndWith(" ");
+        assertThat(meterRegistry.counter("first_aid.prompt.truncated", "emergency_type", "Burns")
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한글은 글자마다, 영문 단어는 4글자마다 1토큰으로 어림")
+    void tokenizer_CountsCjkAndWords() {
+        assertThat(ApproximateTokenizer.count("help")).isEqualTo(1);
+        assertThat(ApproximateTokenizer.count("emergency")).isEqualTo(3);
+        assertThat(ApproximateTokenizer.count("심정지 환자")).isEqualTo(5);
+        assertThat(ApproximateTokenizer.count("CPR, now!")).isEqualTo(4);
+        assertThat(ApproximateTokenizer.prefixLength("심정지 환자", 3)).isEqualTo(3);
+        assertThat(ApproximateTokenizer.prefixLength("extraordinarily", 2)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 자리표시자나 사용자 메시지가 없는 템플릿은 시작할 때 실패")
+    void compile_RejectsInvalidTemplate() {
+        assertThatThrownBy(() -> PromptTemplate.compile("bad", "{{userMessage}} {{location}}"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("{{location}}");
+        assertThatThrownBy(() -> PromptTemplate.compile("bad", "Type: {{emergencyType}}"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
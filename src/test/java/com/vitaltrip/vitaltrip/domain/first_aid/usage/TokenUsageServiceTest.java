@@ -0,0 +1,244 @@
+package com.vitaltrip.vitaltrip.domain.first_aid.usage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.vitaltrip.vitaltrip.common.exception.CustomException;
+import com.vitaltrip.vitaltrip.common.exception.ErrorType;
+import com.vitaltrip.vitaltrip.domain.ai.dto.GeminiUsage;
+import com.vitaltrip.vitaltrip.domain.first_aid.dto.TokenUsageDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.first-aid.token-quota.daily-per-user=1000")
+@DisplayName("토큰 사용량 집계/한도 테스트")
+class TokenUsageServiceTest {
+
+    @Autowired
+    private TokenUsageService tokenUsageService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("사용량은 분류별 메트릭에 바로, 테이블에는 체크포인트 후 반영")
+    void record_AddsMetricsAndCheckpointsToTable() {
+        // given
+        double totalBefore = tokens("Cardiac arrest", "total");
+
+        // when
+        tokenUsageService.record(1L, "Cardiac Arrest", new GeminiUsage(100, 50, 150), 1_000_000);
+        tokenUsageService.record(1L, "cardiac arrest", new GeminiUsage(10, 5, 15), 1_000_000);
+        tokenUsageService.record(null, "Burns", new GeminiUsage(20, 10, 30), 1_000_000);
+
+        // then
+        assertThat(tokens("Cardiac arrest", "total") - totalBefore).isEqualTo(165);
+        assertThat(tokenUsageService.getTodayUsage(1L)).isEqualTo(165);
+        assertThat(rowCount()).isZero();
+
+        tokenUsageService.checkpoint();
+
+        assertThat(rowCount()).isEqualTo(2);
+        assertThat(tokenUsageService.getTodayUsage(1L)).isEqualTo(165);
+        TokenUsageDto.DailyUsageResponse usage = tokenUsageService.getDailyUsage(LocalDate.now(), 10);
+        assertThat(usage.emergencyTypes())
+            .extracting(TokenUsageDto.EmergencyTypeUsage::emergencyType,
+                TokenUsageDto.EmergencyTypeUsage::totalTokens,
+                TokenUsageDto.EmergencyTypeUsage::requestCount)
+            .containsExactly(
+                tuple("Cardiac arrest", 165L, 2L),
+                tuple("Burns", 30L, 1L));
+        assertThat(usage.topUsers())
+            .extracting(TokenUsageDto.UserUsage::userId)
+            .containsExactly(1L, TokenUsageKey.ANONYMOUS_USER_ID);
+    }
+
+    @Test
+    @DisplayName("체크포인트가 반복되어도 사용량을 두 번 더하지 않음")
+    void checkpoint_AddsUsageOnce() {
+        // given
+        tokenUsageService.record(1L, "Burns", new GeminiUsage(20, 10, 30), 1_000_000);
+        tokenUsageService.checkpoint();
+
+        // when
+        tokenUsageService.record(1L, "Burns", new GeminiUsage(20, 10, 30), 1_000_000);
+        tokenUsageService.checkpoint();
+        tokenUsageService.checkpoint();
+
+        // then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT total_tokens, request_count FROM user_token_usage WHERE user_id = 1");
+        assertThat(((Number) row.get("TOTAL_TOKENS")).longValue()).isEqualTo(60);
+        assertThat(((Number) row.get("REQUEST_COUNT")).longValue()).isEqualTo(2);
+        assertThat(tokenUsageService.getTodayUsage(1L)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("기록과 체크포인트가 겹쳐도 한도 확인 값은 이미 기록한 사용량보다 작아지지 않음")
+    void getTodayUsage_NeverUndercountsDuringCheckpoint() throws Exception {
+        // given
+        int requests = 2_000;
+        AtomicLong recorded = new AtomicLong();
+        AtomicBoolean undercounted = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < requests; i++) {
+                    tokenUsageService.record(1L, i % 2 == 0 ? "Burns" : "Bleeding",
+                        new GeminiUsage(1, 1, 2), 1_000);
+                    recorded.addAndGet(2);
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    long floor = recorded.get();
+                    if (tokenUsageService.getTodayUsage(1L) < floor) {
+                        undercounted.set(true);
+                    }
+                }
+            });
+            while (!writer.isDone()) {
+                tokenUsageService.checkpoint();
+            }
+            writer.get();
+            reader.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        tokenUsageService.checkpoint();
+
+        // then
+        assertThat(undercounted).isFalse();
+        assertThat(tokenUsageService.getTodayUsage(1L)).isEqualTo(requests * 2L);
+        Long stored = jdbcTemplate.queryForObject(
+            "SELECT SUM(total_tokens) FROM user_token_usage WHERE user_id = 1", Long.class);
+        assertThat(stored).isEqualTo(requests * 2L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영한 사용량은 처음 조회할 때 읽고, 이후 체크포인트 뒤 다시 읽음")
+    void getTodayUsage_LoadsOtherNodesUsageOnDemand() {
+        // given
+        insertUsage(2L, "Burns", 300);
+
+        // when
+        long first = tokenUsageService.getTodayUsage(2L);
+        insertUsage(2L, "Bleeding", 200);
+        long cached = tokenUsageService.getTodayUsage(2L);
+        tokenUsageService.checkpoint();
+        long reloaded = tokenUsageService.getTodayUsage(2L);
+
+        // then
+        assertThat(first).isEqualTo(300);
+        assertThat(cached).isEqualTo(300);
+        assertThat(reloaded).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("오늘 한도를 다 쓴 사용자는 429 로 거절")
+    void checkQuota_RejectsUserOverQuota() {
+        // given
+        tokenUsageService.record(1L, "Burns", new GeminiUsage(600, 400, 1000), 1_000_000);
+
+        // when & then
+        assertThatThrownBy(() -> tokenUsageService.checkQuota(1L))
+            .isInstanceOf(CustomException.class)
+            .extracting(e -> ((CustomException) e).getErrorType())
+            .isEqualTo(ErrorType.TOKEN_QUOTA_EXCEEDED);
+
+        tokenUsageService.checkpoint();
+        assertThatThrownBy(() -> tokenUsageService.checkQuota(1L))
+            .isInstanceOf(CustomException.class);
+        assertThatCode(() -> tokenUsageService.checkQuota(2L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 요청은 한도를 적용하지 않음")
+    void checkQuota_IgnoresAnonymous() {
+        // given
+        tokenUsageService.record(null, "Burns", new GeminiUsage(6000, 4000, 10000), 1_000_000);
+        tokenUsageService.checkpoint();
+
+        // when & then
+        assertThatCode(() -> tokenUsageService.checkQuota(null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 집계는 삭제")
+    void purge_DeletesOldRows() {
+        // given
+        jdbcTemplate.update("""
+            INSERT INTO user_token_usage (usage_date, user_id, emergency_type, prompt_tokens,
+                candidates_tokens, total_tokens, request_count, updated_at)
+            VALUES (?, 1, 'Burns', 1, 1, 2, 1, CURRENT_TIMESTAMP)
+            """, LocalDate.now().minusDays(365));
+        tokenUsageService.record(1L, "Burns", new GeminiUsage(1, 1, 2), 1_000_000);
+        tokenUsageService.checkpoint();
+
+        // when
+        int deleted = tokenUsageService.purge();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(rowCount()).isEqualTo(1);
+    }
+
+    private void clear() {
+        tokenUsageService.checkpoint();
+        jdbcTemplate.update("DELETE FROM user_token_usage");
+        tokenUsageService.checkpoint();
+    }
+
+    private void insertUsage(long userId, String emergencyType, long totalTokens) {
+        jdbcTemplate.update("""
+            INSERT INTO user_token_usage (usage_date, user_id, emergency_type, prompt_tokens,
+                candidates_tokens, total_tokens, request_count, updated_at)
+            VALUES (?, ?, ?, 0, 0, ?, 1, CURRENT_TIMESTAMP)
+            """, LocalDate.now(), userId, emergencyType, totalTokens);
+    }
+
+    private long rowCount() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_token_usage",
+            Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private double tokens(String emergencyType, String type) {
+        return meterRegistry.counter("first_aid.tokens", "emergency_type", emergencyType,
+            "type", type).count();
+    }
+}
@@ -0,0 +1,243 @@
+package com.vitaltrip.vitaltrip.domain.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.common.scheduling.ClusterJobRunner;
+import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
+import com.vitaltrip.vitaltrip.domain.auth.service.AuthService;
+import com.vitaltrip.vitaltrip.domain.statistics.UserStatKey;
+import com.vitaltrip.vitaltrip.domain.statistics.event.UserCountChangedEvent;
+import com.vitaltrip.vitaltrip.domain.statistics.repository.UserCountryStatRepository;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카운터는 커밋 이후에 반영되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("국가별 사용자 통계 테스트")
+class UserStatisticsServiceTest {
+
+    @Autowired
+    private UserStatisticsService userStatisticsService;
+
+    @Autowired
+    private UserCountryStatRepository statRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userStatisticsService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        userStatisticsService.reconcile();
+    }
+
+    @Test
+    @DisplayName("가입, 국가 변경, 탈퇴가 체크포인트 전에도 조회 값에 반영")
+    void counts_FollowUserLifecycle() {
+        // given
+        signUp("kr@example.com", "KR");
+        signUp("kr2@example.com", "KR");
+        Long userId = userRepository.findByEmail("kr@example.com").orElseThrow().getId();
+
+        // when
+        authService.updateProfile(userId, new AuthDto.ProfileUpdateRequest(
+            "홍길동", LocalDate.of(1990, 1, 1), "US", "+821012345678"));
+        Long remainingId = userRepository.findByEmail("kr2@example.com").orElseThrow().getId();
+        authService.deleteAccount(remainingId);
+
+        // then
+        assertThat(userStatisticsService.getCount("KR", User.AuthProvider.LOCAL)).isZero();
+        assertThat(userStatisticsService.getCount("US", User.AuthProvider.LOCAL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("체크포인트는 증감분을 집계 테이블에 더함")
+    void checkpoint_AddsDeltasToTable() {
+        // given
+        signUp("kr@example.com", "KR");
+        signUp("jp@example.com", "JP");
+
+        // when
+        userStatisticsService.checkpoint();
+        signUp("kr2@example.com", "KR");
+        userStatisticsService.checkpoint();
+
+        // then
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), 2L,
+            new UserStatKey("JP", User.AuthProvider.LOCAL), 1L));
+        assertThat(userStatisticsService.getCount("KR", User.AuthProvider.LOCAL)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정합성 작업은 어긋난 집계를 실제 값으로 보정")
+    void reconcile_CorrectsDrift() {
+        // given
+        signUp("kr@example.com", "KR");
+        userStatisticsService.checkpoint();
+        jdbcTemplate.update("UPDATE user_country_stats SET user_count = 10");
+        jdbcTemplate.update("""
+            INSERT INTO user_country_stats (country_code, provider, user_count, updated_at)
+            VALUES ('FR', 'GOOGLE', 3, CURRENT_TIMESTAMP)
+            """);
+
+        // when
+        long drift = userStatisticsService.reconcile();
+
+        // then
+        assertThat(drift).isEqualTo(12);
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), 1L));
+        assertThat(userStatisticsService.getCount("FR", User.AuthProvider.GOOGLE)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 정합성 작업을 하면 그 전에 쌓인 증감분은 다시 더하지 않음")
+    void checkpoint_AfterReconcileOnOtherNode_DiscardsStaleDeltas() {
+        // given - 이 노드(스프링 빈)에 반영하지 않은 가입 2건이 있다
+        UserStatisticsService otherNode = new UserStatisticsService(statRepository,
+            transactionTemplate, clusterJobRunner, new SimpleMeterRegistry());
+        otherNode.load();
+        signUp("kr@example.com", "KR");
+        signUp("kr2@example.com", "KR");
+
+        // when
+        otherNode.reconcile();
+        userStatisticsService.checkpoint();
+
+        // then
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), 2L));
+        assertThat(userStatisticsService.getCount("KR", User.AuthProvider.LOCAL)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정합성 작업 이후 커밋된 증감분은 더함")
+    void checkpoint_AfterReconcile_AddsNewDeltas() {
+        // given
+        UserStatisticsService otherNode = new UserStatisticsService(statRepository,
+            transactionTemplate, clusterJobRunner, new SimpleMeterRegistry());
+        otherNode.load();
+        signUp("kr@example.com", "KR");
+        otherNode.reconcile();
+        userStatisticsService.checkpoint();
+
+        // when
+        signUp("kr2@example.com", "KR");
+        userStatisticsService.checkpoint();
+
+        // then
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), 2L));
+    }
+
+    @Test
+    @DisplayName("정합성 작업 이후 체크포인트 전에 커밋된 증감분은 버리지 않음")
+    void checkpoint_KeepsDeltasCommittedAfterReconcile() {
+        // given
+        UserStatisticsService otherNode = new UserStatisticsService(statRepository,
+            transactionTemplate, clusterJobRunner, new SimpleMeterRegistry());
+        otherNode.load();
+        signUp("kr@example.com", "KR");
+        otherNode.reconcile();
+        signUp("kr2@example.com", "KR");
+
+        // when
+        userStatisticsService.checkpoint();
+
+        // then
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), 2L));
+        assertThat(userStatisticsService.getCount("KR", User.AuthProvider.LOCAL)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("체크포인트와 동시에 들어온 증감분도 잃지 않음")
+    void checkpoint_ConcurrentWithEvents_LosesNothing() throws Exception {
+        // given
+        int writers = 8;
+        int eventsPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < writers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < eventsPerWriter; j++) {
+                    userStatisticsService.onUserCountChanged(
+                        UserCountChangedEvent.joined("KR", User.AuthProvider.LOCAL));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            userStatisticsService.checkpoint();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        userStatisticsService.checkpoint();
+
+        // then
+        long expected = (long) writers * eventsPerWriter;
+        assertThat(statRepository.findAll()).isEqualTo(Map.of(
+            new UserStatKey("KR", User.AuthProvider.LOCAL), expected));
+        assertThat(userStatisticsService.getCount("KR", User.AuthProvider.LOCAL))
+            .isEqualTo(expected);
+    }
+
+    private void signUp(String email, String countryCode) {
+        authService.signUp(new AuthDto.SignUpRequest(
+            email,
+            "홍길동",
+            "Password123!",
+            "Password123!",
+            LocalDate.of(1990, 1, 1),
+            countryCode,
+            "+821012345678"
+        ));
+    }
+}
@@ -0,0 +1,91 @@
+package com.vitaltrip.vitaltrip.domain.user.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.user.purge.batch-size=2",
+    "app.user.purge.pause-between-batches=PT0S",
+    "app.user.purge.max-batches-per-run=2"
+})
+@DisplayName("탈퇴 사용자 배치 삭제 테스트")
+class UserPurgeJobTest {
+
+    @Autowired
+    private UserPurgeJob userPurgeJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 탈퇴 사용자만 삭제")
+    void purge_OnlyExpiredDeletedUsers() {
+        // given
+        Long expired = saveUser("expired@example.com", now.minusHours(2)).getId();
+        Long recent = saveUser("recent@example.com", now).getId();
+        Long active = saveUser("active@example.com", null).getId();
+
+        // when
+        long purged = userPurgeJob.purge(now.minusHours(1));
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(userRepository.existsById(expired)).isFalse();
+        assertThat(userRepository.existsById(recent)).isTrue();
+        assertThat(userRepository.existsById(active)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 번의 실행은 배치 수 상한까지만 삭제")
+    void purge_CappedByMaxBatchesPerRun() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveUser("expired" + i + "@example.com", now.minusHours(2));
+        }
+
+        // when - batch-size 2, max-batches-per-run 2
+        long firstRun = userPurgeJob.purge(now.minusHours(1));
+        long secondRun = userPurgeJob.purge(now.minusHours(1));
+
+        // then
+        assertThat(firstRun).isEqualTo(4);
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(userRepository.count()).isZero();
+    }
+
+    private User saveUser(String email, LocalDateTime deletedAt) {
+        User user = User.builder()
+            .email(email)
+            .name("홍길동")
+            .provider(User.AuthProvider.LOCAL)
+            .role(User.Role.USER)
+            .build();
+        user.markDeleted(deletedAt);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,82 @@
+package com.vitaltrip.vitaltrip.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.auth.dto.AuthDto;
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.projection.UserProfileView;
+import com.vitaltrip.vitaltrip.support.benchmark.Benchmarks;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 인증 필터/내 정보 조회 경로에서 엔티티 조회와 프로젝션 조회의 요청당 비용을 비교한다.
+ * 각 호출은 필터와 마찬가지로 리포지토리 기본 트랜잭션에서 독립적으로 실행된다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사용자 조회 경로 벤치마크")
+class UserReadPathBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+            .email("bench@example.com")
+            .name("홍길동")
+            .passwordHash("encodedPassword")
+            .birthDate(LocalDate.of(1990, 1, 1))
+            .countryCode("KR")
+            .phoneNumber("+821012345678")
+            .provider(User.AuthProvider.LOCAL)
+            .role(User.Role.USER)
+            .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 vs 프로젝션 조회")
+    void entityVersusProjection() {
+        Benchmarks.Result entity = Benchmarks.run("findById (entity)", WARMUP, ITERATIONS,
+            () -> userRepository.findById(userId).map(this::toUserInfo).orElseThrow());
+
+        Benchmarks.Result projection = Benchmarks.run("findProfileById (projection)", WARMUP,
+            ITERATIONS,
+            () -> userRepository.findProfileByIdAndDeletedAtIsNull(userId)
+                .map(this::toUserInfo)
+                .orElseThrow());
+
+        assertThat(entity.iterations()).isEqualTo(projection.iterations());
+    }
+
+    private AuthDto.UserInfo toUserInfo(User user) {
+        return new AuthDto.UserInfo(user.getId(), user.getEmail(), user.getName(),
+            user.getBirthDate(), user.getCountryCode(), user.getPhoneNumber(),
+            user.getProfileImageUrl());
+    }
+
+    private AuthDto.UserInfo toUserInfo(UserProfileView user) {
+        return new AuthDto.UserInfo(user.getId(), user.getEmail(), user.getName(),
+            user.getBirthDate(), user.getCountryCode(), user.getPhoneNumber(),
+            user.getProfileImageUrl());
+    }
+}
@@ -0,0 +1,168 @@
+package com.vitaltrip.vitaltrip.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.support.sql.SqlStatementBudgetConfig;
+import com.vitaltrip.vitaltrip.support.sql.SqlStatementRecorder;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * UserRepository 의 모든 쿼리 메서드가 생성하는 SQL을 H2 EXPLAIN 으로 확인해 인덱스를 타는지 검증한다.
+ * 새 쿼리 메서드를 추가하면 {@link #queryCases()} 에도 추가해야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementBudgetConfig.class)
+@Transactional
+@DisplayName("UserRepository 실행 계획 테스트")
+class UserRepositoryQueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        savedUser = userRepository.saveAndFlush(User.builder()
+            .email("plan@example.com")
+            .name("홍길동")
+            .provider(User.AuthProvider.GOOGLE)
+            .providerId("google-sub-1")
+            .role(User.Role.USER)
+            .build());
+
+        for (int i = 0; i < 20; i++) {
+            userRepository.save(User.builder()
+                .email("user" + i + "@example.com")
+                .name("user" + i)
+                .provider(User.AuthProvider.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        }
+        userRepository.flush();
+    }
+
+    private Map<String, QueryCase> queryCases() {
+        String normalizedEmail = User.normalizeEmail("Plan@Example.com");
+        LocalDateTime now = LocalDateTime.now();
+
+        return Map.of(
+            "findByNormalizedEmail", new QueryCase(
+                repository -> repository.findByNormalizedEmail(normalizedEmail),
+                normalizedEmail),
+            "findEmailStatusByNormalizedEmail", new QueryCase(
+                repository -> repository.findEmailStatusByNormalizedEmail(normalizedEmail),
+                normalizedEmail),
+            "findByProviderAndProviderId", new QueryCase(
+                repository -> repository.findByProviderAndProviderId(
+                    User.AuthProvider.GOOGLE, "google-sub-1"),
+                User.AuthProvider.GOOGLE.name(), "google-sub-1"),
+            "findProfileByIdAndDeletedAtIsNull", new QueryCase(
+                repository -> repository.findProfileByIdAndDeletedAtIsNull(savedUser.getId()),
+                savedUser.getId()),
+            "findPurgeCandidateIds", new QueryCase(
+                repository -> repository.findPurgeCandidateIds(now, PageRequest.of(0, 100)),
+                now),
+            "countByDeletedAtBefore", new QueryCase(
+                repository -> repository.countByDeletedAtBefore(now),
+                now),
+            "findById", new QueryCase(
+                repository -> repository.findById(savedUser.getId()),
+                savedUser.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("선언된 모든 쿼리 메서드에 실행 계획 검증이 존재")
+    void everyQueryMethodIsCovered() {
+        Set<String> declared = Arrays.stream(UserRepository.class.getDeclaredMethods())
+            .filter(method -> !method.isDefault())
+            .map(Method::getName)
+            .collect(Collectors.toSet());
+
+        assertThat(queryCases().keySet()).containsAll(declared);
+    }
+
+    @Test
+    @DisplayName("모든 쿼리 메서드가 인덱스를 사용")
+    void everyQueryMethodUsesIndex() {
+        queryCases().forEach((name, queryCase) -> {
+            List<String> plans = explain(queryCase);
+
+            assertThat(plans)
+                .as("%s 실행 계획", name)
+                .isNotEmpty()
+                .allSatisfy(plan -> assertThat(plan)
+                    .as("%s 실행 계획: %s", name, plan)
+                    .doesNotContain(TABLE_SCAN));
+        });
+    }
+
+    private List<String> explain(QueryCase queryCase) {
+        // 1차 캐시를 비워 실제 SQL이 실행되도록 한다
+        entityManager.flush();
+        entityManager.clear();
+        sqlStatementRecorder.reset();
+
+        queryCase.invocation().accept(userRepository);
+
+        List<String> plans = new ArrayList<>();
+        for (String sql : sqlStatementRecorder.getStatements()) {
+            if (!sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                continue;
+            }
+            plans.add(jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class,
+                bindArguments(sql, queryCase.arguments())));
+        }
+        return plans;
+    }
+
+    // 추가 플레이스홀더(fetch first ? rows only 등)는 1로 채운다
+    private Object[] bindArguments(String sql, Object[] arguments) {
+        int placeholders = (int) sql.chars().filter(ch -> ch == '?').count();
+        Object[] bound = new Object[placeholders];
+        for (int i = 0; i < placeholders; i++) {
+            bound[i] = i < arguments.length ? arguments[i] : 1;
+        }
+        return bound;
+    }
+
+    private record QueryCase(Consumer<UserRepository> invocation, Object... arguments) {
+
+    }
+}
@@ -0,0 +1,70 @@
+package com.vitaltrip.vitaltrip.support.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * 단일 스레드 마이크로 벤치마크 도우미. 호출당 지연 시간과 할당 바이트를 측정한다.
+ * JMH 수준의 정밀도는 아니므로 같은 조건에서 실행한 결과끼리만 비교한다.
+ */
+public final class Benchmarks {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Benchmarks() {
+    }
+
+    public static Result run(String name, int warmupIterations, int iterations,
+        Runnable operation) {
+
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long[] latencies = new long[iterations];
+
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocatedAfter = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+        Arrays.sort(latencies);
+        Result result = new Result(
+            name,
+            iterations,
+            Arrays.stream(latencies).average().orElse(0) / 1_000,
+            percentile(latencies, 0.50) / 1_000.0,
+            percentile(latencies, 0.99) / 1_000.0,
+            (allocatedAfter - allocatedBefore) / iterations
+        );
+
+        System.out.println(result);
+        return result;
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    public record Result(
+        String name,
+        int iterations,
+        double meanMicros,
+        double p50Micros,
+        double p99Micros,
+        long bytesPerOp
+    ) {
+
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %-40s n=%d mean=%.1fus p50=%.1fus p99=%.1fus alloc=%dB/op",
+                name, iterations, meanMicros, p50Micros, p99Micros, bytesPerOp);
+        }
+    }
+}
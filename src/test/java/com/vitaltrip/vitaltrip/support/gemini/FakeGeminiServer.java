@@ -0,0 +1,307 @@
+package com.vitaltrip.vitaltrip.support.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * generateContent / streamGenerateContent 와 cachedContents 를 흉내 내는 로컬 Gemini 서버.
+ * 기본 응답은 finishReason STOP 인 고정 텍스트이며, 테스트마다 지연/상태 코드/스트림 조각을 바꿀 수 있다.
+ * 모르는 cachedContent 를 가리키는 요청은 실제 API 처럼 403 으로 실패한다.
+ * requestCount / requestBodies / requestKeys 에는 생성 요청만 세고, cachedContents 요청은 cachedContentRequests 에 따로 남긴다.
+ */
+public class FakeGeminiServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private final List<String> requestKeys = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> rateLimitedKeys = new ConcurrentHashMap<>();
+    private final Set<String> cachedContents = ConcurrentHashMap.newKeySet();
+    private final List<String> cachedContentRequests = new CopyOnWriteArrayList<>();
+
+    private volatile String text;
+    private volatile String finishReason;
+    private volatile List<String> streamChunks;
+    private volatile Duration streamInterval;
+    private volatile Supplier<Duration> delay;
+    private volatile int status;
+    private volatile int cachedContentStatus;
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private volatile CountDownLatch streamAborted;
+
+    private FakeGeminiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        reset();
+    }
+
+    public static FakeGeminiServer start() {
+        try {
+            FakeGeminiServer fakeGeminiServer = new FakeGeminiServer();
+            fakeGeminiServer.server.start();
+            return fakeGeminiServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1beta/models";
+    }
+
+    public void reset() {
+        text = "Call emergency services immediately.";
+        finishReason = "STOP";
+        streamChunks = List.of("Call emergency ", "services ", "immediately.");
+        streamInterval = Duration.ZERO;
+        delay = () -> Duration.ZERO;
+        status = 200;
+        remainingFailures.set(Integer.MAX_VALUE);
+        streamAborted = new CountDownLatch(1);
+        requestCount.set(0);
+        requestBodies.clear();
+        requestKeys.clear();
+        rateLimitedKeys.clear();
+        cachedContentStatus = 200;
+        cachedContentRequests.clear();
+    }
+
+    public void respondWith(String text, String finishReason) {
+        this.text = text;
+        this.finishReason = finishReason;
+    }
+
+    public void streamChunks(List<String> chunks, Duration interval) {
+        this.streamChunks = List.copyOf(chunks);
+        this.streamInterval = interval;
+    }
+
+    public void delay(Duration delay) {
+        this.delay = () -> delay;
+    }
+
+    // 요청마다 supplier 가 돌려주는 만큼 지연한다 (지연 분포 흉내)
+    public void delays(Supplier<Duration> delays) {
+        this.delay = delays;
+    }
+
+    public void failWith(int status) {
+        failWith(status, Integer.MAX_VALUE);
+    }
+
+    // 처음 times 번의 요청만 status 로 실패하고 이후에는 정상 응답한다
+    public void failWith(int status, int times) {
+        this.status = status;
+        remainingFailures.set(times);
+    }
+
+    // cachedContents 생성/갱신 요청이 status 로 실패한다
+    public void failCachedContents(int status) {
+        this.cachedContentStatus = status;
+    }
+
+    // 만들어 둔 캐시가 모두 만료된 것처럼 지운다
+    public void expireCachedContents() {
+        cachedContents.clear();
+    }
+
+    // key 로 온 생성 요청은 Retry-After 초와 함께 429 로 실패한다 (retryAfterSeconds 가 0 이면 헤더 없음)
+    public void rateLimitKey(String key, int retryAfterSeconds) {
+        rateLimitedKeys.put(key, retryAfterSeconds);
+    }
+
+    // 생성 요청의 key 쿼리 파라미터 (요청 순서)
+    public List<String> requestKeys() {
+        return List.copyOf(requestKeys);
+    }
+
+    // "METHOD 경로?쿼리 본문" 형식
+    public List<String> cachedContentRequests() {
+        return List.copyOf(cachedContentRequests);
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public List<String> requestBodies() {
+        return List.copyOf(requestBodies);
+    }
+
+    // 스트리밍 도중 클라이언트가 연결을 끊었는지
+    public boolean awaitStreamAborted(Duration timeout) throws InterruptedException {
+        return streamAborted.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(),
+            StandardCharsets.UTF_8);
+        if (exchange.getRequestURI().getPath().contains("/cachedContents")) {
+            handleCachedContents(exchange, requestBody);
+            return;
+        }
+
+        requestCount.incrementAndGet();
+        requestBodies.add(requestBody);
+        String key = queryParam(exchange, "key");
+        requestKeys.add(String.valueOf(key));
+        sleep(delay.get());
+
+        Integer retryAfterSeconds = key == null ? null : rateLimitedKeys.get(key);
+        if (retryAfterSeconds != null) {
+            if (retryAfterSeconds > 0) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfterSeconds.toString());
+            }
+            respond(exchange, 429, "{\"error\":{\"code\":429,\"status\":\"RESOURCE_EXHAUSTED\"}}");
+            return;
+        }
+
+        int failureStatus = status;
+        if (failureStatus != 200 && remainingFailures.getAndDecrement() > 0) {
+            respond(exchange, failureStatus, "{\"error\":{\"code\":" + failureStatus + "}}");
+            return;
+        }
+
+        String cachedContent = OBJECT_MAPPER.readTree(requestBody).path("cachedContent")
+            .asText(null);
+        if (cachedContent != null && !cachedContents.contains(cachedContent)) {
+            respond(exchange, 403, "{\"error\":{\"code\":403,"
+                + "\"message\":\"CachedContent not found (or permission denied)\"}}");
+            return;
+        }
+
+        if (exchange.getRequestURI().getPath().endsWith(":streamGenerateContent")) {
+            stream(exchange);
+        } else {
+            respond(exchange, 200, responseJson(text, finishReason));
+        }
+    }
+
+    private void handleCachedContents(HttpExchange exchange, String requestBody)
+        throws IOException {
+        cachedContentRequests.add(exchange.getRequestMethod() + " "
+            + exchange.getRequestURI().getPath() + "?" + exchange.getRequestURI().getQuery()
+            + " " + requestBody);
+
+        int failureStatus = cachedContentStatus;
+        if (failureStatus != 200) {
+            respond(exchange, failureStatus, "{\"error\":{\"code\":" + failureStatus + "}}");
+            return;
+        }
+
+        String name;
+        if (exchange.getRequestMethod().equals("POST")) {
+            name = "cachedContents/" + UUID.randomUUID();
+            cachedContents.add(name);
+        } else {
+            name = exchange.getRequestURI().getPath()
+                .replaceFirst("^.*/(cachedContents/.+)$", "$1");
+            if (!cachedContents.contains(name)) {
+                respond(exchange, 404, "{\"error\":{\"code\":404}}");
+                return;
+            }
+        }
+        respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(Map.of(
+            "name", name,
+            "model", "models/gemini-2.0-flash",
+            "expireTime", "2099-01-01T00:00:00Z")));
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        List<String> chunks = streamChunks;
+        try (OutputStream body = exchange.getResponseBody()) {
+            for (int i = 0; i < chunks.size(); i++) {
+                String chunkFinishReason = i == chunks.size() - 1 ? finishReason : null;
+                String event = "data: " + responseJson(chunks.get(i), chunkFinishReason) + "\r\n\r\n";
+                body.write(event.getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                sleep(streamInterval);
+            }
+        } catch (IOException e) {
+            streamAborted.countDown();
+        }
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static String responseJson(String text, String finishReason) throws IOException {
+        Map<String, Object> candidate = finishReason == null
+            ? Map.of("content", Map.of("parts", List.of(Map.of("text", text)), "role", "model"),
+            "index", 0)
+            : Map.of("content", Map.of("parts", List.of(Map.of("text", text)), "role", "model"),
+                "index", 0, "finishReason", finishReason);
+
+        return OBJECT_MAPPER.writeValueAsString(Map.of(
+            "candidates", List.of(candidate),
+            "usageMetadata", Map.of(
+                "promptTokenCount", 10,
+                "candidatesTokenCount", Math.max(1, text.length() / 4),
+                "totalTokenCount", 10 + Math.max(1, text.length() / 4))
+        ));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json)
+        throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.vitaltrip.vitaltrip.support.sql;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.vitaltrip.vitaltrip.common.datasource.ProfilingDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@code @Import(SqlStatementBudgetConfig.class)} 로 등록하면 모든 MockMvc 요청이 실행한 SQL을 집계하고
+ * {@link SqlStatementBudgets} 에 선언된 상한을 넘으면 실행된 SQL 목록과 함께 테스트를 실패시킨다.
+ */
+@TestConfiguration
+public class SqlStatementBudgetConfig {
+
+    @Bean
+    public static SqlStatementRecorder sqlStatementRecorder() {
+        return new SqlStatementRecorder();
+    }
+
+    @Bean
+    public SqlStatementBudgets sqlStatementBudgets() {
+        return SqlStatementBudgets.defaults();
+    }
+
+    // Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로 여기서 감싸면 둘 다 집계된다
+    @Bean
+    public static BeanPostProcessor sqlStatementRecorderPostProcessor(
+        ObjectProvider<SqlStatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return new ProfilingDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MockMvcBuilderCustomizer sqlStatementBudgetCustomizer(SqlStatementRecorder recorder,
+        SqlStatementBudgets budgets) {
+        return builder -> builder
+            // 요청 직전에 집계를 초기화해 테스트 준비 단계의 SQL이 섞이지 않도록 한다
+            .defaultRequest(get("/").with(request -> {
+                recorder.reset();
+                return request;
+            }))
+            .alwaysDo(result -> budgets.verify(
+                result.getRequest().getMethod(),
+                result.getRequest().getRequestURI(),
+                recorder.getStatements()
+            ));
+    }
+}
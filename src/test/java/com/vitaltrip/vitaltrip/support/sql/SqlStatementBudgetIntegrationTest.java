@@ -0,0 +1,157 @@
+package com.vitaltrip.vitaltrip.support.sql;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.vitaltrip.vitaltrip.domain.user.User;
+import com.vitaltrip.vitaltrip.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 실제 MockMvc 요청에서 N+1 조회가 생기면 SQL 상한 검사가 테스트를 실패시키는지 확인한다.
+ * 테스트 트랜잭션 없이 실행해 요청이 실행한 SQL을 그대로 센다.
+ * 공유 빈인 기본 상한을 바꾸지 않도록 이 테스트의 상한은 테스트 안에서 만든 인스턴스로 검사한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({SqlStatementBudgetConfig.class, SqlStatementBudgetIntegrationTest.ProbeConfig.class})
+@WithMockUser
+@DisplayName("SQL 실행 횟수 상한 통합 테스트")
+class SqlStatementBudgetIntegrationTest {
+
+    private static final String N_PLUS_ONE_PATH = "/test/sql-budget/users/one-by-one";
+    private static final String BATCHED_PATH = "/test/sql-budget/users/batched";
+    private static final String JDBC_N_PLUS_ONE_PATH = "/test/sql-budget/users/jdbc-one-by-one";
+    private static final int USER_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+
+    private final SqlStatementBudgets budgets = new SqlStatementBudgets()
+        .budget(HttpMethod.GET, N_PLUS_ONE_PATH, 1)
+        .budget(HttpMethod.GET, BATCHED_PATH, 1)
+        .budget(HttpMethod.GET, JDBC_N_PLUS_ONE_PATH, 1);
+
+    private String ids;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        List<User> users = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+            .mapToObj(i -> User.builder()
+                .email("budget" + i + "@example.com")
+                .name("상한테스트" + i)
+                .provider(User.AuthProvider.GOOGLE)
+                .providerId("google-budget-" + i)
+                .role(User.Role.USER)
+                .build())
+            .toList());
+        ids = String.join(",", users.stream().map(user -> String.valueOf(user.getId())).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자를 한 명씩 조회하는 N+1 회귀는 상한을 넘겨 실패")
+    void nPlusOneQuery_ExceedsBudget() {
+        assertThatThrownBy(() -> performWithinBudget(N_PLUS_ONE_PATH))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("SQL budget exceeded for GET " + N_PLUS_ONE_PATH)
+            .hasMessageContaining(USER_COUNT + " were executed");
+    }
+
+    @Test
+    @DisplayName("JdbcTemplate 으로 한 명씩 조회해도 상한을 넘겨 실패")
+    void jdbcTemplateNPlusOneQuery_ExceedsBudget() {
+        assertThatThrownBy(() -> performWithinBudget(JDBC_N_PLUS_ONE_PATH))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("SQL budget exceeded for GET " + JDBC_N_PLUS_ONE_PATH)
+            .hasMessageContaining(USER_COUNT + " were executed");
+    }
+
+    @Test
+    @DisplayName("한 번에 조회하면 상한 이내로 통과")
+    void batchedQuery_WithinBudget() {
+        assertThatNoException().isThrownBy(() -> performWithinBudget(BATCHED_PATH));
+    }
+
+    private void performWithinBudget(String path) throws Exception {
+        mockMvc.perform(get(path).param("ids", ids));
+        budgets.verify(HttpMethod.GET.name(), path, sqlStatementRecorder.getStatements());
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        UserLookupProbe userLookupProbe(UserRepository userRepository,
+            JdbcTemplate jdbcTemplate) {
+            return new UserLookupProbe(userRepository, jdbcTemplate);
+        }
+    }
+
+    @RestController
+    static class UserLookupProbe {
+
+        private final UserRepository userRepository;
+        private final JdbcTemplate jdbcTemplate;
+
+        UserLookupProbe(UserRepository userRepository, JdbcTemplate jdbcTemplate) {
+            this.userRepository = userRepository;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping(N_PLUS_ONE_PATH)
+        List<String> oneByOne(@RequestParam List<Long> ids) {
+            return ids.stream()
+                .map(id -> userRepository.findById(id).orElseThrow().getName())
+                .toList();
+        }
+
+        @GetMapping(JDBC_N_PLUS_ONE_PATH)
+        List<String> jdbcOneByOne(@RequestParam List<Long> ids) {
+            return ids.stream()
+                .map(id -> jdbcTemplate.queryForObject(
+                    "SELECT name FROM users WHERE id = ?", String.class, id))
+                .toList();
+        }
+
+        @GetMapping(BATCHED_PATH)
+        List<String> batched(@RequestParam List<Long> ids) {
+            return userRepository.findAllById(ids).stream()
+                .map(User::getName)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.vitaltrip.vitaltrip.support.sql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.http.HttpMethod;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 상한. 등록되지 않은 엔드포인트는 검사하지 않는다.
+ */
+public class SqlStatementBudgets {
+
+    private final Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    public static SqlStatementBudgets defaults() {
+        return new SqlStatementBudgets()
+            // 기본 인증 API
+            .budget(HttpMethod.POST, "/api/auth/signup", 2)
+            .budget(HttpMethod.POST, "/api/auth/login", 1)
+            .budget(HttpMethod.POST, "/api/auth/refresh", 1)
+            .budget(HttpMethod.GET, "/api/auth/check-email", 1)
+
+            // 인증 필요 API (JwtAuthenticationFilter 조회 포함)
+            .budget(HttpMethod.GET, "/api/auth/me", 1)
+            // 수정 API는 필터의 프로젝션 조회, 엔티티 조회, 변경 감지 UPDATE 를 실행한다
+            .budget(HttpMethod.PUT, "/api/auth/profile", 3)
+            .budget(HttpMethod.PUT, "/api/auth/password", 3)
+            .budget(HttpMethod.POST, "/api/auth/logout", 1)
+            .budget(HttpMethod.DELETE, "/api/auth/me", 3)
+
+            // OAuth2 API
+            .budget(HttpMethod.POST, "/api/oauth2/complete-profile", 3)
+
+            // 로그인 요청은 필터의 프로젝션 조회와, 오늘 사용량이 메모리에 없으면 한도 확인용 합계 조회를 실행한다
+            .budget(HttpMethod.POST, "/api/first-aid/advice", 2);
+    }
+
+    public SqlStatementBudgets budget(HttpMethod method, String path, int maxStatements) {
+        budgets.put(key(method.name(), path), maxStatements);
+        return this;
+    }
+
+    public Optional<Integer> find(String method, String path) {
+        return Optional.ofNullable(budgets.get(key(method, path)));
+    }
+
+    public void verify(String method, String path, List<String> statements) {
+        find(method, path).ifPresent(budget -> {
+            if (statements.size() > budget) {
+                throw new AssertionError(violationMessage(method, path, budget, statements));
+            }
+        });
+    }
+
+    private String violationMessage(String method, String path, int budget,
+        List<String> statements) {
+
+        StringBuilder message = new StringBuilder()
+            .append("SQL budget exceeded for ").append(key(method, path))
+            .append(": expected at most ").append(budget)
+            .append(" statement(s) but ").append(statements.size()).append(" were executed");
+
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator())
+                .append("  [").append(i + 1).append("] ").append(statements.get(i));
+        }
+
+        return message.toString();
+    }
+
+    private String key(String method, String path) {
+        return method + " " + path;
+    }
+}
@@ -0,0 +1,62 @@
+package com.vitaltrip.vitaltrip.support.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+class SqlStatementBudgetsTest {
+
+    private SqlStatementBudgets budgets;
+
+    @BeforeEach
+    void setUp() {
+        budgets = new SqlStatementBudgets()
+            .budget(HttpMethod.GET, "/api/auth/me", 1);
+    }
+
+    @Test
+    @DisplayName("상한 이내면 통과")
+    void verify_WithinBudget() {
+        assertThatNoException().isThrownBy(() ->
+            budgets.verify("GET", "/api/auth/me", List.of("select u1_0.id from users u1_0")));
+    }
+
+    @Test
+    @DisplayName("상한 초과 시 실행된 SQL 목록과 함께 실패")
+    void verify_ExceedsBudget() {
+        List<String> statements = List.of(
+            "select u1_0.id from users u1_0 where u1_0.id=?",
+            "select u1_0.id from users u1_0 where u1_0.email=?"
+        );
+
+        assertThatThrownBy(() -> budgets.verify("GET", "/api/auth/me", statements))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("GET /api/auth/me")
+            .hasMessageContaining("expected at most 1")
+            .hasMessageContaining("[1] select u1_0.id from users u1_0 where u1_0.id=?")
+            .hasMessageContaining("[2] select u1_0.id from users u1_0 where u1_0.email=?");
+    }
+
+    @Test
+    @DisplayName("상한이 없는 엔드포인트는 검사하지 않음")
+    void verify_NoBudget() {
+        assertThat(budgets.find("POST", "/api/auth/login")).isEmpty();
+        assertThatNoException().isThrownBy(() ->
+            budgets.verify("POST", "/api/auth/login", List.of("a", "b", "c")));
+    }
+
+    @Test
+    @DisplayName("기본 상한에 인증 API가 등록되어 있음")
+    void defaults_ContainAuthEndpoints() {
+        SqlStatementBudgets defaults = SqlStatementBudgets.defaults();
+
+        assertThat(defaults.find("GET", "/api/auth/me")).contains(1);
+        assertThat(defaults.find("POST", "/api/auth/login")).contains(1);
+    }
+}
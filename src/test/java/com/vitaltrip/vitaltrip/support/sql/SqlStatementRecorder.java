@@ -0,0 +1,32 @@
+package com.vitaltrip.vitaltrip.support.sql;
+
+import com.vitaltrip.vitaltrip.common.datasource.SqlExecutionListener;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource 에서 실행된 모든 SQL을 현재 스레드 기준으로 기록한다.
+ * Hibernate 뿐 아니라 JdbcTemplate 이 실행한 SQL도 포함하며, 배치는 한 번의 실행으로 센다.
+ * MockMvc 요청은 테스트 스레드에서 그대로 실행되므로 요청 단위 집계가 가능하다.
+ */
+public class SqlStatementRecorder implements SqlExecutionListener {
+
+    private final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void recordConnectionAcquire(long nanos) {
+    }
+
+    @Override
+    public void recordExecution(String sql, long nanos, String parameterShape) {
+        statements.get().add(sql);
+    }
+
+    public void reset() {
+        statements.get().clear();
+    }
+
+    public List<String> getStatements() {
+        return List.copyOf(statements.get());
+    }
+}